@@ -0,0 +1,40 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared query shapes for the benchmarks.
+ */
+final class BenchmarkQueries {
+    private BenchmarkQueries() { }
+
+    static SelectBuilder select(SQLContext context, String tableName, int columnCount, int filterCount, int inListSize) {
+        SelectBuilder builder = new SelectBuilder(context).fromTable(tableName);
+        for (int i = 0; i < columnCount; i++)
+            builder.select("column_" + i);
+
+        for (int i = 0; i < filterCount; i++) {
+            if (i % 2 == 0)
+                builder.filter("int_column_" + i, EFilterCondition.GREATER_THAN_EQUAL, i * 10, false);
+            else
+                builder.filter("text_column_" + i, EFilterCondition.LIKE, "value " + i + "%", true);
+        }
+
+        if (inListSize > 0)
+            builder.filter("id", EFilterCondition.IN, BenchmarkQueries.inList(inListSize), false);
+
+        return builder.limit(100);
+    }
+
+    static List<Integer> inList(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            values.add(i * 7);
+        return values;
+    }
+}
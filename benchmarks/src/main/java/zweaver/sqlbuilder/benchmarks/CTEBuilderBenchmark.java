@@ -0,0 +1,64 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CTEBuilderBenchmark {
+    @Param({ "1", "10", "50" })
+    public int cteDepth;
+
+    @Param({ "0", "100" })
+    public int inListSize;
+
+    @Param({ "STANDARD", "POSTGRES" })
+    public EDialect dialect;
+
+    private CTEBuilder builder;
+
+    @Setup
+    public void setup() throws CTEBuilderException {
+        SQLContext context = new SQLContext(this.dialect);
+        this.builder = new CTEBuilder();
+        String previousTable = "sample_table";
+        for (int i = 0; i < this.cteDepth; i++) {
+            String name = "stage_" + i;
+            this.builder.addTable(name, BenchmarkQueries.select(context, previousTable, 10, 3, this.inListSize));
+            previousTable = name;
+        }
+        this.builder.setQuery(new SelectBuilder(context).selectAll().fromTable(previousTable));
+    }
+
+    @Benchmark
+    public String build() throws CTEBuilderException, SelectBuilderException {
+        return this.builder.build();
+    }
+
+    @Benchmark
+    public BoundStatement buildParameterized() throws CTEBuilderException, SelectBuilderException {
+        return this.builder.buildParameterized();
+    }
+}
@@ -0,0 +1,56 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CreateTableBuilder;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.CreateTableBuilderException;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateTableBuilderBenchmark {
+    @Param({ "10", "100", "1000" })
+    public int columnCount;
+
+    @Param({ "STANDARD", "POSTGRES" })
+    public EDialect dialect;
+
+    private CreateTableBuilder builder;
+
+    @Setup
+    public void setup() throws CreateTableBuilderException, TableColumnException {
+        SQLContext context = new SQLContext(this.dialect);
+        this.builder = new CreateTableBuilder(context, "sample_table", true).addPrimaryKey("id");
+        for (int i = 0; i < this.columnCount; i++) {
+            if (i % 2 == 0)
+                this.builder.addColumn(new TableColumn("int_column_" + i, new Integer(context), false, i));
+            else
+                this.builder.addColumn(new TableColumn("text_column_" + i, new Varchar(context, 255), true));
+        }
+    }
+
+    @Benchmark
+    public String build() throws CreateTableBuilderException {
+        return this.builder.build();
+    }
+}
@@ -0,0 +1,61 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel rendering of wide unions. Compare the "sequential" and "parallel" rows of
+ * the same width and IN list size to find the threshold for {@link SQLContext#setParallelRenderThreshold(int)}:
+ *
+ *   java -jar target/benchmarks.jar ParallelRender -p inListSize=100
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelRenderBenchmark {
+    @Param({ "4", "16", "64", "256", "1024" })
+    public int unionWidth;
+
+    @Param({ "0", "100", "1000" })
+    public int inListSize;
+
+    @Param({ "sequential", "parallel" })
+    public String mode;
+
+    private UnionBuilder builder;
+
+    @Setup
+    public void setup() throws UnionBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        if (this.mode.equals("parallel"))
+            context.setParallelRenderThreshold(1);
+
+        this.builder = new UnionBuilder(BenchmarkQueries.select(context, "partition_0", 10, 3, this.inListSize));
+        for (int i = 1; i < this.unionWidth; i++)
+            this.builder.unionAll(BenchmarkQueries.select(context, "partition_" + i, 10, 3, this.inListSize));
+    }
+
+    @Benchmark
+    public String build() throws SelectBuilderException {
+        return this.builder.build();
+    }
+}
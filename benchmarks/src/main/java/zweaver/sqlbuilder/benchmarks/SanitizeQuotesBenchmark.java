@@ -0,0 +1,94 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SanitizeQuotesBenchmark {
+    @Param({ "16", "1024", "65536" })
+    public int length;
+
+    /** Fraction of characters that are single quotes. */
+    @Param({ "0", "0.001", "0.05", "0.25" })
+    public double quoteDensity;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder value = new StringBuilder(this.length);
+        for (int i = 0; i < this.length; i++) {
+            if (random.nextDouble() < this.quoteDensity)
+                value.append('\'');
+            else
+                value.append((char) ('a' + random.nextInt(26)));
+        }
+        this.value = value.toString();
+    }
+
+    @Benchmark
+    public String sanitizeQuotes() {
+        return SelectUtil.sanitizeQuotes(this.value);
+    }
+
+    @Benchmark
+    public String appendSanitizedQuotes() {
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            SelectUtil.appendSanitizedQuotes(writer, this.value);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Baseline: the original char-by-char implementation.
+     */
+    @Benchmark
+    public String charByCharBaseline() {
+        String value = this.value;
+        StringBuilder buffer = new StringBuilder();
+
+        if (value.contains("'")) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) == '\'' && i < value.length() - 1) {
+                    if (value.charAt(i + 1) != '\'')
+                        buffer.append("''");
+                    else {
+                        buffer.append("''");
+                        i++;
+                    }
+                }
+                else if (value.charAt(i) == '\'' && i == value.length() - 1)
+                    buffer.append("''");
+                else
+                    buffer.append(value.charAt(i));
+            }
+
+            return buffer.toString();
+        }
+        else
+            return value;
+    }
+}
@@ -0,0 +1,84 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SelectTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering a select statement through each render path. Run with "-prof gc" to see allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectBuilderBenchmark {
+    @Param({ "1", "10", "100" })
+    public int columnCount;
+
+    @Param({ "0", "5", "20" })
+    public int filterCount;
+
+    @Param({ "0", "10", "1000" })
+    public int inListSize;
+
+    @Param({ "STANDARD", "POSTGRES", "MSSQL" })
+    public EDialect dialect;
+
+    private SQLContext context;
+    private SelectBuilder builder;
+    private SelectTemplate template;
+    private StringBuilder sink;
+
+    @Setup
+    public void setup() throws SelectBuilderException {
+        this.context = new SQLContext(this.dialect);
+        this.builder = BenchmarkQueries.select(this.context, "sample_table", this.columnCount, this.filterCount, this.inListSize);
+        this.template = this.builder.compile();
+        this.sink = new StringBuilder();
+    }
+
+    @Benchmark
+    public String constructAndBuild() throws SelectBuilderException {
+        return BenchmarkQueries.select(this.context, "sample_table", this.columnCount, this.filterCount, this.inListSize).build(true);
+    }
+
+    @Benchmark
+    public String build() throws SelectBuilderException {
+        return this.builder.build(true);
+    }
+
+    @Benchmark
+    public BoundStatement buildParameterized() throws SelectBuilderException {
+        return this.builder.buildParameterized(true);
+    }
+
+    @Benchmark
+    public String renderTemplate() {
+        return this.template.render();
+    }
+
+    @Benchmark
+    public StringBuilder renderToReusedSink() throws Exception {
+        this.sink.setLength(0);
+        this.builder.renderTo(this.sink, true);
+        return this.sink;
+    }
+}
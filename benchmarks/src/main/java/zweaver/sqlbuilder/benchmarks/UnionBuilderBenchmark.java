@@ -0,0 +1,58 @@
+package zweaver.sqlbuilder.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnionBuilderBenchmark {
+    @Param({ "2", "10", "100" })
+    public int unionWidth;
+
+    @Param({ "0", "100" })
+    public int inListSize;
+
+    @Param({ "STANDARD", "POSTGRES" })
+    public EDialect dialect;
+
+    private UnionBuilder builder;
+
+    @Setup
+    public void setup() throws UnionBuilderException {
+        SQLContext context = new SQLContext(this.dialect);
+        this.builder = new UnionBuilder(BenchmarkQueries.select(context, "partition_0", 10, 3, this.inListSize));
+        for (int i = 1; i < this.unionWidth; i++)
+            this.builder.unionAll(BenchmarkQueries.select(context, "partition_" + i, 10, 3, this.inListSize));
+    }
+
+    @Benchmark
+    public String build() throws SelectBuilderException {
+        return this.builder.build();
+    }
+
+    @Benchmark
+    public BoundStatement buildParameterized() throws SelectBuilderException {
+        return this.builder.buildParameterized();
+    }
+}
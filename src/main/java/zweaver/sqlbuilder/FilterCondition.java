@@ -1,35 +1,90 @@
 package zweaver.sqlbuilder;
 
+import zweaver.sqlbuilder.ast.PersistentList;
 import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EFilterGroupType;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.List;
+import java.util.Objects;
 
 public final class FilterCondition {
-    private final String condition;
-    private EFilterConjunction conjunction;
+    private final List<FilterPredicate> predicates;
+    private final EFilterGroupType groupType;
+    private final EFilterConjunction conjunction;
 
-    public FilterCondition(String condition, EFilterConjunction conjunction) {
-        this.condition = condition;
+    public FilterCondition(FilterPredicate predicate, EFilterConjunction conjunction) {
+        this.predicates = List.of(predicate);
+        this.groupType = null;
         this.conjunction = conjunction;
     }
 
+    public FilterCondition(List<FilterPredicate> predicates, EFilterGroupType groupType, EFilterConjunction conjunction) {
+        this.predicates = predicates instanceof PersistentList<FilterPredicate> ? predicates : List.copyOf(predicates);
+        this.groupType = groupType;
+        this.conjunction = conjunction;
+    }
+
+    public List<FilterPredicate> getPredicates() { return this.predicates; }
+
+    public boolean isGroup() { return this.groupType != null; }
+
+    public EFilterGroupType getGroupType() { return this.groupType; }
+
     public EFilterConjunction getConjunction() {
         return this.conjunction;
     }
 
-    public void setConjunction(EFilterConjunction conjunction) {
-        this.conjunction = conjunction;
+    public FilterCondition withConjunction(EFilterConjunction conjunction) {
+        if (conjunction == this.conjunction)
+            return this;
+        return this.isGroup()
+                ? new FilterCondition(this.predicates, this.groupType, conjunction)
+                : new FilterCondition(this.predicates.getFirst(), conjunction);
+    }
+
+    public void render(SQLWriter writer) {
+        if (this.isGroup())
+            SelectUtil.writeFilterGroup(writer, this.predicates, this.groupType);
+        else
+            this.predicates.getFirst().render(writer);
+
+        writer.append(this.conjunction.getToken());
+    }
+
+    /**
+     * Hash everything but the values, see {@link FingerprintHasher}.
+     */
+    public void hashShape(FingerprintHasher hasher) {
+        hasher.putEnum(this.groupType).putInt(this.predicates.size());
+        for (FilterPredicate predicate : this.predicates)
+            predicate.hashShape(hasher);
+        hasher.putEnum(this.conjunction);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof FilterCondition other))
+            return false;
+        return this.groupType == other.groupType
+                && this.conjunction == other.conjunction
+                && this.predicates.equals(other.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.predicates.hashCode();
+        hash = 31 * hash + Objects.hashCode(this.groupType);
+        return 31 * hash + Objects.hashCode(this.conjunction);
     }
 
     public String toString() {
-        StringBuilder conditionBuilder = new StringBuilder().append(this.condition);
-        if (this.conjunction != EFilterConjunction.NONE) {
-            conditionBuilder.append(' ');
-            switch (this.conjunction) {
-                case EFilterConjunction.AND -> conditionBuilder.append("AND");
-                case EFilterConjunction.OR -> conditionBuilder.append("OR");
-            }
-            conditionBuilder.append(' ');
-        }
-
-        return conditionBuilder.toString();
+        SQLWriter writer = new SQLWriter();
+        this.render(writer);
+        return writer.toString();
     }
 }
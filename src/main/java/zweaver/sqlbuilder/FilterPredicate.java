@@ -0,0 +1,85 @@
+package zweaver.sqlbuilder;
+
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single "column condition value" filter. Values are kept as-is and only rendered
+ * when the owning query is built so the same predicate can be rendered as a literal
+ * or used as a parameter slot of a compiled template. IN/NOT IN lists are copied, so
+ * changing the caller's list afterwards does not change queries that hold the predicate.
+ */
+public final class FilterPredicate {
+    private final String columnName;
+    private final EFilterCondition condition;
+    private final Object value;
+    private final boolean valueIsQuoted;
+
+    public FilterPredicate(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        this.columnName = columnName;
+        this.condition = condition;
+        this.value = FilterPredicate.copyValue(value);
+        this.valueIsQuoted = valueIsQuoted;
+    }
+
+    public String getColumnName() { return this.columnName; }
+
+    public EFilterCondition getCondition() { return this.condition; }
+
+    public Object getValue() { return this.value; }
+
+    public boolean isValueQuoted() { return this.valueIsQuoted; }
+
+    public void render(SQLWriter writer) {
+        SelectUtil.writeFilter(writer, this.columnName, this.condition, this.value, this.valueIsQuoted);
+    }
+
+    /**
+     * Hash everything but the value, see {@link FingerprintHasher}.
+     */
+    public void hashShape(FingerprintHasher hasher) {
+        hasher.putString(this.columnName).putEnum(this.condition);
+    }
+
+    private static Object copyValue(Object value) {
+        if (!(value instanceof Iterable<?> items))
+            return value;
+
+        List<Object> copy = new ArrayList<>();
+        for (Object item : items)
+            copy.add(item);
+        return Collections.unmodifiableList(copy);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof FilterPredicate other))
+            return false;
+        return this.valueIsQuoted == other.valueIsQuoted
+                && this.condition == other.condition
+                && Objects.equals(this.columnName, other.columnName)
+                && Objects.equals(this.value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hashCode(this.columnName);
+        hash = 31 * hash + Objects.hashCode(this.condition);
+        hash = 31 * hash + Objects.hashCode(this.value);
+        return 31 * hash + Boolean.hashCode(this.valueIsQuoted);
+    }
+
+    @Override
+    public String toString() {
+        return SelectUtil.buildFilterString(this.columnName, this.condition, this.value, this.valueIsQuoted);
+    }
+}
@@ -0,0 +1,78 @@
+package zweaver.sqlbuilder;
+
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GROUP BY of a select: plain columns, a ROLLUP or CUBE of columns, or explicit GROUPING SETS.
+ * How it is written depends on the dialect, see {@link zweaver.sqlbuilder.dialect.IDialectRenderer#appendGrouping}.
+ */
+public final class GroupBy {
+    private final EGroupingType groupingType;
+    private final List<List<String>> groupingSets;
+
+    /**
+     * Group by columns, or a ROLLUP or CUBE of them.
+     */
+    public GroupBy(EGroupingType groupingType, List<String> columnNames) {
+        this(List.of(List.copyOf(columnNames)), groupingType);
+    }
+
+    /**
+     * GROUPING SETS, one list of columns per set. An empty list is the grand total.
+     */
+    public GroupBy(List<List<String>> groupingSets) {
+        this(GroupBy.copySets(groupingSets), EGroupingType.GROUPING_SETS);
+    }
+
+    private GroupBy(List<List<String>> groupingSets, EGroupingType groupingType) {
+        this.groupingType = groupingType;
+        this.groupingSets = groupingSets;
+    }
+
+    public EGroupingType getGroupingType() { return this.groupingType; }
+
+    /**
+     * The grouped columns, or the columns of the first set for {@link EGroupingType#GROUPING_SETS}.
+     */
+    public List<String> getColumnNames() { return this.groupingSets.getFirst(); }
+
+    public List<List<String>> getGroupingSets() { return this.groupingSets; }
+
+    public boolean isEmpty() {
+        return this.groupingSets.stream().allMatch(List::isEmpty);
+    }
+
+    public void hashShape(FingerprintHasher hasher) {
+        hasher.putEnum(this.groupingType).putInt(this.groupingSets.size());
+        for (List<String> groupingSet : this.groupingSets) {
+            hasher.putInt(groupingSet.size());
+            for (String columnName : groupingSet)
+                hasher.putString(columnName);
+        }
+    }
+
+    private static List<List<String>> copySets(List<List<String>> groupingSets) {
+        List<List<String>> copy = new ArrayList<>(groupingSets.size());
+        for (List<String> groupingSet : groupingSets)
+            copy.add(List.copyOf(groupingSet));
+        return List.copyOf(copy);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof GroupBy other))
+            return false;
+        return this.groupingType == other.groupingType && this.groupingSets.equals(other.groupingSets);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.groupingType.hashCode() + this.groupingSets.hashCode();
+    }
+}
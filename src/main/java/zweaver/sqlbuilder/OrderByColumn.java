@@ -0,0 +1,50 @@
+package zweaver.sqlbuilder;
+
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.Objects;
+
+public final class OrderByColumn {
+    private final String columnName;
+    private final ESortOrder sortOrder;
+
+    public OrderByColumn(String columnName, ESortOrder sortOrder) {
+        this.columnName = columnName;
+        this.sortOrder = sortOrder;
+    }
+
+    public String getColumnName() { return this.columnName; }
+
+    public ESortOrder getSortOrder() { return this.sortOrder; }
+
+    public void render(SQLWriter writer) {
+        writer.append(this.columnName).append(' ').append(this.sortOrder.name());
+    }
+
+    public void hashShape(FingerprintHasher hasher) {
+        hasher.putString(this.columnName).putEnum(this.sortOrder);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof OrderByColumn other))
+            return false;
+        return this.sortOrder == other.sortOrder && Objects.equals(this.columnName, other.columnName);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(this.columnName) + Objects.hashCode(this.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer);
+        return writer.toString();
+    }
+}
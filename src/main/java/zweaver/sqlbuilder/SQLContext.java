@@ -1,16 +1,226 @@
 package zweaver.sqlbuilder;
 
+import zweaver.sqlbuilder.dialect.DialectRenderers;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
 import zweaver.sqlbuilder.enums.EDialect;
-import zweaver.sqlbuilder.enums.EDriverType;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.metrics.IRenderListener;
+import zweaver.sqlbuilder.render.RenderCache;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Dialect and rendering options shared by all queries built with it.
+ *
+ * Queries keep a reference to their context and read it on every render, so a context that is
+ * shared between threads should be frozen with {@link #freeze()} once it is configured. Changing a
+ * context that other threads are rendering with is visible to them, but a render that is already
+ * running may see a mix of the old and the new options.
+ */
 public final class SQLContext {
-    private EDialect sqlDialect;
+    private volatile IDialectRenderer dialectRenderer;
+    private volatile EInListPadding inListPadding;
+    private volatile int inListArrayThreshold;
+    private volatile RenderCache renderCache;
+    private volatile int parallelRenderThreshold;
+    private volatile Executor parallelRenderExecutor;
+    private volatile IRenderListener renderListener;
+    private volatile int maxStatementLength;
+    private volatile int maxParameters;
+    private volatile int maxInListElements;
+    private final boolean isFrozen;
 
     public SQLContext(EDialect sqlDialect) {
-        this.sqlDialect = sqlDialect;
+        this(DialectRenderers.forDialect(sqlDialect));
+    }
+
+    /**
+     * Context for a custom dialect, see {@link IDialectRenderer}.
+     */
+    public SQLContext(IDialectRenderer dialectRenderer) {
+        this.dialectRenderer = dialectRenderer;
+        this.inListPadding = EInListPadding.NONE;
+        this.inListArrayThreshold = 0;
+        this.maxStatementLength = 0;
+        this.maxParameters = 0;
+        this.maxInListElements = 0;
+        this.isFrozen = false;
+    }
+
+    private SQLContext(SQLContext context) {
+        this.dialectRenderer = context.dialectRenderer;
+        this.inListPadding = context.inListPadding;
+        this.inListArrayThreshold = context.inListArrayThreshold;
+        this.renderCache = context.renderCache;
+        this.parallelRenderThreshold = context.parallelRenderThreshold;
+        this.parallelRenderExecutor = context.parallelRenderExecutor;
+        this.renderListener = context.renderListener;
+        this.maxStatementLength = context.maxStatementLength;
+        this.maxParameters = context.maxParameters;
+        this.maxInListElements = context.maxInListElements;
+        this.isFrozen = true;
+    }
+
+    /**
+     * Read-only copy of this context; its setters throw an {@link IllegalStateException}.
+     * Later changes to this context do not affect the copy. A frozen context returns itself.
+     */
+    public SQLContext freeze() {
+        return this.isFrozen ? this : new SQLContext(this);
+    }
+
+    public boolean isFrozen() { return this.isFrozen; }
+
+    private void checkNotFrozen() {
+        if (this.isFrozen)
+            throw new IllegalStateException("SQLContext is frozen and can not be changed.");
+    }
+
+    public void setSqlDialect(EDialect sqlDialect) {
+        this.checkNotFrozen();
+        this.dialectRenderer = DialectRenderers.forDialect(sqlDialect);
+    }
+
+    public EDialect getSqlDialect() { return this.dialectRenderer.getDialect(); }
+
+    public IDialectRenderer getDialectRenderer() { return this.dialectRenderer; }
+
+    /**
+     * Pad IN/NOT IN lists of parameterized queries up to the next power of two so that only a
+     * handful of distinct statement texts are produced regardless of the list size.
+     * NOT IN lists are always padded by repeating the last value since a NULL would make them never match.
+     */
+    public void setInListPadding(EInListPadding inListPadding) {
+        this.checkNotFrozen();
+        this.inListPadding = inListPadding;
+    }
+
+    public EInListPadding getInListPadding() { return this.inListPadding; }
+
+    /**
+     * IN/NOT IN lists of parameterized queries with more elements than this are bound as a single
+     * array ("= ANY(?)") on Postgres or joined against a VALUES list on dialects that support it.
+     * Use 0 (the default) to disable.
+     */
+    public void setInListArrayThreshold(int inListArrayThreshold) {
+        this.checkNotFrozen();
+        this.inListArrayThreshold = inListArrayThreshold;
+    }
+
+    public int getInListArrayThreshold() { return this.inListArrayThreshold; }
+
+    /**
+     * Cache the SQL rendered by {@code build()} of every query using this context.
+     * The same cache can be shared by several contexts. Use null (the default) to disable.
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        this.checkNotFrozen();
+        this.renderCache = renderCache;
+    }
+
+    public RenderCache getRenderCache() { return this.renderCache; }
+
+    /**
+     * Render the branches of unions and the tables of CTEs with at least this many parts in parallel
+     * when they are built to a string. Parameterized and streamed output is always rendered in order.
+     * Use 0 (the default) to disable.
+     */
+    public void setParallelRenderThreshold(int parallelRenderThreshold) {
+        this.checkNotFrozen();
+        this.parallelRenderThreshold = parallelRenderThreshold;
+    }
+
+    public int getParallelRenderThreshold() { return this.parallelRenderThreshold; }
+
+    /**
+     * Executor for parallel rendering, e.g., a virtual thread executor. Defaults to the common fork-join pool.
+     */
+    public void setParallelRenderExecutor(Executor parallelRenderExecutor) {
+        this.checkNotFrozen();
+        this.parallelRenderExecutor = parallelRenderExecutor;
+    }
+
+    public Executor getParallelRenderExecutor() {
+        Executor executor = this.parallelRenderExecutor;
+        return executor == null ? ForkJoinPool.commonPool() : executor;
+    }
+
+    /**
+     * Whether a statement with the given number of independent parts should be rendered in parallel.
+     */
+    public boolean isParallelRender(int partCount) {
+        int threshold = this.parallelRenderThreshold;
+        return threshold > 0 && partCount >= threshold;
+    }
+
+    /**
+     * Report the latency, size and cache status of every statement built to a string with this context,
+     * see {@link zweaver.sqlbuilder.metrics.HistogramRenderListener}. Use null (the default) to disable;
+     * no time is measured then.
+     */
+    public void setRenderListener(IRenderListener renderListener) {
+        this.checkNotFrozen();
+        this.renderListener = renderListener;
+    }
+
+    public IRenderListener getRenderListener() { return this.renderListener; }
+
+    /* STATEMENT LIMITS */
+
+    /**
+     * Use the limits of the dialect (e.g., 2100 parameters on MSSQL) for every limit that is not set.
+     * No limits apply unless they are set or this is called.
+     */
+    public void useDialectLimits() {
+        this.checkNotFrozen();
+        if (this.maxStatementLength == 0)
+            this.maxStatementLength = -1;
+        if (this.maxParameters == 0)
+            this.maxParameters = -1;
+        if (this.maxInListElements == 0)
+            this.maxInListElements = -1;
+    }
+
+    /**
+     * Longest statement in UTF-8 encoded bytes that {@code build()} may return, e.g., MySQL's max_allowed_packet.
+     * Longer statements throw instead of being sent to the database; use
+     * {@link zweaver.sqlbuilder.builders.SelectBuilder#buildSplit(boolean)} to split them on their IN list.
+     * Use 0 for no limit (the default.)
+     */
+    public void setMaxStatementLength(int maxStatementLength) {
+        this.checkNotFrozen();
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    public int getMaxStatementLength() {
+        int maxStatementLength = this.maxStatementLength;
+        return maxStatementLength < 0 ? this.dialectRenderer.getMaxStatementLength() : maxStatementLength;
     }
 
-    public void setSqlDialect(EDialect sqlDialect) { this.sqlDialect = sqlDialect; }
+    /**
+     * Most placeholders a parameterized statement may have (e.g., 2100 on MSSQL.) Use 0 for no limit (the default.)
+     */
+    public void setMaxParameters(int maxParameters) {
+        this.checkNotFrozen();
+        this.maxParameters = maxParameters;
+    }
+
+    public int getMaxParameters() {
+        int maxParameters = this.maxParameters;
+        return maxParameters < 0 ? this.dialectRenderer.getMaxParameters() : maxParameters;
+    }
 
-    public EDialect getSqlDialect() { return this.sqlDialect; }
+    /**
+     * Most values a single IN/NOT IN list may have. Use 0 for no limit (the default.)
+     */
+    public void setMaxInListElements(int maxInListElements) {
+        this.checkNotFrozen();
+        this.maxInListElements = maxInListElements;
+    }
+
+    public int getMaxInListElements() {
+        int maxInListElements = this.maxInListElements;
+        return maxInListElements < 0 ? this.dialectRenderer.getMaxInListElements() : maxInListElements;
+    }
 }
@@ -0,0 +1,40 @@
+package zweaver.sqlbuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The last key seen by a keyset paginated query, one value per ORDER BY column.
+ * The next page starts right after this key.
+ */
+public final class SeekKey {
+    private final List<Object> values;
+    private final List<Boolean> valuesAreQuoted;
+
+    public SeekKey(List<?> values, List<Boolean> valuesAreQuoted) {
+        // nulls are rejected when the query is rendered
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        this.valuesAreQuoted = List.copyOf(valuesAreQuoted);
+    }
+
+    public List<Object> getValues() { return this.values; }
+
+    public List<Boolean> getValuesAreQuoted() { return this.valuesAreQuoted; }
+
+    public int size() { return this.values.size(); }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof SeekKey other))
+            return false;
+        return this.values.equals(other.values) && this.valuesAreQuoted.equals(other.valuesAreQuoted);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.values.hashCode() + this.valuesAreQuoted.hashCode();
+    }
+}
@@ -0,0 +1,181 @@
+package zweaver.sqlbuilder;
+
+import zweaver.sqlbuilder.enums.EFrameUnit;
+import zweaver.sqlbuilder.enums.EWindowFunction;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A window function call, e.g., "SUM(amount) OVER (PARTITION BY account ORDER BY day ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW)".
+ * Built with {@link zweaver.sqlbuilder.builders.WindowFunctionBuilder}.
+ *
+ * Frame bounds are row (or value) offsets from the current row: negative bounds are PRECEDING, positive
+ * bounds FOLLOWING, and {@link #UNBOUNDED_PRECEDING}, {@link #CURRENT_ROW} and {@link #UNBOUNDED_FOLLOWING}
+ * stand for themselves.
+ */
+public final class WindowFunction {
+    public static final long UNBOUNDED_PRECEDING = Long.MIN_VALUE;
+    public static final long CURRENT_ROW = 0;
+    public static final long UNBOUNDED_FOLLOWING = Long.MAX_VALUE;
+
+    private final EWindowFunction function;
+    private final String columnName;
+    private final int offset;
+    private final List<String> partitionColumns;
+    private final List<OrderByColumn> orderByColumns;
+    private final EFrameUnit frameUnit;
+    private final long frameStart;
+    private final long frameEnd;
+
+    /**
+     * @param columnName The argument of the function, or null for ranking functions
+     * @param offset How many rows LAG and LEAD look back or ahead
+     * @param frameUnit The unit of the frame bounds, or null for the default frame
+     */
+    public WindowFunction(EWindowFunction function, String columnName, int offset, List<String> partitionColumns,
+                          List<OrderByColumn> orderByColumns, EFrameUnit frameUnit, long frameStart, long frameEnd) {
+        this.function = function;
+        this.columnName = columnName;
+        this.offset = offset;
+        this.partitionColumns = List.copyOf(partitionColumns);
+        this.orderByColumns = List.copyOf(orderByColumns);
+        this.frameUnit = frameUnit;
+        this.frameStart = frameStart;
+        this.frameEnd = frameEnd;
+    }
+
+    public EWindowFunction getFunction() { return this.function; }
+
+    public String getColumnName() { return this.columnName; }
+
+    public int getOffset() { return this.offset; }
+
+    public List<String> getPartitionColumns() { return this.partitionColumns; }
+
+    public List<OrderByColumn> getOrderByColumns() { return this.orderByColumns; }
+
+    public EFrameUnit getFrameUnit() { return this.frameUnit; }
+
+    public long getFrameStart() { return this.frameStart; }
+
+    public long getFrameEnd() { return this.frameEnd; }
+
+    /**
+     * Whether the frame is a RANGE with a bound other than UNBOUNDED or CURRENT ROW.
+     */
+    public boolean hasRangeOffsets() {
+        return this.frameUnit == EFrameUnit.RANGE && (WindowFunction.isOffset(this.frameStart) || WindowFunction.isOffset(this.frameEnd));
+    }
+
+    private static boolean isOffset(long bound) {
+        return bound != UNBOUNDED_PRECEDING && bound != CURRENT_ROW && bound != UNBOUNDED_FOLLOWING;
+    }
+
+    public void render(SQLWriter writer) {
+        writer.append(this.function.name()).append('(');
+        if (this.function.takesColumn())
+            writer.append(this.columnName);
+        // 1 is the default offset of LAG and LEAD
+        if (this.function.takesOffset() && this.offset != 1)
+            writer.append(',').append(this.offset);
+        writer.append(") OVER (");
+
+        boolean hasClause = false;
+        if (!this.partitionColumns.isEmpty()) {
+            writer.append("PARTITION BY ");
+            for (int i = 0; i < this.partitionColumns.size(); i++) {
+                if (i > 0)
+                    writer.append(',');
+                writer.append(this.partitionColumns.get(i));
+            }
+            hasClause = true;
+        }
+
+        if (!this.orderByColumns.isEmpty()) {
+            if (hasClause)
+                writer.append(' ');
+            writer.append("ORDER BY ");
+            for (int i = 0; i < this.orderByColumns.size(); i++) {
+                if (i > 0)
+                    writer.append(',');
+                this.orderByColumns.get(i).render(writer);
+            }
+            hasClause = true;
+        }
+
+        if (this.frameUnit != null) {
+            if (hasClause)
+                writer.append(' ');
+            writer.append(this.frameUnit.name()).append(" BETWEEN ");
+            WindowFunction.appendFrameBound(writer, this.frameStart);
+            writer.append(" AND ");
+            WindowFunction.appendFrameBound(writer, this.frameEnd);
+        }
+
+        writer.append(')');
+    }
+
+    private static void appendFrameBound(SQLWriter writer, long bound) {
+        if (bound == UNBOUNDED_PRECEDING)
+            writer.append("UNBOUNDED PRECEDING");
+        else if (bound == UNBOUNDED_FOLLOWING)
+            writer.append("UNBOUNDED FOLLOWING");
+        else if (bound == CURRENT_ROW)
+            writer.append("CURRENT ROW");
+        else if (bound < 0)
+            writer.append(-bound).append(" PRECEDING");
+        else
+            writer.append(bound).append(" FOLLOWING");
+    }
+
+    public void hashShape(FingerprintHasher hasher) {
+        hasher.putEnum(this.function).putString(this.columnName).putInt(this.offset);
+        hasher.putInt(this.partitionColumns.size());
+        for (String partitionColumn : this.partitionColumns)
+            hasher.putString(partitionColumn);
+        hasher.putInt(this.orderByColumns.size());
+        for (OrderByColumn orderByColumn : this.orderByColumns)
+            orderByColumn.hashShape(hasher);
+        hasher.putBoolean(this.frameUnit != null);
+        if (this.frameUnit != null)
+            hasher.putEnum(this.frameUnit).putLong(this.frameStart).putLong(this.frameEnd);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof WindowFunction other))
+            return false;
+        return this.function == other.function
+                && this.offset == other.offset
+                && this.frameUnit == other.frameUnit
+                && this.frameStart == other.frameStart
+                && this.frameEnd == other.frameEnd
+                && Objects.equals(this.columnName, other.columnName)
+                && this.partitionColumns.equals(other.partitionColumns)
+                && this.orderByColumns.equals(other.orderByColumns);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.function.hashCode();
+        hash = 31 * hash + Objects.hashCode(this.columnName);
+        hash = 31 * hash + this.offset;
+        hash = 31 * hash + this.partitionColumns.hashCode();
+        hash = 31 * hash + this.orderByColumns.hashCode();
+        hash = 31 * hash + Objects.hashCode(this.frameUnit);
+        hash = 31 * hash + Long.hashCode(this.frameStart);
+        return 31 * hash + Long.hashCode(this.frameEnd);
+    }
+
+    @Override
+    public String toString() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer);
+        return writer.toString();
+    }
+}
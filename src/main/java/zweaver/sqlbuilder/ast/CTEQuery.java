@@ -0,0 +1,242 @@
+package zweaver.sqlbuilder.ast;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.EStatementType;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.metrics.IRenderListener;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ByteBufferAppendable;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.FingerprintWriter;
+import zweaver.sqlbuilder.render.ParallelRenderer;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.RenderCache;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Immutable common table expression. See {@link SelectQuery} for how variants share structure.
+ * The SQL cached by {@link RenderCache} is keyed on the dialect of the main query.
+ */
+public final class CTEQuery {
+    private final PersistentList<String> names;
+    private final PersistentList<SelectQuery> selectQueries;
+    private final SelectQuery mainQuery;
+    private int hash;
+    private long shapeHash;
+
+    public CTEQuery() {
+        this(PersistentList.empty(), PersistentList.empty(), null);
+    }
+
+    private CTEQuery(PersistentList<String> names, PersistentList<SelectQuery> selectQueries, SelectQuery mainQuery) {
+        this.names = names;
+        this.selectQueries = selectQueries;
+        this.mainQuery = mainQuery;
+    }
+
+    public PersistentList<String> getNames() { return this.names; }
+
+    public PersistentList<SelectQuery> getSelectQueries() { return this.selectQueries; }
+
+    public SelectQuery getMainQuery() { return this.mainQuery; }
+
+    public CTEQuery withTable(String name, SelectQuery selectQuery) throws CTEBuilderException {
+        if (name == null || name.isEmpty())
+            throw new CTEBuilderException("CTE name can not be empty.");
+
+        if (this.names.contains(name))
+            throw new CTEBuilderException("CTE with name '" + name + "' already exists.");
+
+        if (selectQuery == null)
+            throw new CTEBuilderException("CTE select query can not be null.");
+
+        return new CTEQuery(this.names.plus(name), this.selectQueries.plus(selectQuery), this.mainQuery);
+    }
+
+    public CTEQuery withQuery(SelectQuery mainQuery) throws CTEBuilderException {
+        if (mainQuery == null)
+            throw new CTEBuilderException("Main query can not be null.");
+
+        return new CTEQuery(this.names, this.selectQueries, mainQuery);
+    }
+
+    /**
+     * This statement with frozen contexts on all its queries, see {@link SelectQuery#freeze()}.
+     */
+    public CTEQuery freeze() {
+        PersistentList<SelectQuery> selectQueries = PersistentList.empty();
+        for (SelectQuery selectQuery : this.selectQueries)
+            selectQueries = selectQueries.plus(selectQuery.freeze());
+        return new CTEQuery(this.names, selectQueries, this.mainQuery == null ? null : this.mainQuery.freeze());
+    }
+
+    public String build() throws CTEBuilderException, SelectBuilderException {
+        SQLContext context = this.mainQuery == null ? null : this.mainQuery.getContext();
+        IRenderListener listener = context == null ? null : context.getRenderListener();
+        long startTime = listener == null ? 0 : System.nanoTime();
+
+        RenderCache cache = context == null ? null : context.getRenderCache();
+        IDialectRenderer dialect = cache == null ? null : context.getDialectRenderer();
+        String sql = cache == null ? null : cache.get(this, dialect, true);
+        boolean isCacheHit = sql != null;
+        if (sql == null) {
+            sql = this.renderToString();
+            if (cache != null)
+                cache.put(this, dialect, true, sql);
+        }
+
+        if (listener != null) {
+            int filterCount = SelectUtil.countFilters(this.mainQuery.getFilterConditions());
+            int inListElementCount = SelectUtil.countInListElements(this.mainQuery.getFilterConditions());
+            for (SelectQuery query : this.selectQueries) {
+                filterCount += SelectUtil.countFilters(query.getFilterConditions());
+                inListElementCount += SelectUtil.countInListElements(query.getFilterConditions());
+            }
+            listener.onRender(new RenderEvent(EStatementType.CTE, System.nanoTime() - startTime, sql.length(), filterCount, inListElementCount, isCacheHit, this.fingerprintHash()));
+        }
+
+        SelectUtil.checkStatementLength(context, sql);
+        return sql;
+    }
+
+    private String renderToString() throws CTEBuilderException, SelectBuilderException {
+        SQLContext context = this.mainQuery == null ? null : this.mainQuery.getContext();
+        if (context != null && context.isParallelRender(this.names.size() + 1)) {
+            this.validate();
+            return ParallelRenderer.render(this.names.size() + 1, this::renderPart, context.getParallelRenderExecutor());
+        }
+
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            this.render(writer);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    public void renderTo(Appendable out) throws CTEBuilderException, SelectBuilderException, IOException {
+        try {
+            this.render(new SQLWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset) throws CTEBuilderException, SelectBuilderException, IOException {
+        ByteBufferAppendable out = new ByteBufferAppendable(target, charset);
+        this.renderTo(out);
+        out.finish();
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) throws CTEBuilderException, SelectBuilderException {
+        SQLContext context = this.mainQuery == null ? null : this.mainQuery.getContext();
+        ParameterizedWriter writer = new ParameterizedWriter(context, placeholderStyle);
+        this.render(writer);
+        BoundStatement statement = writer.toBoundStatement();
+        SelectUtil.checkParameterCount(context, statement);
+        SelectUtil.checkStatementLength(context, statement.getSql());
+        return statement;
+    }
+
+    /**
+     * Normalized text of the statement, see {@link SelectQuery#fingerprint()}.
+     */
+    public String fingerprint() throws CTEBuilderException, SelectBuilderException {
+        FingerprintWriter writer = new FingerprintWriter();
+        this.render(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Hash of the fingerprint computed without rendering, see {@link SelectQuery#fingerprintHash()}.
+     */
+    public long fingerprintHash() {
+        SQLContext context = this.mainQuery == null ? null : this.mainQuery.getContext();
+        long shapeHash = this.shapeHash;
+        if (shapeHash == 0) {
+            FingerprintHasher hasher = new FingerprintHasher().putInt(this.names.size());
+            for (int i = 0; i < this.names.size(); i++)
+                hasher.putString(this.names.get(i)).putLong(this.selectQueries.get(i).shapeHash());
+            shapeHash = hasher.putLong(this.mainQuery == null ? 0 : this.mainQuery.shapeHash()).getHash();
+            this.shapeHash = shapeHash;
+        }
+
+        return new FingerprintHasher()
+                .putEnum(context == null ? EDialect.STANDARD : context.getSqlDialect())
+                .putLong(shapeHash)
+                .getHash();
+    }
+
+    public void render(SQLWriter writer) throws CTEBuilderException, SelectBuilderException {
+        this.validate();
+        for (int i = 0; i <= this.names.size(); i++)
+            this.renderPart(writer, i);
+    }
+
+    private void validate() throws CTEBuilderException {
+        if (this.names.isEmpty())
+            throw new CTEBuilderException("CTE does not have any tables.");
+
+        if (this.mainQuery == null)
+            throw new CTEBuilderException("CTE is missing a main query.");
+
+        if (!this.names.contains(this.mainQuery.getTableName()))
+            throw new CTEBuilderException("Main query selects from non-existing table in CTE.");
+    }
+
+    /**
+     * Render one table of the CTE, or the main query after the last table.
+     */
+    private void renderPart(SQLWriter writer, int index) throws SelectBuilderException {
+        if (index == this.names.size()) {
+            writer.append(' ');
+            this.mainQuery.render(writer, true);
+            return;
+        }
+
+        if (index == 0)
+            writer.append("WITH ");
+        writer.append(this.names.get(index)).append(" AS ( ");
+        this.selectQueries.get(index).render(writer, false);
+        writer.append(" )");
+        if (index < this.names.size() - 1)
+            writer.append(", ");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof CTEQuery other))
+            return false;
+        return this.hashCode() == other.hashCode()
+                && this.names.equals(other.names)
+                && this.selectQueries.equals(other.selectQueries)
+                && Objects.equals(this.mainQuery, other.mainQuery);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = this.names.hashCode();
+            hash = 31 * hash + this.selectQueries.hashCode();
+            hash = 31 * hash + Objects.hashCode(this.mainQuery);
+            this.hash = hash;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,221 @@
+package zweaver.sqlbuilder.ast;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.EUnionType;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits a select on its largest IN list, see {@link SelectQuery#buildSplit(boolean)}.
+ *
+ * Every slice is the same query with the IN list replaced by a view of a range of its values, so
+ * slices are only materialized when their statement is requested.
+ */
+final class InListSplitter {
+    private final SelectQuery query;
+    private final SQLContext context;
+    private final int conditionIndex;
+    private final List<Object> values;
+    private final StringBuilder scratch;
+
+    InListSplitter(SelectQuery query) throws SelectBuilderException {
+        if (query.getOffsetCount() > 0)
+            throw new SelectBuilderException("A query with an offset can not be split.");
+
+        List<FilterCondition> filterConditions = query.getFilterConditions();
+        boolean hasOr = false;
+        int conditionIndex = -1;
+        int largestSize = 1;
+        for (int i = 0; i < filterConditions.size(); i++) {
+            FilterCondition condition = filterConditions.get(i);
+            hasOr |= condition.getConjunction() == EFilterConjunction.OR;
+            if (condition.isGroup())
+                continue;
+
+            FilterPredicate predicate = condition.getPredicates().getFirst();
+            if (predicate.getCondition() != EFilterCondition.IN || !(predicate.getValue() instanceof Iterable<?>))
+                continue;
+
+            int size = SelectUtil.countListValues(predicate.getValue());
+            if (size > largestSize) {
+                conditionIndex = i;
+                largestSize = size;
+            }
+        }
+
+        if (conditionIndex >= 0 && hasOr)
+            throw new SelectBuilderException("An IN list can only be split if all filters are joined with AND.");
+
+        // groups and partitions can span slices, so the slices of an aggregate or window can not just be concatenated
+        if (conditionIndex >= 0 && (query.isAggregate() || query.hasWindowFunctions()))
+            throw new SelectBuilderException("An aggregate or window query can not be split.");
+
+        this.query = query;
+        this.context = query.getContext();
+        this.conditionIndex = conditionIndex;
+        this.values = new ArrayList<>(largestSize);
+        if (conditionIndex >= 0) {
+            for (Object value : (Iterable<?>) filterConditions.get(conditionIndex).getPredicates().getFirst().getValue())
+                this.values.add(value);
+        }
+        this.scratch = new StringBuilder();
+    }
+
+    Iterator<String> split(boolean isFinalStatement) throws SelectBuilderException {
+        if (this.conditionIndex < 0)
+            return List.of(this.query.build(isFinalStatement)).iterator();
+
+        int maxElements = this.maxInListElements();
+        int maxLength = this.context == null ? 0 : this.context.getMaxStatementLength();
+        // everything but the list values, measured on a statement with the first value (which also validates the query)
+        String firstSlice = this.slice(0, 1).renderToString(isFinalStatement);
+        long baseLength = SelectUtil.utf8Length(firstSlice, 0, firstSlice.length()) - this.literalLength(0);
+
+        return new SliceIterator<>() {
+            @Override
+            protected int nextSliceEnd(int from) {
+                int to = from;
+                long length = baseLength;
+                while (to < InListSplitter.this.values.size() && to - from < maxElements) {
+                    if (maxLength > 0) {
+                        length += InListSplitter.this.literalLength(to) + (to > from ? 1 : 0);
+                        if (length > maxLength)
+                            break;
+                    }
+                    to++;
+                }
+
+                if (to == from)
+                    throw new IllegalArgumentException("IN list value " + (from + 1) + " does not fit into the maximum statement length of " + maxLength + " bytes.");
+                return to;
+            }
+
+            @Override
+            protected String render(SelectQuery slice) throws SelectBuilderException {
+                return slice.renderToString(isFinalStatement);
+            }
+        };
+    }
+
+    Iterator<BoundStatement> splitParameterized(boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        if (this.conditionIndex < 0)
+            return List.of(this.query.buildParameterized(isFinalStatement, placeholderStyle)).iterator();
+
+        int maxElements = this.maxInListElements();
+        int maxParameters = this.context == null ? 0 : this.context.getMaxParameters();
+        // render a statement with the first value to validate the query and count the parameters of the other filters
+        int otherParameters = this.renderParameterized(this.slice(0, 1), isFinalStatement, placeholderStyle).getParameters().size() - 1;
+        if (maxParameters > 0) {
+            int available = maxParameters - otherParameters;
+            if (available <= 0)
+                throw new SelectBuilderException("The other filters already use all " + maxParameters + " parameters.");
+            // padded lists grow to the next power of two
+            if (this.context.getInListPadding() != EInListPadding.NONE)
+                available = Integer.highestOneBit(available);
+            maxElements = Math.min(maxElements, available);
+        }
+
+        int sliceSize = maxElements;
+        return new SliceIterator<>() {
+            @Override
+            protected int nextSliceEnd(int from) {
+                return (int) Math.min(InListSplitter.this.values.size(), (long) from + sliceSize);
+            }
+
+            @Override
+            protected BoundStatement render(SelectQuery slice) throws SelectBuilderException {
+                return InListSplitter.this.renderParameterized(slice, isFinalStatement, placeholderStyle);
+            }
+        };
+    }
+
+    UnionQuery toUnion() throws SelectBuilderException {
+        if (!this.query.getOrderByColumns().isEmpty() || this.query.getLimitCount() > 0)
+            throw new SelectBuilderException("A query with ORDER BY or a limit can not be split into a union.");
+
+        PersistentList<SelectQuery> queries = PersistentList.empty();
+        PersistentList<EUnionType> unionTypes = PersistentList.empty();
+        if (this.conditionIndex < 0)
+            return new UnionQuery(queries.plus(this.query), unionTypes);
+
+        int maxElements = this.maxInListElements();
+        for (int from = 0; from < this.values.size(); from += maxElements) {
+            if (from > 0)
+                unionTypes = unionTypes.plus(EUnionType.UNION_ALL);
+            queries = queries.plus(this.slice(from, (int) Math.min(this.values.size(), (long) from + maxElements)));
+        }
+        return new UnionQuery(queries, unionTypes);
+    }
+
+    private int maxInListElements() {
+        int maxInListElements = this.context == null ? 0 : this.context.getMaxInListElements();
+        return maxInListElements > 0 ? maxInListElements : Integer.MAX_VALUE;
+    }
+
+    private SelectQuery slice(int from, int to) {
+        FilterCondition condition = this.query.getFilterConditions().get(this.conditionIndex);
+        FilterPredicate predicate = condition.getPredicates().getFirst();
+        return this.query.withFilterCondition(this.conditionIndex, new FilterCondition(
+                new FilterPredicate(predicate.getColumnName(), EFilterCondition.IN, this.values.subList(from, to), predicate.isValueQuoted()),
+                condition.getConjunction()));
+    }
+
+    private BoundStatement renderParameterized(SelectQuery slice, boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        slice.render(writer, isFinalStatement);
+        return writer.toBoundStatement();
+    }
+
+    private long literalLength(int index) {
+        boolean isQuoted = this.query.getFilterConditions().get(this.conditionIndex).getPredicates().getFirst().isValueQuoted();
+        this.scratch.setLength(0);
+        SelectUtil.appendValue(new SQLWriter(this.scratch), this.values.get(index), isQuoted);
+        return SelectUtil.utf8Length(this.scratch, 0, this.scratch.length());
+    }
+
+    /**
+     * Renders one slice per call to {@link #next()}.
+     */
+    private abstract class SliceIterator<T> implements Iterator<T> {
+        private int from;
+
+        protected abstract int nextSliceEnd(int from);
+
+        protected abstract T render(SelectQuery slice) throws SelectBuilderException;
+
+        @Override
+        public boolean hasNext() {
+            return this.from < InListSplitter.this.values.size();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            int to = this.nextSliceEnd(this.from);
+            SelectQuery slice = InListSplitter.this.slice(this.from, to);
+            this.from = to;
+            try {
+                return this.render(slice);
+            } catch (SelectBuilderException e) {
+                // the query was already rendered once when the splitter was set up, and slices only differ in their values
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package zweaver.sqlbuilder.ast;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable list where appending returns a new list that shares its elements with the old one.
+ *
+ * All versions derived from each other by {@link #plus(Object)} share one backing array; the first
+ * version to append past the shared end claims the next slot in place, every other version copies.
+ * Appending one element at a time is therefore amortized O(1) while every version stays immutable
+ * and safe to read from any thread.
+ */
+public final class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[0], new AtomicInteger(0), 0);
+
+    private final Object[] elements;
+    private final AtomicInteger claimedSize;
+    private final int size;
+
+    private PersistentList(Object[] elements, AtomicInteger claimedSize, int size) {
+        this.elements = elements;
+        this.claimedSize = claimedSize;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    public static <T> PersistentList<T> copyOf(Iterable<? extends T> items) {
+        PersistentList<T> list = PersistentList.empty();
+        return list.plusAll(items);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        return (T) this.elements[index];
+    }
+
+    @Override
+    public int size() { return this.size; }
+
+    public PersistentList<T> plus(T item) {
+        if (this.size < this.elements.length && this.claimedSize.compareAndSet(this.size, this.size + 1)) {
+            this.elements[this.size] = item;
+            return new PersistentList<>(this.elements, this.claimedSize, this.size + 1);
+        }
+
+        Object[] grown = Arrays.copyOf(this.elements, Math.max(4, this.size * 2));
+        grown[this.size] = item;
+        return new PersistentList<>(grown, new AtomicInteger(this.size + 1), this.size + 1);
+    }
+
+    public PersistentList<T> plusAll(Iterable<? extends T> items) {
+        PersistentList<T> list = this;
+        for (T item : items)
+            list = list.plus(item);
+        return list;
+    }
+
+    /**
+     * Copy of this list with the element at the given index replaced.
+     */
+    public PersistentList<T> with(int index, T item) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+
+        Object[] copy = Arrays.copyOf(this.elements, this.size);
+        copy[index] = item;
+        return new PersistentList<>(copy, new AtomicInteger(this.size), this.size);
+    }
+}
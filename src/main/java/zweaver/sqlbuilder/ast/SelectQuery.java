@@ -0,0 +1,632 @@
+package zweaver.sqlbuilder.ast;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.GroupBy;
+import zweaver.sqlbuilder.OrderByColumn;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.SeekKey;
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.dialect.DialectRenderers;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.enums.EStatementType;
+import zweaver.sqlbuilder.enums.EWindowFunction;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.metrics.IRenderListener;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+import zweaver.sqlbuilder.optimizer.IPredicateNode;
+import zweaver.sqlbuilder.optimizer.PredicateOptimizer;
+import zweaver.sqlbuilder.projection.IProjection;
+import zweaver.sqlbuilder.projection.Projections;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ByteBufferAppendable;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.FingerprintWriter;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.RenderCache;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.render.SelectTemplate;
+import zweaver.sqlbuilder.render.TemplateWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable select statement. Every "with" method returns a new query that shares all unchanged
+ * parts (column list, filters, ...) with this one, so a base query can live in a static field and
+ * per-request variants can be derived from it cheaply from any thread.
+ *
+ * Two queries are equal if they have the same structure and values; the context is not compared.
+ * A query is safe to render from any number of threads as long as its context is not changed
+ * at the same time, see {@link #freeze()}.
+ *
+ * {@link zweaver.sqlbuilder.builders.SelectBuilder} is a mutable front end over this class.
+ */
+public final class SelectQuery {
+    private static final String TOP_N_TABLE_NAME = "ranked";
+
+    private final SQLContext context;
+    private final String tableName;
+    private final PersistentList<IProjection> projections;
+    private final PersistentList<FilterCondition> filterConditions;
+    private final GroupBy groupBy;
+    private final PersistentList<FilterCondition> havingConditions;
+    private final PersistentList<OrderByColumn> orderByColumns;
+    private final SeekKey seekKey;
+    private final int limitCount;
+    private final int offsetCount;
+    private final boolean isFilterOptimized;
+    private IPredicateNode optimizedFilter;
+    private int hash;
+    private long shapeHash;
+
+    public SelectQuery(SQLContext context) {
+        this(context, null, PersistentList.empty(), PersistentList.empty(), null, PersistentList.empty(), PersistentList.empty(), null, 0, 0, false);
+    }
+
+    private SelectQuery(SQLContext context, String tableName, PersistentList<IProjection> projections,
+                        PersistentList<FilterCondition> filterConditions, GroupBy groupBy, PersistentList<FilterCondition> havingConditions,
+                        PersistentList<OrderByColumn> orderByColumns, SeekKey seekKey, int limitCount, int offsetCount, boolean isFilterOptimized) {
+        this.context = context;
+        this.tableName = tableName;
+        this.projections = projections;
+        this.filterConditions = filterConditions;
+        this.groupBy = groupBy;
+        this.havingConditions = havingConditions;
+        this.orderByColumns = orderByColumns;
+        this.seekKey = seekKey;
+        this.limitCount = limitCount;
+        this.offsetCount = offsetCount;
+        this.isFilterOptimized = isFilterOptimized;
+    }
+
+    public SQLContext getContext() { return this.context; }
+
+    public String getTableName() { return this.tableName; }
+
+    public PersistentList<IProjection> getProjections() { return this.projections; }
+
+    /**
+     * The select items as strings. This materializes lazy projections, see {@link IProjection#getColumns()}.
+     */
+    public List<String> getColumnNames() {
+        List<String> columnNames = new ArrayList<>();
+        for (IProjection projection : this.projections)
+            columnNames.addAll(projection.getColumns());
+        return columnNames;
+    }
+
+    public PersistentList<FilterCondition> getFilterConditions() { return this.filterConditions; }
+
+    /**
+     * The GROUP BY of the query, or null if it has none.
+     */
+    public GroupBy getGroupBy() { return this.groupBy; }
+
+    public PersistentList<FilterCondition> getHavingConditions() { return this.havingConditions; }
+
+    /**
+     * Whether the query returns groups rather than rows: it has a GROUP BY, a HAVING or an aggregate select item.
+     */
+    public boolean isAggregate() {
+        return this.groupBy != null || !this.havingConditions.isEmpty()
+                || this.projections.stream().anyMatch(IProjection::isAggregate);
+    }
+
+    public PersistentList<OrderByColumn> getOrderByColumns() { return this.orderByColumns; }
+
+    public SeekKey getSeekKey() { return this.seekKey; }
+
+    public int getLimitCount() { return this.limitCount; }
+
+    public int getOffsetCount() { return this.offsetCount; }
+
+    public boolean isFilterOptimized() { return this.isFilterOptimized; }
+
+    /**
+     * Same query rendered with another context, e.g., one for a different dialect.
+     */
+    public SelectQuery withContext(SQLContext context) {
+        return new SelectQuery(context, this.tableName, this.projections, this.filterConditions, this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * This query with a frozen copy of its context, so nothing it renders with can change anymore.
+     */
+    public SelectQuery freeze() {
+        if (this.context == null || this.context.isFrozen())
+            return this;
+        return this.withContext(this.context.freeze());
+    }
+
+    public SelectQuery withTable(String tableName) {
+        return new SelectQuery(this.context, tableName, this.projections, this.filterConditions, this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    public SelectQuery withColumn(String columnName) {
+        return new SelectQuery(this.context, this.tableName, this.projections.plus(Projections.column(columnName)), this.filterConditions, this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    public SelectQuery withColumns(Iterable<String> columnNames) {
+        return this.withProjection(Projections.columns(columnNames));
+    }
+
+    /**
+     * Add select items that are only read when the query is rendered, see {@link Projections}.
+     */
+    public SelectQuery withProjection(IProjection projection) {
+        return new SelectQuery(this.context, this.tableName, this.projections.plus(projection), this.filterConditions, this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Add a filter. If the previous filter has no conjunction yet it defaults to AND.
+     */
+    public SelectQuery withFilter(FilterCondition filterCondition) {
+        PersistentList<FilterCondition> filterConditions = this.filterConditions;
+        // if no conjunction was set, default to AND
+        if (!filterConditions.isEmpty() && filterConditions.getLast().getConjunction() == EFilterConjunction.NONE)
+            filterConditions = filterConditions.with(filterConditions.size() - 1,
+                    filterConditions.getLast().withConjunction(EFilterConjunction.AND));
+
+        return new SelectQuery(this.context, this.tableName, this.projections, filterConditions.plus(filterCondition), this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Set the conjunction between the last filter and the next one.
+     */
+    public SelectQuery withConjunction(EFilterConjunction conjunction) {
+        if (this.filterConditions.isEmpty())
+            return this;
+
+        int lastIndex = this.filterConditions.size() - 1;
+        return new SelectQuery(this.context, this.tableName, this.projections,
+                this.filterConditions.with(lastIndex, this.filterConditions.getLast().withConjunction(conjunction)),
+                this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    SelectQuery withFilterCondition(int index, FilterCondition filterCondition) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions.with(index, filterCondition),
+                this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Group the rows, replacing the previous GROUP BY. Use null for no GROUP BY.
+     */
+    public SelectQuery withGroupBy(GroupBy groupBy) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions, groupBy, this.havingConditions,
+                this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Add a filter on the groups. HAVING filters are always joined with AND; use a group condition for OR.
+     */
+    public SelectQuery withHaving(FilterCondition havingCondition) {
+        PersistentList<FilterCondition> havingConditions = this.havingConditions;
+        if (!havingConditions.isEmpty())
+            havingConditions = havingConditions.with(havingConditions.size() - 1,
+                    havingConditions.getLast().withConjunction(EFilterConjunction.AND));
+
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions, this.groupBy,
+                havingConditions.plus(havingCondition.withConjunction(EFilterConjunction.NONE)),
+                this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    public SelectQuery withOrderBy(OrderByColumn orderByColumn) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions,
+                this.groupBy, this.havingConditions, this.orderByColumns.plus(orderByColumn), this.seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Only return rows after the given key in ORDER BY order (keyset pagination.) Use null for the first page.
+     */
+    public SelectQuery withSeekKey(SeekKey seekKey) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions,
+                this.groupBy, this.havingConditions, this.orderByColumns, seekKey, this.limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    public SelectQuery withLimit(int limitCount) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions,
+                this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, limitCount, this.offsetCount, this.isFilterOptimized);
+    }
+
+    public SelectQuery withOffset(int offsetCount) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions,
+                this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, offsetCount, this.isFilterOptimized);
+    }
+
+    /**
+     * Run the filters through the {@link PredicateOptimizer} before they are rendered.
+     */
+    public SelectQuery withOptimizedFilters(boolean isFilterOptimized) {
+        return new SelectQuery(this.context, this.tableName, this.projections, this.filterConditions,
+                this.groupBy, this.havingConditions, this.orderByColumns, this.seekKey, this.limitCount, this.offsetCount, isFilterOptimized);
+    }
+
+    /**
+     * Render the query, or return the previously rendered SQL if the context has a {@link RenderCache}.
+     */
+    public String build(boolean isFinalStatement) throws SelectBuilderException {
+        IRenderListener listener = this.context == null ? null : this.context.getRenderListener();
+        long startTime = listener == null ? 0 : System.nanoTime();
+
+        RenderCache cache = this.context == null ? null : this.context.getRenderCache();
+        IDialectRenderer dialect = cache == null ? null : this.context.getDialectRenderer();
+        String sql = cache == null ? null : cache.get(this, dialect, isFinalStatement);
+        boolean isCacheHit = sql != null;
+        if (sql == null) {
+            sql = this.renderToString(isFinalStatement);
+            if (cache != null)
+                cache.put(this, dialect, isFinalStatement, sql);
+        }
+
+        if (listener != null)
+            listener.onRender(new RenderEvent(EStatementType.SELECT, System.nanoTime() - startTime, sql.length(),
+                    SelectUtil.countFilters(this.filterConditions), SelectUtil.countInListElements(this.filterConditions), isCacheHit, this.fingerprintHash()));
+
+        SelectUtil.checkStatementLength(this.context, sql);
+        return sql;
+    }
+
+    String renderToString(boolean isFinalStatement) throws SelectBuilderException {
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            this.render(writer, isFinalStatement);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    public void renderTo(Appendable out, boolean isFinalStatement) throws SelectBuilderException, IOException {
+        try {
+            this.render(new SQLWriter(out), isFinalStatement);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset, boolean isFinalStatement) throws SelectBuilderException, IOException {
+        ByteBufferAppendable out = new ByteBufferAppendable(target, charset);
+        this.renderTo(out, isFinalStatement);
+        out.finish();
+    }
+
+    public BoundStatement buildParameterized(boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        this.render(writer, isFinalStatement);
+        BoundStatement statement = writer.toBoundStatement();
+        SelectUtil.checkParameterCount(this.context, statement);
+        SelectUtil.checkStatementLength(this.context, statement.getSql());
+        return statement;
+    }
+
+    /**
+     * Build the query as a lazy sequence of statements that each cover a slice of its largest IN list,
+     * sized to stay within the statement length and IN list limits of the context. The results of all
+     * statements together are the result of the query. A query without IN list yields itself.
+     *
+     * The IN list must be ANDed to all other filters, and the query can not have an offset. With a
+     * limit every statement is limited on its own.
+     */
+    public Iterator<String> buildSplit(boolean isFinalStatement) throws SelectBuilderException {
+        return new InListSplitter(this).split(isFinalStatement);
+    }
+
+    /**
+     * Same as {@link #buildSplit(boolean)}, sized to stay within the parameter limit of the context instead of the length limit.
+     */
+    public Iterator<BoundStatement> buildSplitParameterized(boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        return new InListSplitter(this).splitParameterized(isFinalStatement, placeholderStyle);
+    }
+
+    /**
+     * Split the largest IN list into slices within the IN list limit of the context and UNION ALL them
+     * into one statement. The query can not have an ORDER BY, limit or offset.
+     */
+    public UnionQuery toSplitUnion() throws SelectBuilderException {
+        return new InListSplitter(this).toUnion();
+    }
+
+    /**
+     * Keep the first n rows of every partition in ORDER BY order ("top N per group".) The query without its
+     * ORDER BY becomes a CTE that numbers the rows of each partition with ROW_NUMBER() into the rank column,
+     * and the main query selects the rows up to rank n ordered by partition and rank:
+     *
+     * WITH ranked AS ( SELECT ..., ROW_NUMBER() OVER (PARTITION BY p ORDER BY o) AS rank_column FROM t WHERE ... )
+     * SELECT * FROM ranked WHERE rank_column <= n ORDER BY p ASC,rank_column ASC
+     *
+     * The partition columns are read back from the CTE, so they have to be unqualified names of select items.
+     */
+    public CTEQuery toTopNPerGroup(List<String> partitionColumns, int n, String rankColumn) throws SelectBuilderException, CTEBuilderException {
+        if (n <= 0)
+            throw new SelectBuilderException("Top N per group needs a positive N.");
+
+        if (this.orderByColumns.isEmpty())
+            throw new SelectBuilderException("Top N per group needs an ORDER BY to rank the rows of a group.");
+
+        if (this.limitCount > 0 || this.offsetCount > 0 || this.seekKey != null)
+            throw new SelectBuilderException("Top N per group can not be combined with a limit, offset or seek key.");
+
+        // the outer query orders by the partition columns, so they have to be columns of the CTE
+        Set<String> outputNames = this.outputColumnNames();
+        for (String partitionColumn : partitionColumns) {
+            if (partitionColumn.indexOf('.') >= 0)
+                throw new SelectBuilderException("Top N per group needs unqualified partition columns, but got '" + partitionColumn + "'.");
+            if (outputNames != null && !outputNames.contains(partitionColumn))
+                throw new SelectBuilderException("Top N per group needs the partition column '" + partitionColumn + "' in the select list.");
+        }
+
+        WindowFunction rowNumber = new WindowFunction(EWindowFunction.ROW_NUMBER, null, 1, partitionColumns, this.orderByColumns, null, 0, 0);
+        SelectQuery ranked = new SelectQuery(this.context, this.tableName, this.projections.plus(Projections.window(rowNumber, rankColumn)),
+                this.filterConditions, this.groupBy, this.havingConditions, PersistentList.empty(), null, 0, 0, this.isFilterOptimized);
+
+        SelectQuery topN = new SelectQuery(this.context)
+                .withTable(TOP_N_TABLE_NAME)
+                .withColumn("*")
+                .withFilter(new FilterCondition(new FilterPredicate(rankColumn, EFilterCondition.LESS_THAN_EQUAL, n, false), EFilterConjunction.NONE));
+        for (String partitionColumn : partitionColumns)
+            topN = topN.withOrderBy(new OrderByColumn(partitionColumn, ESortOrder.ASC));
+        topN = topN.withOrderBy(new OrderByColumn(rankColumn, ESortOrder.ASC));
+
+        return new CTEQuery().withTable(TOP_N_TABLE_NAME, ranked).withQuery(topN);
+    }
+
+    /**
+     * The names of the select items as seen by an outer query, or null if they include "*".
+     */
+    private Set<String> outputColumnNames() {
+        Set<String> names = new HashSet<>();
+        for (String column : this.getColumnNames()) {
+            if (column.equals("*") || column.endsWith(".*"))
+                return null;
+            int aliasIndex = column.lastIndexOf(" AS ");
+            names.add(aliasIndex >= 0 ? column.substring(aliasIndex + 4) : column.substring(column.lastIndexOf('.') + 1));
+        }
+        return names;
+    }
+
+    /**
+     * Whether any select item is a window function.
+     */
+    public boolean hasWindowFunctions() {
+        return this.projections.stream().anyMatch(IProjection::isWindow);
+    }
+
+    /**
+     * Normalized text of the query with all values replaced by placeholders and IN lists collapsed, e.g.,
+     * "SELECT * FROM t WHERE col1 = ? AND col2 IN (?)". Queries that only differ in their values have the same fingerprint.
+     * The filters are written as they were added, since the {@link PredicateOptimizer} rewrites them based on their values.
+     */
+    public String fingerprint() throws SelectBuilderException {
+        FingerprintWriter writer = new FingerprintWriter();
+        this.withOptimizedFilters(false).render(writer, false);
+        return writer.toString();
+    }
+
+    /**
+     * 64-bit hash of the fingerprint, computed from the structure of the query and the dialect of its context
+     * without rendering any SQL. The hash is stable across JVM runs, so it can be used as a key outside of the application.
+     */
+    public long fingerprintHash() {
+        return new FingerprintHasher()
+                .putEnum(this.context == null ? EDialect.STANDARD : this.context.getSqlDialect())
+                .putLong(this.shapeHash())
+                .getHash();
+    }
+
+    /**
+     * Hash of everything but the values and the context, see {@link #fingerprintHash()}.
+     */
+    long shapeHash() {
+        // racy single-check like the hash
+        long shapeHash = this.shapeHash;
+        if (shapeHash == 0) {
+            FingerprintHasher hasher = new FingerprintHasher();
+            hasher.putString(this.tableName);
+            int columnCount = 0;
+            for (IProjection projection : this.projections)
+                columnCount += projection.hashShape(hasher);
+            hasher.putInt(columnCount);
+
+            hasher.putInt(this.filterConditions.size());
+            for (FilterCondition condition : this.filterConditions)
+                condition.hashShape(hasher);
+
+            // absent grouping and HAVING add nothing to the hash
+            if (this.groupBy != null) {
+                hasher.putString("GROUP BY");
+                this.groupBy.hashShape(hasher);
+            }
+            if (!this.havingConditions.isEmpty()) {
+                hasher.putString("HAVING").putInt(this.havingConditions.size());
+                for (FilterCondition condition : this.havingConditions)
+                    condition.hashShape(hasher);
+            }
+
+            hasher.putInt(this.orderByColumns.size());
+            for (OrderByColumn orderByColumn : this.orderByColumns)
+                orderByColumn.hashShape(hasher);
+
+            shapeHash = hasher.putBoolean(this.seekKey != null)
+                    .putInt(this.limitCount)
+                    .putInt(this.offsetCount)
+                    .getHash();
+            this.shapeHash = shapeHash;
+        }
+        return shapeHash;
+    }
+
+    public SelectTemplate compile(boolean isFinalStatement) throws SelectBuilderException {
+        TemplateWriter writer = new TemplateWriter(this.context == null ? null : this.context.freeze());
+        this.render(writer, isFinalStatement);
+        return writer.toTemplate();
+    }
+
+    public void render(SQLWriter writer, boolean isFinalStatement) throws SelectBuilderException {
+        if (this.tableName == null || this.tableName.isEmpty())
+            throw new SelectBuilderException("Table name can not be null or empty.");
+
+        if (this.projections.isEmpty())
+            throw new SelectBuilderException("Column names can't be empty.");
+
+        if (this.seekKey != null && this.seekKey.size() != this.orderByColumns.size())
+            throw new SelectBuilderException("Seek key must have one value per ORDER BY column.");
+
+        if (this.seekKey != null && this.seekKey.getValues().contains(null))
+            throw new SelectBuilderException("Seek key values can not be null.");
+
+        SelectUtil.checkInListSizes(this.context, this.filterConditions);
+
+        IDialectRenderer dialect = this.context == null
+                ? DialectRenderers.forDialect(EDialect.STANDARD)
+                : this.context.getDialectRenderer();
+
+        if (this.groupBy != null && this.groupBy.isEmpty() && this.groupBy.getGroupingType() != EGroupingType.GROUPING_SETS)
+            throw new SelectBuilderException("GROUP BY needs at least one column.");
+
+        if (this.groupBy != null && !dialect.supportsGrouping(this.groupBy.getGroupingType()))
+            throw new SelectBuilderException(this.groupBy.getGroupingType() + " is not supported for " + dialect.getDialect() + ".");
+
+        if (!dialect.supportsRangeFrameOffsets()) {
+            for (IProjection projection : this.projections)
+                for (WindowFunction windowFunction : projection.getWindowFunctions())
+                    if (windowFunction.hasRangeOffsets())
+                        throw new SelectBuilderException("RANGE frames with value offsets are not supported for " + dialect.getDialect() + ".");
+        }
+
+        /* SELECT */
+        writer.append("SELECT").append(' ');
+
+        /* TOP */
+        dialect.appendTop(writer, this.limitCount, this.offsetCount);
+
+        /* COLUMN NAMES */
+        int columnCount = 0;
+        for (IProjection projection : this.projections)
+            columnCount += projection.render(writer, dialect, columnCount == 0);
+        // lazy projections can turn out to be empty
+        if (columnCount == 0)
+            throw new SelectBuilderException("Column names can't be empty.");
+        writer.append(' ');
+
+        /* FROM */
+        writer.append("FROM").append(' ');
+        writer.append(this.tableName);
+
+        /* WHERE */
+        IPredicateNode optimizedFilter = this.isFilterOptimized ? this.getOptimizedFilter() : null;
+        boolean hasFilters = optimizedFilter != null ? !optimizedFilter.isAlwaysTrue() : !this.filterConditions.isEmpty();
+        if (hasFilters || this.seekKey != null)
+            writer.append(' ').append("WHERE").append(' ');
+
+        // the seek condition is ANDed to all other filters
+        boolean isFilterGroup = this.seekKey != null && hasFilters;
+        if (isFilterGroup)
+            writer.append('(');
+
+        if (optimizedFilter == null) {
+            for (FilterCondition condition : this.filterConditions)
+                condition.render(writer);
+        } else if (hasFilters)
+            optimizedFilter.render(writer);
+
+        if (isFilterGroup)
+            writer.append(')').append(" AND ");
+
+        if (this.seekKey != null)
+            SelectUtil.writeSeekCondition(writer, dialect, this.orderByColumns, this.seekKey);
+
+        /* GROUP BY */
+        if (this.groupBy != null) {
+            writer.append(' ').append("GROUP BY").append(' ');
+            dialect.appendGrouping(writer, this.groupBy);
+        }
+
+        /* HAVING */
+        if (!this.havingConditions.isEmpty()) {
+            writer.append(' ').append("HAVING").append(' ');
+            for (FilterCondition condition : this.havingConditions)
+                condition.render(writer);
+        }
+
+        /* ORDER BY */
+        if (!this.orderByColumns.isEmpty()) {
+            writer.append(' ').append("ORDER BY").append(' ');
+            for (int i = 0; i < this.orderByColumns.size(); i++) {
+                if (i > 0)
+                    writer.append(',');
+                this.orderByColumns.get(i).render(writer);
+            }
+        }
+
+        /* LIMIT / OFFSET */
+        dialect.appendLimit(writer, this.limitCount, this.offsetCount, !this.orderByColumns.isEmpty());
+
+        if (isFinalStatement)
+            writer.append(';');
+    }
+
+    private IPredicateNode getOptimizedFilter() {
+        // racy single-check like the hash: the tree is immutable, so optimizing twice is harmless
+        IPredicateNode optimizedFilter = this.optimizedFilter;
+        if (optimizedFilter == null) {
+            optimizedFilter = PredicateOptimizer.optimize(this.filterConditions);
+            this.optimizedFilter = optimizedFilter;
+        }
+        return optimizedFilter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof SelectQuery other))
+            return false;
+        return this.limitCount == other.limitCount
+                && this.offsetCount == other.offsetCount
+                && this.isFilterOptimized == other.isFilterOptimized
+                && this.hashCode() == other.hashCode()
+                && Objects.equals(this.tableName, other.tableName)
+                && this.projections.equals(other.projections)
+                && this.filterConditions.equals(other.filterConditions)
+                && Objects.equals(this.groupBy, other.groupBy)
+                && this.havingConditions.equals(other.havingConditions)
+                && this.orderByColumns.equals(other.orderByColumns)
+                && Objects.equals(this.seekKey, other.seekKey);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = Objects.hashCode(this.tableName);
+            hash = 31 * hash + this.projections.hashCode();
+            hash = 31 * hash + this.filterConditions.hashCode();
+            hash = 31 * hash + Objects.hashCode(this.groupBy);
+            hash = 31 * hash + this.havingConditions.hashCode();
+            hash = 31 * hash + this.orderByColumns.hashCode();
+            hash = 31 * hash + Objects.hashCode(this.seekKey);
+            hash = 31 * hash + this.limitCount;
+            hash = 31 * hash + this.offsetCount;
+            hash = 31 * hash + Boolean.hashCode(this.isFilterOptimized);
+            this.hash = hash;
+        }
+        return hash;
+    }
+}
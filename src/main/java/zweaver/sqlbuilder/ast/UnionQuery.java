@@ -0,0 +1,208 @@
+package zweaver.sqlbuilder.ast;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.EStatementType;
+import zweaver.sqlbuilder.enums.EUnionType;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.metrics.IRenderListener;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ByteBufferAppendable;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.FingerprintWriter;
+import zweaver.sqlbuilder.render.ParallelRenderer;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.RenderCache;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Immutable union of select statements. See {@link SelectQuery} for how variants share structure.
+ * The SQL cached by {@link RenderCache} is keyed on the dialect of the first query.
+ */
+public final class UnionQuery {
+    private final PersistentList<SelectQuery> queries;
+    private final PersistentList<EUnionType> unionTypes;
+    private int hash;
+    private long shapeHash;
+
+    public UnionQuery(SelectQuery initialQuery) throws UnionBuilderException {
+        if (initialQuery == null)
+            throw new UnionBuilderException("Query can not be null.");
+
+        this.queries = PersistentList.<SelectQuery>empty().plus(initialQuery);
+        this.unionTypes = PersistentList.empty();
+    }
+
+    UnionQuery(PersistentList<SelectQuery> queries, PersistentList<EUnionType> unionTypes) {
+        this.queries = queries;
+        this.unionTypes = unionTypes;
+    }
+
+    public PersistentList<SelectQuery> getQueries() { return this.queries; }
+
+    public PersistentList<EUnionType> getUnionTypes() { return this.unionTypes; }
+
+    public UnionQuery withUnion(SelectQuery query, EUnionType unionType) throws UnionBuilderException {
+        if (query == null)
+            throw new UnionBuilderException("Query can not be null.");
+
+        return new UnionQuery(this.queries.plus(query), this.unionTypes.plus(unionType));
+    }
+
+    /**
+     * This statement with frozen contexts on all its queries, see {@link SelectQuery#freeze()}.
+     */
+    public UnionQuery freeze() {
+        PersistentList<SelectQuery> queries = PersistentList.empty();
+        for (SelectQuery query : this.queries)
+            queries = queries.plus(query.freeze());
+        return new UnionQuery(queries, this.unionTypes);
+    }
+
+    public String build() throws SelectBuilderException {
+        SQLContext context = this.queries.getFirst().getContext();
+        IRenderListener listener = context == null ? null : context.getRenderListener();
+        long startTime = listener == null ? 0 : System.nanoTime();
+
+        RenderCache cache = context == null ? null : context.getRenderCache();
+        IDialectRenderer dialect = cache == null ? null : context.getDialectRenderer();
+        String sql = cache == null ? null : cache.get(this, dialect, true);
+        boolean isCacheHit = sql != null;
+        if (sql == null) {
+            sql = this.renderToString();
+            if (cache != null)
+                cache.put(this, dialect, true, sql);
+        }
+
+        if (listener != null) {
+            int filterCount = 0;
+            int inListElementCount = 0;
+            for (SelectQuery query : this.queries) {
+                filterCount += SelectUtil.countFilters(query.getFilterConditions());
+                inListElementCount += SelectUtil.countInListElements(query.getFilterConditions());
+            }
+            listener.onRender(new RenderEvent(EStatementType.UNION, System.nanoTime() - startTime, sql.length(), filterCount, inListElementCount, isCacheHit, this.fingerprintHash()));
+        }
+
+        SelectUtil.checkStatementLength(context, sql);
+        return sql;
+    }
+
+    private String renderToString() throws SelectBuilderException {
+        SQLContext context = this.queries.getFirst().getContext();
+        if (context != null && context.isParallelRender(this.queries.size()))
+            return ParallelRenderer.render(this.queries.size(), this::renderBranch, context.getParallelRenderExecutor());
+
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            this.render(writer);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    public void renderTo(Appendable out) throws SelectBuilderException, IOException {
+        try {
+            this.render(new SQLWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset) throws SelectBuilderException, IOException {
+        ByteBufferAppendable out = new ByteBufferAppendable(target, charset);
+        this.renderTo(out);
+        out.finish();
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        SQLContext context = this.queries.getFirst().getContext();
+        ParameterizedWriter writer = new ParameterizedWriter(context, placeholderStyle);
+        this.render(writer);
+        BoundStatement statement = writer.toBoundStatement();
+        SelectUtil.checkParameterCount(context, statement);
+        SelectUtil.checkStatementLength(context, statement.getSql());
+        return statement;
+    }
+
+    /**
+     * Normalized text of the statement, see {@link SelectQuery#fingerprint()}.
+     */
+    public String fingerprint() throws SelectBuilderException {
+        FingerprintWriter writer = new FingerprintWriter();
+        this.render(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Hash of the fingerprint computed without rendering, see {@link SelectQuery#fingerprintHash()}.
+     */
+    public long fingerprintHash() {
+        SQLContext context = this.queries.getFirst().getContext();
+        long shapeHash = this.shapeHash;
+        if (shapeHash == 0) {
+            FingerprintHasher hasher = new FingerprintHasher().putInt(this.queries.size());
+            for (int i = 0; i < this.queries.size(); i++) {
+                if (i > 0)
+                    hasher.putEnum(this.unionTypes.get(i - 1));
+                hasher.putLong(this.queries.get(i).shapeHash());
+            }
+            shapeHash = hasher.getHash();
+            this.shapeHash = shapeHash;
+        }
+
+        return new FingerprintHasher()
+                .putEnum(context == null ? EDialect.STANDARD : context.getSqlDialect())
+                .putLong(shapeHash)
+                .getHash();
+    }
+
+    public void render(SQLWriter writer) throws SelectBuilderException {
+        for (int i = 0; i < this.queries.size(); i++)
+            this.renderBranch(writer, i);
+    }
+
+    private void renderBranch(SQLWriter writer, int index) throws SelectBuilderException {
+        if (index > 0) {
+            writer.append(' ');
+            switch (this.unionTypes.get(index - 1)) {
+                case UNION -> writer.append("UNION");
+                case UNION_ALL -> writer.append("UNION ALL");
+            }
+            writer.append(' ');
+        }
+        this.queries.get(index).render(writer, index > 0 && index == this.queries.size() - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof UnionQuery other))
+            return false;
+        return this.hashCode() == other.hashCode()
+                && this.unionTypes.equals(other.unionTypes)
+                && this.queries.equals(other.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = 31 * this.queries.hashCode() + this.unionTypes.hashCode();
+            this.hash = hash;
+        }
+        return hash;
+    }
+}
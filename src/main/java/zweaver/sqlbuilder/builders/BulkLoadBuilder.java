@@ -0,0 +1,136 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.bulk.CsvRowEncoder;
+import zweaver.sqlbuilder.bulk.IRowEncoder;
+import zweaver.sqlbuilder.bulk.PgBinaryRowEncoder;
+import zweaver.sqlbuilder.bulk.TextRowEncoder;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.exceptions.BulkLoadBuilderException;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds bulk load statements ("COPY ... FROM STDIN" on Postgres and Vertica, "LOAD DATA LOCAL INFILE"
+ * on MySQL and MariaDB) together with the data to stream into them.
+ *
+ * {@link #build()} renders the statement and {@link #encode} writes the rows in the matching format,
+ * encoded as UTF-8. Every row is a list of values in column order.
+ */
+public final class BulkLoadBuilder {
+    private final SQLContext context;
+    private final String tableName;
+    private final List<TableColumn> columns;
+    private EBulkLoadFormat format;
+    private String fileName;
+
+    public BulkLoadBuilder(SQLContext context, String tableName) throws BulkLoadBuilderException {
+        if (tableName == null || tableName.isEmpty())
+            throw new BulkLoadBuilderException("Table name can not be empty.");
+
+        this.context = context;
+        this.tableName = tableName;
+        this.columns = new ArrayList<>();
+        this.format = EBulkLoadFormat.CSV;
+        this.fileName = "stdin";
+    }
+
+    /**
+     * Load into a table described by a {@link CreateTableBuilder}. The generated primary key is left out.
+     */
+    public BulkLoadBuilder(CreateTableBuilder table) throws BulkLoadBuilderException {
+        this(table.getContext(), table.getName());
+        this.addColumns(table.getColumns());
+    }
+
+    public BulkLoadBuilder addColumn(TableColumn column) throws BulkLoadBuilderException {
+        if (column == null)
+            throw new BulkLoadBuilderException("Column can not be null.");
+
+        if (this.columns.stream().anyMatch(col -> Objects.equals(col.getName(), column.getName())))
+            throw new BulkLoadBuilderException("Column name '" + column.getName() + "' already exists.");
+
+        this.columns.add(column);
+        return this;
+    }
+
+    public BulkLoadBuilder addColumns(List<TableColumn> columns) throws BulkLoadBuilderException {
+        for (TableColumn column : columns)
+            this.addColumn(column);
+        return this;
+    }
+
+    public BulkLoadBuilder setFormat(EBulkLoadFormat format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * File name of a LOAD DATA LOCAL INFILE statement. The MySQL and MariaDB drivers let the data be
+     * supplied as a stream for any name, so this only matters when the driver reads an actual file.
+     */
+    public BulkLoadBuilder setFileName(String fileName) {
+        this.fileName = fileName;
+        return this;
+    }
+
+    public String build() throws BulkLoadBuilderException {
+        this.validate();
+
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            this.context.getDialectRenderer().appendBulkLoad(writer, this.tableName, this.columns, this.format, this.fileName);
+            writer.append(';');
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    /**
+     * Write the rows to the given stream in the format expected by {@link #build()}. The stream is flushed but not closed.
+     * Rows with the wrong number of values throw an {@link IllegalArgumentException} when they are reached.
+     */
+    public void encode(Iterator<? extends List<?>> rows, OutputStream out) throws BulkLoadBuilderException, IOException {
+        this.validate();
+
+        IRowEncoder encoder = switch (this.format) {
+            case CSV -> new CsvRowEncoder(out, StandardCharsets.UTF_8, ',', this.context.getDialectRenderer().getBulkLoadNullToken());
+            case TEXT -> new TextRowEncoder(out, StandardCharsets.UTF_8);
+            case BINARY -> new PgBinaryRowEncoder(out, this.columns);
+        };
+
+        long rowNumber = 0;
+        while (rows.hasNext()) {
+            List<?> row = rows.next();
+            rowNumber++;
+            if (row.size() != this.columns.size())
+                throw new IllegalArgumentException("Row " + rowNumber + " has " + row.size()
+                        + " values but " + this.columns.size() + " columns were given.");
+            encoder.writeRow(row);
+        }
+        encoder.finish();
+    }
+
+    public void encode(Iterator<? extends List<?>> rows, WritableByteChannel channel) throws BulkLoadBuilderException, IOException {
+        this.encode(rows, Channels.newOutputStream(channel));
+    }
+
+    private void validate() throws BulkLoadBuilderException {
+        if (this.columns.isEmpty())
+            throw new BulkLoadBuilderException("Can not load into a table with no columns.");
+
+        if (!this.context.getDialectRenderer().supportsBulkLoad(this.format))
+            throw new BulkLoadBuilderException("Bulk loading in the " + this.format + " format is not supported for " + this.context.getSqlDialect() + ".");
+    }
+}
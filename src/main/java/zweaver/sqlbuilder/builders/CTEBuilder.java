@@ -1,67 +1,77 @@
 package zweaver.sqlbuilder.builders;
 
+import zweaver.sqlbuilder.ast.CTEQuery;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
 import zweaver.sqlbuilder.exceptions.CTEBuilderException;
 import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 public final class CTEBuilder {
-    private final List<String> names;
-    private final List<SelectBuilder> selectQueries;
-    private SelectBuilder mainQuery;
+    private CTEQuery query;
 
     public CTEBuilder() {
-        this.names = new ArrayList<>();
-        this.selectQueries = new ArrayList<>();
-        this.mainQuery = null;
+        this.query = new CTEQuery();
     }
 
-    public CTEBuilder addTable(String name, SelectBuilder selectQuery) throws CTEBuilderException {
-        if (name == null || name.isEmpty())
-            throw new CTEBuilderException("CTE name can not be empty.");
-
-        if (this.names.contains(name))
-            throw new CTEBuilderException("CTE with name '" + name + "' already exists.");
-
-        if (selectQuery == null)
-            throw new CTEBuilderException("CTE select query can not be null.");
+    public CTEBuilder(CTEQuery query) {
+        this.query = query;
+    }
 
-        this.names.add(name);
-        this.selectQueries.add(selectQuery);
+    /**
+     * Add a table to the CTE. The select query is captured as it is now; later changes
+     * to the select builder do not affect this CTE.
+     */
+    public CTEBuilder addTable(String name, SelectBuilder selectQuery) throws CTEBuilderException {
+        this.query = this.query.withTable(name, selectQuery == null ? null : selectQuery.toQuery());
         return this;
     }
 
     public CTEBuilder setQuery(SelectBuilder selectBuilder) throws CTEBuilderException {
-        if (selectBuilder == null)
-            throw new CTEBuilderException("Main query can not be null.");
-
-        this.mainQuery = selectBuilder;
+        this.query = this.query.withQuery(selectBuilder == null ? null : selectBuilder.toQuery());
         return this;
     }
 
+    public CTEQuery toQuery() { return this.query; }
+
+    /**
+     * Immutable snapshot of this statement with a frozen copy of its context. It can be shared and
+     * rendered from any number of threads while this builder keeps being changed.
+     */
+    public CTEQuery freeze() { return this.query.freeze(); }
+
     public String build() throws CTEBuilderException, SelectBuilderException {
-        if (this.names.isEmpty())
-            throw new CTEBuilderException("CTE does not have any tables.");
+        return this.query.build();
+    }
 
-        if (this.mainQuery == null)
-            throw new CTEBuilderException("CTE is missing a main query.");
+    /**
+     * Render the statement straight into the given sink. Every sub-query writes into the
+     * same sink, so no intermediate strings are built.
+     */
+    public void renderTo(Appendable out) throws CTEBuilderException, SelectBuilderException, IOException {
+        this.query.renderTo(out);
+    }
 
-        if (!this.names.contains(this.mainQuery.getTableName()))
-            throw new CTEBuilderException("Main query selects from non-existing table in CTE.");
+    public void renderTo(ByteBuffer target, Charset charset) throws CTEBuilderException, SelectBuilderException, IOException {
+        this.query.renderTo(target, charset);
+    }
 
-        StringBuilder cteBuilder = new StringBuilder();
+    public BoundStatement buildParameterized() throws CTEBuilderException, SelectBuilderException {
+        return this.buildParameterized(EPlaceholderStyle.POSITIONAL);
+    }
 
-        for (int i = 0; i < this.names.size(); i++) {
-            if (i == 0)
-                cteBuilder.append("WITH ");
-            cteBuilder.append(this.names.get(i)).append(" AS ( ");
-            cteBuilder.append(this.selectQueries.get(i).build(false)).append(" )");
-            if (i < this.names.size() - 1)
-                cteBuilder.append(", ");
-        }
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) throws CTEBuilderException, SelectBuilderException {
+        return this.query.buildParameterized(placeholderStyle);
+    }
+
+    public String fingerprint() throws CTEBuilderException, SelectBuilderException {
+        return this.query.fingerprint();
+    }
 
-        cteBuilder.append(' ').append(this.mainQuery.build(true));
-        return cteBuilder.toString();
+    public long fingerprintHash() {
+        return this.query.fingerprintHash();
     }
 }
@@ -2,9 +2,19 @@ package zweaver.sqlbuilder.builders;
 
 import zweaver.sqlbuilder.SQLContext;
 import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EStatementType;
 import zweaver.sqlbuilder.exceptions.CreateTableBuilderException;
-
+import zweaver.sqlbuilder.metrics.IRenderListener;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+import zweaver.sqlbuilder.render.ByteBufferAppendable;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -46,35 +56,72 @@ public final class CreateTableBuilder {
         return this;
     }
 
+    public SQLContext getContext() { return this.context; }
+
+    public String getName() { return this.name; }
+
+    public String getPrimaryKeyName() { return this.primaryKeyName; }
+
+    public List<TableColumn> getColumns() { return Collections.unmodifiableList(this.columns); }
+
     public String build() throws CreateTableBuilderException {
+        IRenderListener listener = this.context == null ? null : this.context.getRenderListener();
+        long startTime = listener == null ? 0 : System.nanoTime();
+
+        String sql;
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            this.render(writer);
+            sql = writer.toString();
+        } finally {
+            writer.release();
+        }
+
+        if (listener != null)
+            listener.onRender(new RenderEvent(EStatementType.CREATE_TABLE, System.nanoTime() - startTime, sql.length(), 0, 0, false, 0));
+        return sql;
+    }
+
+    public void renderTo(Appendable out) throws CreateTableBuilderException, IOException {
+        try {
+            this.render(new SQLWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset) throws CreateTableBuilderException, IOException {
+        ByteBufferAppendable out = new ByteBufferAppendable(target, charset);
+        this.renderTo(out);
+        out.finish();
+    }
+
+    private void render(SQLWriter writer) throws CreateTableBuilderException {
         if (this.columns.isEmpty())
             throw new CreateTableBuilderException("Can not create a table with no columns.");
 
-        StringBuilder tableBuilder = new StringBuilder();
-        tableBuilder.append("CREATE TABLE ");
+        writer.append("CREATE TABLE ");
 
         if (this.checkIfNotExists)
-            tableBuilder.append("IF NOT EXISTS ");
+            writer.append("IF NOT EXISTS ");
 
-        tableBuilder.append(this.name).append(" ( ");
+        writer.append(this.name).append(" ( ");
 
         // TODO: this likely depends on SQL dialect
         if (this.primaryKeyName != null) {
-            tableBuilder.append(this.primaryKeyName).append(' ');
-            tableBuilder.append("SERIAL PRIMARY KEY");
+            writer.append(this.primaryKeyName).append(' ');
+            writer.append("SERIAL PRIMARY KEY");
             if (!this.columns.isEmpty())
-                tableBuilder.append(", ");
+                writer.append(", ");
         }
 
         for (int i = 0; i < this.columns.size(); i++) {
-            TableColumn tableColumn = this.columns.get(i);
-            tableBuilder.append(tableColumn.toString());
+            this.columns.get(i).render(writer);
 
             if (i < this.columns.size() - 1)
-                tableBuilder.append(", ");
+                writer.append(", ");
         }
 
-        tableBuilder.append(");");
-        return tableBuilder.toString();
+        writer.append(");");
     }
 }
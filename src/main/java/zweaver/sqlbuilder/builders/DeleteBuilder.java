@@ -0,0 +1,183 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.exceptions.DeleteBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Builds DELETE statements with the same filters as {@link SelectBuilder}. Large deletes can be split
+ * into small transactions in two ways:
+ *
+ * {@link #buildKeyRanges} renders one statement per slice of a numeric key, e.g., "... AND id >= 0 AND id < 10000".
+ *
+ * {@link #buildBatch} renders a single statement that deletes at most a number of rows in the dialect of the
+ * {@link SQLContext} ("DELETE ... LIMIT n" on MySQL/MariaDB, "DELETE TOP (n)" on MSSQL and a subquery on the
+ * row id or a key column everywhere else). Execute it until it deletes fewer rows than the batch size.
+ */
+public final class DeleteBuilder {
+    private final SQLContext context;
+    private final String tableName;
+    private final WriteFilters filters;
+    private String batchKeyColumn;
+
+    public DeleteBuilder(SQLContext context, String tableName) throws DeleteBuilderException {
+        if (tableName == null || tableName.isEmpty())
+            throw new DeleteBuilderException("Table name can not be empty.");
+
+        this.context = context;
+        this.tableName = tableName;
+        this.filters = new WriteFilters();
+        this.batchKeyColumn = null;
+    }
+
+    public <T> DeleteBuilder filter(String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
+        this.filters.add(new FilterCondition(
+                new FilterPredicate(columnName, condition, value, valueIsQuoted), EFilterConjunction.NONE));
+        return this;
+    }
+
+    public DeleteBuilder filter(FilterGroupBuilder filterGroupBuilder) {
+        this.filters.add(filterGroupBuilder.toFilterCondition());
+        return this;
+    }
+
+    public DeleteBuilder and() {
+        this.filters.setConjunction(EFilterConjunction.AND);
+        return this;
+    }
+
+    public DeleteBuilder or() {
+        this.filters.setConjunction(EFilterConjunction.OR);
+        return this;
+    }
+
+    /**
+     * Unique column that picks the rows of a batch on dialects without a native DELETE limit.
+     * Defaults to the row id of the dialect (ctid on Postgres.)
+     */
+    public DeleteBuilder setBatchKeyColumn(String batchKeyColumn) {
+        this.batchKeyColumn = batchKeyColumn;
+        return this;
+    }
+
+    public SQLContext getContext() { return this.context; }
+
+    public String getTableName() { return this.tableName; }
+
+    public String build() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer, this.filters.snapshot(), null, 0, 0);
+        return writer.toString();
+    }
+
+    /**
+     * Build the statement with positional "?" placeholders in place of every filter value.
+     */
+    public BoundStatement buildParameterized() {
+        return this.buildParameterized(EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        this.render(writer, this.filters.snapshot(), null, 0, 0);
+        return writer.toBoundStatement();
+    }
+
+    /**
+     * Build a statement that deletes at most batchSize of the filtered rows. It is the same statement for
+     * every batch, so execute it until it deletes fewer than batchSize rows.
+     */
+    public String buildBatch(int batchSize) throws DeleteBuilderException {
+        SQLWriter writer = new SQLWriter();
+        this.renderBatch(writer, batchSize);
+        return writer.toString();
+    }
+
+    public BoundStatement buildBatchParameterized(int batchSize) throws DeleteBuilderException {
+        return this.buildBatchParameterized(batchSize, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildBatchParameterized(int batchSize, EPlaceholderStyle placeholderStyle) throws DeleteBuilderException {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        this.renderBatch(writer, batchSize);
+        return writer.toBoundStatement();
+    }
+
+    /**
+     * Lazily build one statement per slice of [fromKey, toKey) of the key column, each covering at most
+     * step keys. Use the minimum and maximum (plus one) of the key among the rows to delete.
+     */
+    public Iterator<String> buildKeyRanges(String keyColumn, long fromKey, long toKey, long step) throws DeleteBuilderException {
+        List<FilterCondition> conditions = this.checkKeyRange(keyColumn, fromKey, toKey, step);
+        return new KeyRangeIterator<>(fromKey, toKey, step) {
+            @Override
+            protected String render(long sliceFromKey, long sliceToKey) {
+                SQLWriter writer = new SQLWriter();
+                DeleteBuilder.this.render(writer, conditions, keyColumn, sliceFromKey, sliceToKey);
+                return writer.toString();
+            }
+        };
+    }
+
+    public Iterator<BoundStatement> buildKeyRangesParameterized(String keyColumn, long fromKey, long toKey, long step) throws DeleteBuilderException {
+        return this.buildKeyRangesParameterized(keyColumn, fromKey, toKey, step, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public Iterator<BoundStatement> buildKeyRangesParameterized(String keyColumn, long fromKey, long toKey, long step,
+                                                                EPlaceholderStyle placeholderStyle) throws DeleteBuilderException {
+        List<FilterCondition> conditions = this.checkKeyRange(keyColumn, fromKey, toKey, step);
+        return new KeyRangeIterator<>(fromKey, toKey, step) {
+            @Override
+            protected BoundStatement render(long sliceFromKey, long sliceToKey) {
+                ParameterizedWriter writer = new ParameterizedWriter(DeleteBuilder.this.context, placeholderStyle);
+                DeleteBuilder.this.render(writer, conditions, keyColumn, sliceFromKey, sliceToKey);
+                return writer.toBoundStatement();
+            }
+        };
+    }
+
+    private List<FilterCondition> checkKeyRange(String keyColumn, long fromKey, long toKey, long step) throws DeleteBuilderException {
+        if (keyColumn == null || keyColumn.isEmpty())
+            throw new DeleteBuilderException("Key column can not be empty.");
+        if (step <= 0)
+            throw new DeleteBuilderException("Key range step must be positive.");
+        if (fromKey > toKey)
+            throw new DeleteBuilderException("Key range start " + fromKey + " is after its end " + toKey + ".");
+        return this.filters.snapshot();
+    }
+
+    private void render(SQLWriter writer, List<FilterCondition> conditions, String rangeColumn, long fromKey, long toKey) {
+        writer.append("DELETE FROM ").append(this.tableName);
+        WriteFilters.appendWhere(writer, conditions, rangeColumn, fromKey, toKey);
+        writer.append(';');
+    }
+
+    private void renderBatch(SQLWriter writer, int batchSize) throws DeleteBuilderException {
+        if (batchSize <= 0)
+            throw new DeleteBuilderException("Batch size must be positive.");
+
+        IDialectRenderer dialect = this.context.getDialectRenderer();
+        String batchKey = WriteFilters.resolveBatchKey(dialect, this.batchKeyColumn);
+        if (dialect.getWriteLimitStyle() == EWriteLimitStyle.SUBQUERY && batchKey == null)
+            throw new DeleteBuilderException("Batched deletes on " + dialect.getDialect() + " need a batch key column.");
+
+        writer.append("DELETE ");
+        if (dialect.getWriteLimitStyle() == EWriteLimitStyle.TOP)
+            writer.append("TOP (").append(batchSize).append(") ");
+        writer.append("FROM ").append(this.tableName);
+        WriteFilters.appendBatchWhere(writer, dialect, this.tableName, this.filters.snapshot(), batchKey, batchSize);
+        writer.append(';');
+    }
+}
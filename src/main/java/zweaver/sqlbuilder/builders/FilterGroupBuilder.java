@@ -1,23 +1,31 @@
 package zweaver.sqlbuilder.builders;
 
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.ast.PersistentList;
 import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
 import zweaver.sqlbuilder.enums.EFilterGroupType;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.SQLWriter;
 import zweaver.sqlbuilder.util.SelectUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public final class FilterGroupBuilder {
-    private final List<String> filterConditions;
+    private PersistentList<FilterPredicate> filterPredicates;
     private EFilterGroupType groupType;
 
     public FilterGroupBuilder() {
-        this.filterConditions = new ArrayList<>();
+        this.filterPredicates = PersistentList.empty();
         this.groupType = EFilterGroupType.ALL;
     }
 
     public <T> FilterGroupBuilder addFilter(String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
-        this.filterConditions.add(SelectUtil.buildFilterString(columnName, condition, value, valueIsQuoted));
+        this.filterPredicates = this.filterPredicates.plus(new FilterPredicate(columnName, condition, value, valueIsQuoted));
         return this;
     }
 
@@ -36,8 +44,41 @@ public final class FilterGroupBuilder {
         return this;
     }
 
+    /**
+     * Render the group on its own, e.g., "(col1 = 10 OR col2 = 20)".
+     */
+    public String build() {
+        SQLWriter writer = new SQLWriter();
+        SelectUtil.writeFilterGroup(writer, this.filterPredicates, this.groupType);
+        return writer.toString();
+    }
+
+    public BoundStatement buildParameterized() {
+        return this.buildParameterized(EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) {
+        ParameterizedWriter writer = new ParameterizedWriter(placeholderStyle);
+        SelectUtil.writeFilterGroup(writer, this.filterPredicates, this.groupType);
+        return writer.toBoundStatement();
+    }
+
     public List<String> getFilterConditions() {
-        return this.filterConditions;
+        List<String> filterConditions = new ArrayList<>(this.filterPredicates.size());
+        for (FilterPredicate predicate : this.filterPredicates)
+            filterConditions.add(predicate.toString());
+        return filterConditions;
+    }
+
+    public List<FilterPredicate> getFilterPredicates() {
+        return this.filterPredicates;
+    }
+
+    /**
+     * The immutable filter group this builder currently holds; later changes to the builder do not affect it.
+     */
+    public FilterCondition toFilterCondition() {
+        return new FilterCondition(this.filterPredicates, this.groupType, EFilterConjunction.NONE);
     }
 
     public EFilterGroupType getGroupType() {
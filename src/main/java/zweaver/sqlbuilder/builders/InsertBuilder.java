@@ -0,0 +1,173 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.InsertBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builds multi-row "INSERT INTO ... VALUES (...),(...)" statements from a stream of rows.
+ *
+ * Rows are consumed lazily: each statement is only rendered when it is requested from the returned
+ * iterator, so only one statement is ever held in memory. A new statement is started whenever the
+ * current one reaches the row, parameter or length limit. The parameter and length limits default
+ * to the ones of the {@link SQLContext}, or of its dialect if the context has none (e.g., 2100
+ * parameters on MSSQL.) The length limit is in UTF-8 encoded bytes.
+ *
+ * Every row is a list of values in column order. Values of text columns are quoted, null values
+ * are written as NULL. Rows with the wrong number of values throw an {@link IllegalArgumentException}
+ * when they are reached.
+ */
+public final class InsertBuilder {
+    private static final int DEFAULT_MAX_ROWS = 1000;
+
+    private final SQLContext context;
+    private final String tableName;
+    private final List<TableColumn> columns;
+    private int maxRowsPerStatement;
+    private int maxParametersPerStatement;
+    private int maxStatementLength;
+
+    public InsertBuilder(SQLContext context, String tableName) throws InsertBuilderException {
+        if (tableName == null || tableName.isEmpty())
+            throw new InsertBuilderException("Table name can not be empty.");
+
+        this.context = context;
+        this.tableName = tableName;
+        this.columns = new ArrayList<>();
+        this.maxRowsPerStatement = DEFAULT_MAX_ROWS;
+        // statements are split instead of rejected, so the limits of the dialect apply unless the context has its own
+        this.maxParametersPerStatement = context.getMaxParameters() > 0 ? context.getMaxParameters() : context.getDialectRenderer().getMaxParameters();
+        this.maxStatementLength = context.getMaxStatementLength() > 0 ? context.getMaxStatementLength() : context.getDialectRenderer().getMaxStatementLength();
+    }
+
+    public InsertBuilder addColumn(TableColumn column) throws InsertBuilderException {
+        if (column == null)
+            throw new InsertBuilderException("Column can not be null.");
+
+        if (this.columns.stream().anyMatch(col -> Objects.equals(col.getName(), column.getName())))
+            throw new InsertBuilderException("Column name '" + column.getName() + "' already exists.");
+
+        this.columns.add(column);
+        return this;
+    }
+
+    public InsertBuilder addColumns(List<TableColumn> columns) throws InsertBuilderException {
+        for (TableColumn column : columns)
+            this.addColumn(column);
+        return this;
+    }
+
+    public InsertBuilder setMaxRowsPerStatement(int maxRowsPerStatement) throws InsertBuilderException {
+        if (maxRowsPerStatement <= 0)
+            throw new InsertBuilderException("Maximum rows per statement must be positive.");
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        return this;
+    }
+
+    /**
+     * Maximum number of placeholders in one parameterized statement. Use 0 for no limit.
+     */
+    public InsertBuilder setMaxParametersPerStatement(int maxParametersPerStatement) {
+        this.maxParametersPerStatement = maxParametersPerStatement;
+        return this;
+    }
+
+    /**
+     * Maximum number of UTF-8 encoded bytes of one statement with inlined values (e.g., MySQL's max_allowed_packet.)
+     * Parameterized statements are only bounded by the row and parameter limits. Use 0 for no limit.
+     */
+    public InsertBuilder setMaxStatementLength(int maxStatementLength) {
+        this.maxStatementLength = maxStatementLength;
+        return this;
+    }
+
+    public int getMaxRowsPerStatement() { return this.maxRowsPerStatement; }
+
+    public int getMaxParametersPerStatement() { return this.maxParametersPerStatement; }
+
+    public int getMaxStatementLength() { return this.maxStatementLength; }
+
+    /**
+     * Lazily render the rows into statements with inlined values.
+     */
+    public Iterator<String> build(Iterator<? extends List<?>> rows) throws InsertBuilderException {
+        this.validate();
+        return this.chunk(rows, this.maxRowsPerStatement, this.maxStatementLength, null);
+    }
+
+    public Stream<String> build(Stream<? extends List<?>> rows) throws InsertBuilderException {
+        return InsertBuilder.toStream(this.build(rows.iterator())).onClose(rows::close);
+    }
+
+    /**
+     * Lazily render the rows into statements with positional "?" placeholders. Every statement
+     * except possibly the last has the same SQL, so they can be reused for JDBC batching.
+     */
+    public Iterator<BoundStatement> buildParameterized(Iterator<? extends List<?>> rows) throws InsertBuilderException {
+        return this.buildParameterized(rows, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public Iterator<BoundStatement> buildParameterized(Iterator<? extends List<?>> rows, EPlaceholderStyle placeholderStyle) throws InsertBuilderException {
+        this.validate();
+
+        int maxRows = this.maxRowsPerStatement;
+        if (this.maxParametersPerStatement > 0) {
+            if (this.columns.size() > this.maxParametersPerStatement)
+                throw new InsertBuilderException("A single row has more values than the parameter limit of " + this.maxParametersPerStatement + ".");
+            maxRows = Math.min(maxRows, this.maxParametersPerStatement / this.columns.size());
+        }
+
+        return this.chunk(rows, maxRows, 0, placeholderStyle);
+    }
+
+    public Stream<BoundStatement> buildParameterized(Stream<? extends List<?>> rows, EPlaceholderStyle placeholderStyle) throws InsertBuilderException {
+        return InsertBuilder.toStream(this.buildParameterized(rows.iterator(), placeholderStyle)).onClose(rows::close);
+    }
+
+    /**
+     * Render every statement with inlined values into the given sink, one statement per line.
+     */
+    public void renderTo(Appendable out, Iterator<? extends List<?>> rows) throws InsertBuilderException, IOException {
+        Iterator<String> statements = this.build(rows);
+        while (statements.hasNext())
+            out.append(statements.next()).append('\n');
+    }
+
+    private void validate() throws InsertBuilderException {
+        if (this.columns.isEmpty())
+            throw new InsertBuilderException("Can not insert into a table with no columns.");
+    }
+
+    private <T> Iterator<T> chunk(Iterator<? extends List<?>> rows, int maxRows, int maxLength, EPlaceholderStyle placeholderStyle) {
+        // later changes to the builder must not affect statements that are already being rendered
+        List<TableColumn> columns = List.copyOf(this.columns);
+
+        SQLWriter head = new SQLWriter();
+        head.append("INSERT INTO ").append(this.tableName).append(" (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                head.append(',');
+            head.append(columns.get(i).getName());
+        }
+        head.append(") VALUES ");
+
+        return new RowChunkIterator<>(this.context, rows, columns, head.toString(), "", maxRows, maxLength, placeholderStyle);
+    }
+
+    static <T> Stream<T> toStream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
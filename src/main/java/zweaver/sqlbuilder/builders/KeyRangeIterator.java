@@ -0,0 +1,39 @@
+package zweaver.sqlbuilder.builders;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Renders one statement per slice [from, from + step) of a key range per call to {@link #next()}.
+ * The last slice ends at the end of the range.
+ */
+abstract class KeyRangeIterator<T> implements Iterator<T> {
+    private final long toKey;
+    private final long step;
+    private long fromKey;
+
+    KeyRangeIterator(long fromKey, long toKey, long step) {
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.step = step;
+    }
+
+    protected abstract T render(long fromKey, long toKey);
+
+    @Override
+    public boolean hasNext() {
+        return this.fromKey < this.toKey;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext())
+            throw new NoSuchElementException();
+
+        // the remaining width is compared unsigned, so ranges wider than Long.MAX_VALUE do not overflow
+        long from = this.fromKey;
+        long to = Long.compareUnsigned(this.toKey - from, this.step) <= 0 ? this.toKey : from + this.step;
+        this.fromKey = to;
+        return this.render(from, to);
+    }
+}
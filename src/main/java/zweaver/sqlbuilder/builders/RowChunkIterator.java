@@ -0,0 +1,118 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Renders one multi-row statement per call to {@link #next()}: the head, as many rows as fit, the tail
+ * and a semicolon. A row that would push a statement over the length limit is kept back and starts the
+ * next statement. Rows are framed as "(...),(...)" unless a subclass frames them differently.
+ *
+ * Statements are {@link String}s, or {@link zweaver.sqlbuilder.render.BoundStatement}s if a placeholder style is given.
+ */
+class RowChunkIterator<T> implements Iterator<T> {
+    private final SQLContext context;
+    private final Iterator<? extends List<?>> rows;
+    private final List<TableColumn> columns;
+    private final String head;
+    private final String tail;
+    private final int maxRows;
+    private final int maxLength;
+    private final EPlaceholderStyle placeholderStyle;
+    private List<?> pendingRow;
+    private long rowNumber;
+
+    /**
+     * @param columns Columns in value order, must not change while the iterator is in use
+     */
+    RowChunkIterator(SQLContext context, Iterator<? extends List<?>> rows, List<TableColumn> columns, String head, String tail,
+                     int maxRows, int maxLength, EPlaceholderStyle placeholderStyle) {
+        this.context = context;
+        this.rows = rows;
+        this.columns = columns;
+        this.head = head;
+        this.tail = tail;
+        this.maxRows = maxRows;
+        this.maxLength = maxLength;
+        this.placeholderStyle = placeholderStyle;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pendingRow != null || this.rows.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext())
+            throw new NoSuchElementException();
+
+        StringBuilder statement = new StringBuilder(this.head.length() + this.tail.length() + 64 * this.columns.size());
+        SQLWriter writer = this.placeholderStyle == null
+                ? new SQLWriter(statement)
+                : new ParameterizedWriter(this.context, this.placeholderStyle);
+        writer.append(this.head);
+
+        long length = SelectUtil.utf8Length(this.head, 0, this.head.length());
+        long tailLength = SelectUtil.utf8Length(this.tail, 0, this.tail.length());
+        int rowCount = 0;
+        while (rowCount < this.maxRows && this.hasNext()) {
+            List<?> row = this.pendingRow != null ? this.pendingRow : this.rows.next();
+            this.pendingRow = null;
+            if (row.size() != this.columns.size())
+                throw new IllegalArgumentException("Row " + (this.rowNumber + 1) + " has " + row.size()
+                        + " values but " + this.columns.size() + " columns were given.");
+
+            int mark = statement.length();
+            this.renderRow(writer, row, rowCount == 0);
+
+            // only literal statements have a length limit, and they render into the statement buffer (+1 for the semicolon)
+            if (this.maxLength > 0) {
+                long rowLength = SelectUtil.utf8Length(statement, mark, statement.length());
+                if (length + rowLength + tailLength + 1 > this.maxLength) {
+                    if (rowCount == 0)
+                        throw new IllegalArgumentException("Row " + (this.rowNumber + 1) + " does not fit into the maximum statement length of " + this.maxLength + " bytes.");
+                    statement.setLength(mark);
+                    this.pendingRow = row;
+                    break;
+                }
+                length += rowLength;
+            }
+
+            rowCount++;
+            this.rowNumber++;
+        }
+        writer.append(this.tail).append(';');
+
+        if (writer instanceof ParameterizedWriter parameterizedWriter)
+            return (T) parameterizedWriter.toBoundStatement();
+        return (T) writer.toString();
+    }
+
+    protected void appendRowStart(SQLWriter writer, boolean isFirstRow) {
+        writer.append(isFirstRow ? "(" : ",(");
+    }
+
+    protected void appendRowEnd(SQLWriter writer) {
+        writer.append(')');
+    }
+
+    private void renderRow(SQLWriter writer, List<?> row, boolean isFirstRow) {
+        this.appendRowStart(writer, isFirstRow);
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.appendValue(row.get(i), this.columns.get(i).getDataType().isTextType());
+        }
+        this.appendRowEnd(writer);
+    }
+}
@@ -1,77 +1,195 @@
 package zweaver.sqlbuilder.builders;
 
 import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.GroupBy;
+import zweaver.sqlbuilder.OrderByColumn;
 import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.SeekKey;
+import zweaver.sqlbuilder.ast.SelectQuery;
+import zweaver.sqlbuilder.ast.UnionQuery;
 import zweaver.sqlbuilder.datatypes.IDataType;
+import zweaver.sqlbuilder.dialect.DialectRenderers;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EDialect;
 import zweaver.sqlbuilder.enums.EFilterCondition;
 import zweaver.sqlbuilder.enums.EFilterConjunction;
-import zweaver.sqlbuilder.enums.EFilterGroupType;
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
 import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.projection.ColumnSpec;
+import zweaver.sqlbuilder.projection.ICastPolicy;
+import zweaver.sqlbuilder.projection.IProjection;
+import zweaver.sqlbuilder.projection.Projections;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.render.SelectTemplate;
 import zweaver.sqlbuilder.util.SelectUtil;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 public final class SelectBuilder {
-    private final SQLContext context;
-    private String tableName;
-    private final List<String> columnNames;
-    private final List<FilterCondition> filterConditions;
-    private int limitCount;
+    private SelectQuery query;
 
     public SelectBuilder(SQLContext context) {
-        this.context = context;
-        this.tableName = null;
-        this.columnNames = new ArrayList<>();
-        this.filterConditions = new ArrayList<>();
-        this.limitCount = 0;
+        this.query = new SelectQuery(context);
+    }
+
+    /**
+     * Start from an existing query, e.g., a shared base query kept in a static field.
+     * The base query is never modified.
+     */
+    public SelectBuilder(SelectQuery query) {
+        this.query = query;
     }
 
     public SelectBuilder fromTable(String tableName) {
-        this.tableName = tableName;
+        this.query = this.query.withTable(tableName);
         return this;
     }
 
-    public String getTableName() { return this.tableName; }
+    public String getTableName() { return this.query.getTableName(); }
+
+    public SQLContext getContext() { return this.query.getContext(); }
+
+    /**
+     * The immutable query this builder currently holds. Taking it is O(1) and later
+     * changes to the builder do not affect it.
+     */
+    public SelectQuery toQuery() { return this.query; }
+
+    /**
+     * Immutable snapshot of this query with a frozen copy of its context. It can be shared and
+     * rendered from any number of threads while this builder keeps being changed.
+     */
+    public SelectQuery freeze() { return this.query.freeze(); }
 
     public SelectBuilder fromTableWithAlias(String tableName, String alias) {
-        this.tableName = new StringBuilder().append(tableName).append(" AS ").append(alias).toString();
-        return this;
+        return this.fromTable(new StringBuilder().append(tableName).append(" AS ").append(alias).toString());
     }
 
     public SelectBuilder selectAll() {
-        this.columnNames.add("*");
-        return this;
+        return this.select("*");
     }
 
     public SelectBuilder select(String columnName) {
-        this.columnNames.add(columnName);
+        this.query = this.query.withColumn(columnName);
         return this;
     }
 
     public SelectBuilder select(List<String> columnNames) {
-        this.columnNames.addAll(columnNames);
+        this.query = this.query.withColumns(columnNames);
         return this;
     }
 
     public SelectBuilder selectWithAlias(String columnName, String alias) {
-        this.columnNames.add(new StringBuilder().append(columnName).append(" AS ").append(alias).toString());
+        return this.select(new StringBuilder().append(columnName).append(" AS ").append(alias).toString());
+    }
+
+    /**
+     * Select items that are only read when the query is rendered, e.g., a lazily generated list of
+     * thousands of casts. See {@link Projections}.
+     */
+    public SelectBuilder select(IProjection projection) {
+        this.query = this.query.withProjection(projection);
         return this;
     }
 
+    /**
+     * Select every column of the schema, cast to the type chosen by the policy. See {@link Projections#schema}.
+     */
+    public SelectBuilder selectSchema(Iterable<TableColumn> columns, ICastPolicy castPolicy) {
+        return this.select(Projections.schema(columns, castPolicy));
+    }
+
     public SelectBuilder selectAndCast(String column, IDataType toDataType) {
-        String newColumnName = toDataType.castColumn(column);
-        return this.select(newColumnName);
+        return this.select(Projections.spec(new ColumnSpec(column, toDataType)));
     }
 
     public SelectBuilder selectAndCastWithAlias(String column, String alias, IDataType toDataType) {
-        String newColumnName = toDataType.castColumn(column);
-        return this.selectWithAlias(newColumnName, alias);
+        return this.select(Projections.spec(new ColumnSpec(column, toDataType, alias)));
+    }
+
+    /**
+     * Select an aggregate of a column, e.g., SUM(amount). Use "*" as the column for COUNT(*).
+     */
+    public SelectBuilder selectAggregate(EAggregateFunction function, String columnName) {
+        return this.select(Projections.aggregate(function, columnName, null));
+    }
+
+    public SelectBuilder selectAggregateWithAlias(EAggregateFunction function, String columnName, String alias) {
+        return this.select(Projections.aggregate(function, columnName, alias));
+    }
+
+    /**
+     * Select a window function, e.g., a rank or a running total. Use null for no alias.
+     */
+    public SelectBuilder selectWindow(WindowFunctionBuilder windowFunctionBuilder, String alias) {
+        return this.select(Projections.window(windowFunctionBuilder.toWindowFunction(), alias));
+    }
+
+    public SelectBuilder groupBy(List<String> columnNames) {
+        this.query = this.query.withGroupBy(new GroupBy(EGroupingType.COLUMNS, columnNames));
+        return this;
+    }
+
+    /**
+     * Group by every prefix of the columns plus a grand total, e.g., subtotals per region and country.
+     */
+    public SelectBuilder groupByRollup(List<String> columnNames) {
+        this.query = this.query.withGroupBy(new GroupBy(EGroupingType.ROLLUP, columnNames));
+        return this;
+    }
+
+    public SelectBuilder groupByCube(List<String> columnNames) {
+        this.query = this.query.withGroupBy(new GroupBy(EGroupingType.CUBE, columnNames));
+        return this;
+    }
+
+    /**
+     * Group by each of the given column sets in one query. An empty set is the grand total.
+     */
+    public SelectBuilder groupByGroupingSets(List<List<String>> groupingSets) {
+        this.query = this.query.withGroupBy(new GroupBy(groupingSets));
+        return this;
+    }
+
+    /**
+     * Filter the groups on an aggregate, e.g., HAVING COUNT(*) > 10. The aggregate is written in the
+     * dialect of this builder's context. HAVING filters are joined with AND.
+     */
+    public <T> SelectBuilder having(EAggregateFunction function, String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
+        IDialectRenderer dialect = this.query.getContext() == null
+                ? DialectRenderers.forDialect(EDialect.STANDARD)
+                : this.query.getContext().getDialectRenderer();
+        SQLWriter aggregate = new SQLWriter();
+        dialect.appendAggregate(aggregate, function, columnName);
+
+        this.query = this.query.withHaving(new FilterCondition(
+                new FilterPredicate(aggregate.toString(), condition, value, valueIsQuoted), EFilterConjunction.NONE));
+        return this;
+    }
+
+    /**
+     * Filter the groups on a group of conditions whose column names are aggregate expressions, e.g., "SUM(a) - SUM(b)".
+     */
+    public SelectBuilder having(FilterGroupBuilder filterGroupBuilder) {
+        this.query = this.query.withHaving(filterGroupBuilder.toFilterCondition());
+        return this;
     }
 
     public <T> SelectBuilder filter(String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
-        String filterCondition = SelectUtil.buildFilterString(columnName, condition, value, valueIsQuoted);
-        this.addFilterCondition(filterCondition);
+        this.query = this.query.withFilter(new FilterCondition(
+                new FilterPredicate(columnName, condition, value, valueIsQuoted), EFilterConjunction.NONE));
         return this;
     }
 
@@ -81,91 +199,158 @@ public final class SelectBuilder {
     }
 
     public SelectBuilder filter(FilterGroupBuilder filterGroupBuilder) {
-        StringBuilder filterBuilder = new StringBuilder();
-        filterBuilder.append('(');
-        List<String> filterBuilderConditions = filterGroupBuilder.getFilterConditions();
-        for (int i = 0; i < filterBuilderConditions.size(); i++) {
-            filterBuilder.append(filterBuilderConditions.get(i));
-            if (i < filterBuilderConditions.size() - 1) {
-                switch (filterGroupBuilder.getGroupType()) {
-                    case EFilterGroupType.ALL -> filterBuilder.append(" AND ");
-                    case EFilterGroupType.ANY -> filterBuilder.append(" OR ");
-                }
-            }
-        }
-        filterBuilder.append(')');
-        this.addFilterCondition(filterBuilder.toString());
+        this.query = this.query.withFilter(filterGroupBuilder.toFilterCondition());
+        return this;
+    }
+
+    public SelectBuilder orderBy(String columnName) {
+        return this.orderBy(columnName, ESortOrder.ASC);
+    }
+
+    public SelectBuilder orderBy(String columnName, ESortOrder sortOrder) {
+        this.query = this.query.withOrderBy(new OrderByColumn(columnName, sortOrder));
+        return this;
+    }
+
+    /**
+     * Keyset pagination: only return rows after the last key of the previous page, one value per
+     * ORDER BY column. Combined with {@link #limit(int)} every page costs the same as the first one
+     * as long as the ORDER BY columns are covered by an index. Use null for the first page.
+     * Seek values are bound by {@link #buildParameterized} but stay inlined in compiled templates.
+     */
+    public SelectBuilder seekAfter(List<?> lastKey, boolean valuesAreQuoted) {
+        return this.seekAfter(lastKey, lastKey == null ? null : Collections.nCopies(lastKey.size(), valuesAreQuoted));
+    }
+
+    public SelectBuilder seekAfter(List<?> lastKey, List<Boolean> valuesAreQuoted) {
+        this.query = this.query.withSeekKey(lastKey == null ? null : new SeekKey(lastKey, valuesAreQuoted));
         return this;
     }
 
     public SelectBuilder limit(int limitCount) {
-        this.limitCount = limitCount;
+        this.query = this.query.withLimit(limitCount);
         return this;
     }
 
-    public SelectBuilder and() {
-        if (!this.filterConditions.isEmpty())
-            this.filterConditions.getLast().setConjunction(EFilterConjunction.AND);
+    /**
+     * Skip the first rows of the result. Prefer {@link #seekAfter} for deep pagination since the
+     * database still has to read every skipped row.
+     */
+    public SelectBuilder offset(int offsetCount) {
+        this.query = this.query.withOffset(offsetCount);
+        return this;
+    }
 
+    /**
+     * Simplify the filters before they are rendered, e.g., "col = 1 OR col = 2" becomes "col IN (1,2)"
+     * and "col > 1 AND col > 5" becomes "col > 5". See {@link zweaver.sqlbuilder.optimizer.PredicateOptimizer}.
+     * Since merged filters share one value slot, templates compiled from an optimized query have
+     * the slots of the optimized filters.
+     */
+    public SelectBuilder optimizeFilters() {
+        this.query = this.query.withOptimizedFilters(true);
         return this;
     }
 
-    public SelectBuilder or() {
-        if (!this.filterConditions.isEmpty())
-            this.filterConditions.getLast().setConjunction(EFilterConjunction.OR);
+    public SelectBuilder and() {
+        this.query = this.query.withConjunction(EFilterConjunction.AND);
+        return this;
+    }
 
+    public SelectBuilder or() {
+        this.query = this.query.withConjunction(EFilterConjunction.OR);
         return this;
     }
 
     public String build(boolean isFinalStatement) throws SelectBuilderException {
-        if (this.tableName == null || this.tableName.isEmpty())
-            throw new SelectBuilderException("Table name can not be null or empty.");
-
-        if (this.columnNames.isEmpty())
-            throw new SelectBuilderException("Column names can't be empty.");
-
-        /* SELECT */
-        StringBuilder queryBuilder = new StringBuilder();
-        queryBuilder.append("SELECT").append(' ');
-
-        /* COLUMN NAMES */
-        for (int i = 0; i < this.columnNames.size(); i++) {
-            queryBuilder.append(this.columnNames.get(i));
-            if (i < this.columnNames.size() - 1)
-                queryBuilder.append(',');
-        }
-        queryBuilder.append(' ');
-
-        /* FROM */
-        queryBuilder.append("FROM").append(' ');
-        queryBuilder.append(this.tableName);
-
-        /* WHERE */
-        if (!this.filterConditions.isEmpty())
-            queryBuilder.append(' ').append("WHERE").append(' ');
-
-        for (FilterCondition condition : this.filterConditions)
-            queryBuilder.append(condition.toString());
-
-        /* LIMIT */
-        if (this.limitCount > 0) {
-            queryBuilder.append(' ');
-            queryBuilder.append("LIMIT").append(' ').append(this.limitCount);
-        }
-
-        if (isFinalStatement)
-            queryBuilder.append(';');
-        return queryBuilder.toString();
-    }
-
-    private void addFilterCondition(String filterCondition) {
-        if (this.filterConditions.isEmpty())
-            this.filterConditions.add(new FilterCondition(filterCondition, EFilterConjunction.NONE));
-        else {
-            // if no conjunction was set, default to AND
-            if (this.filterConditions.getLast().getConjunction() == EFilterConjunction.NONE)
-                this.filterConditions.getLast().setConjunction(EFilterConjunction.AND);
-            this.filterConditions.add(new FilterCondition(filterCondition, EFilterConjunction.NONE));
-        }
+        return this.query.build(isFinalStatement);
+    }
+
+    /**
+     * Render the query straight into the given sink without building an intermediate string.
+     */
+    public void renderTo(Appendable out, boolean isFinalStatement) throws SelectBuilderException, IOException {
+        this.query.renderTo(out, isFinalStatement);
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset, boolean isFinalStatement) throws SelectBuilderException, IOException {
+        this.query.renderTo(target, charset, isFinalStatement);
+    }
+
+    /**
+     * Build the query with positional "?" placeholders in place of every filter value.
+     * The values are returned alongside the SQL in placeholder order.
+     */
+    public BoundStatement buildParameterized(boolean isFinalStatement) throws SelectBuilderException {
+        return this.buildParameterized(isFinalStatement, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildParameterized(boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        return this.query.buildParameterized(isFinalStatement, placeholderStyle);
+    }
+
+    /**
+     * Build the query as a lazy sequence of statements that each cover a slice of its largest IN list,
+     * so that no statement exceeds the length or IN list limits of the {@link SQLContext}. Execute them
+     * (in parallel if you like) and concatenate the results. See {@link SelectQuery#buildSplit(boolean)}.
+     */
+    public Iterator<String> buildSplit(boolean isFinalStatement) throws SelectBuilderException {
+        return this.query.buildSplit(isFinalStatement);
+    }
+
+    public Iterator<BoundStatement> buildSplitParameterized(boolean isFinalStatement) throws SelectBuilderException {
+        return this.buildSplitParameterized(isFinalStatement, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public Iterator<BoundStatement> buildSplitParameterized(boolean isFinalStatement, EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        return this.query.buildSplitParameterized(isFinalStatement, placeholderStyle);
+    }
+
+    /**
+     * Split the largest IN list within the IN list limit of the {@link SQLContext} and UNION ALL the slices into one statement.
+     */
+    public UnionQuery toSplitUnion() throws SelectBuilderException {
+        return this.query.toSplitUnion();
+    }
+
+    /**
+     * Keep the first n rows of every partition in ORDER BY order, e.g., the top 3 scores per game, with the rank
+     * in a "row_num" column. The rows are ranked by the database in a CTE, see {@link SelectQuery#toTopNPerGroup}.
+     */
+    public CTEBuilder topNPerGroup(List<String> partitionColumns, int n) throws SelectBuilderException, CTEBuilderException {
+        return this.topNPerGroup(partitionColumns, n, "row_num");
+    }
+
+    public CTEBuilder topNPerGroup(List<String> partitionColumns, int n, String rankColumn) throws SelectBuilderException, CTEBuilderException {
+        return new CTEBuilder(this.query.toTopNPerGroup(partitionColumns, n, rankColumn));
+    }
+
+    /**
+     * Normalized text of the query for grouping statements that only differ in their values, e.g.,
+     * "SELECT * FROM t WHERE col1 = ? AND col2 IN (?)". See {@link SelectQuery#fingerprint()}.
+     */
+    public String fingerprint() throws SelectBuilderException {
+        return this.query.fingerprint();
+    }
+
+    /**
+     * 64-bit hash of the fingerprint, computed from the builder structure without rendering.
+     */
+    public long fingerprintHash() {
+        return this.query.fingerprintHash();
+    }
+
+    /**
+     * Freeze the current shape of this query into an immutable {@link SelectTemplate}.
+     * The template keeps the rendered SQL around every filter value so that new values can be
+     * spliced in without rendering the statement again. Later changes to this builder do not
+     * affect the template.
+     */
+    public SelectTemplate compile() throws SelectBuilderException {
+        return this.compile(true);
+    }
+
+    public SelectTemplate compile(boolean isFinalStatement) throws SelectBuilderException {
+        return this.query.compile(isFinalStatement);
     }
 }
@@ -1,60 +1,80 @@
 package zweaver.sqlbuilder.builders;
 
+import zweaver.sqlbuilder.ast.SelectQuery;
+import zweaver.sqlbuilder.ast.UnionQuery;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
 import zweaver.sqlbuilder.enums.EUnionType;
 import zweaver.sqlbuilder.exceptions.SelectBuilderException;
 import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 public final class UnionBuilder {
-    private final List<SelectBuilder> queries;
-    private final List<EUnionType> unionTypes;
+    private UnionQuery query;
 
     public UnionBuilder(SelectBuilder initialQuery) throws UnionBuilderException {
-        if (initialQuery == null)
-            throw new UnionBuilderException("Query can not be null.");
-
-        this.queries = new ArrayList<>();
-        this.queries.add(initialQuery);
-
-        this.unionTypes = new ArrayList<>();
+        this.query = new UnionQuery(initialQuery == null ? null : initialQuery.toQuery());
     }
 
+    /**
+     * The select query is captured as it is now; later changes to the select builder do not affect this union.
+     */
     public UnionBuilder union(SelectBuilder query) throws UnionBuilderException {
-        return this.unionGeneric(query, EUnionType.UNION);
+        return this.unionGeneric(query == null ? null : query.toQuery(), EUnionType.UNION);
     }
 
+    /**
+     * The select query is captured as it is now; later changes to the select builder do not affect this union.
+     */
     public UnionBuilder unionAll(SelectBuilder query) throws UnionBuilderException {
-        return this.unionGeneric(query, EUnionType.UNION_ALL);
+        return this.unionGeneric(query == null ? null : query.toQuery(), EUnionType.UNION_ALL);
     }
 
+    public UnionQuery toQuery() { return this.query; }
+
+    /**
+     * Immutable snapshot of this statement with a frozen copy of its context. It can be shared and
+     * rendered from any number of threads while this builder keeps being changed.
+     */
+    public UnionQuery freeze() { return this.query.freeze(); }
+
     public String build() throws SelectBuilderException {
-        StringBuilder unionBuilder = new StringBuilder();
-        unionBuilder.append(this.queries.getFirst().build(false));
-        for (int i = 1; i < this.queries.size(); i++) {
-            unionBuilder.append(' ');
-            switch (this.unionTypes.get(i - 1)) {
-                case UNION -> unionBuilder.append("UNION");
-                case UNION_ALL -> unionBuilder.append("UNION ALL");
-            }
-            unionBuilder.append(' ');
-            if (i < this.queries.size() - 1)
-                unionBuilder.append(this.queries.get(i).build(false));
-            else
-                unionBuilder.append(this.queries.get(i).build(true));
-        }
-
-
-        return unionBuilder.toString();
-    }
-
-    private UnionBuilder unionGeneric(SelectBuilder query, EUnionType unionType) throws UnionBuilderException {
-        if (query == null)
-            throw new UnionBuilderException("Query can not be null.");
-
-        this.queries.add(query);
-        this.unionTypes.add(unionType);
+        return this.query.build();
+    }
+
+    /**
+     * Render the statement straight into the given sink. Every sub-query writes into the
+     * same sink, so no intermediate strings are built.
+     */
+    public void renderTo(Appendable out) throws SelectBuilderException, IOException {
+        this.query.renderTo(out);
+    }
+
+    public void renderTo(ByteBuffer target, Charset charset) throws SelectBuilderException, IOException {
+        this.query.renderTo(target, charset);
+    }
+
+    public BoundStatement buildParameterized() throws SelectBuilderException {
+        return this.buildParameterized(EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) throws SelectBuilderException {
+        return this.query.buildParameterized(placeholderStyle);
+    }
+
+    public String fingerprint() throws SelectBuilderException {
+        return this.query.fingerprint();
+    }
+
+    public long fingerprintHash() {
+        return this.query.fingerprintHash();
+    }
+
+    private UnionBuilder unionGeneric(SelectQuery query, EUnionType unionType) throws UnionBuilderException {
+        this.query = this.query.withUnion(query, unionType);
         return this;
     }
 }
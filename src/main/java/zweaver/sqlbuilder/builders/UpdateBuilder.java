@@ -0,0 +1,248 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.exceptions.UpdateBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.ParameterizedWriter;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds UPDATE statements with the same filters as {@link SelectBuilder}, split into key ranges or
+ * limited batches like {@link DeleteBuilder}. A batch is the same statement every time, so its filters
+ * must exclude the rows that were already updated (e.g., "status <> 'archived'") or it never finishes.
+ */
+public final class UpdateBuilder {
+    private final SQLContext context;
+    private final String tableName;
+    private final List<Assignment> assignments;
+    private final WriteFilters filters;
+    private String batchKeyColumn;
+
+    public UpdateBuilder(SQLContext context, String tableName) throws UpdateBuilderException {
+        if (tableName == null || tableName.isEmpty())
+            throw new UpdateBuilderException("Table name can not be empty.");
+
+        this.context = context;
+        this.tableName = tableName;
+        this.assignments = new ArrayList<>();
+        this.filters = new WriteFilters();
+        this.batchKeyColumn = null;
+    }
+
+    /**
+     * Set a column to a value. A null value is written as NULL.
+     */
+    public <T> UpdateBuilder set(String columnName, T value, boolean valueIsQuoted) throws UpdateBuilderException {
+        this.addAssignment(new Assignment(columnName, value, valueIsQuoted, null));
+        return this;
+    }
+
+    /**
+     * Set a column to a SQL expression that is written as is, e.g., "retries + 1".
+     */
+    public UpdateBuilder setExpression(String columnName, String expression) throws UpdateBuilderException {
+        if (expression == null || expression.isEmpty())
+            throw new UpdateBuilderException("Expression for column '" + columnName + "' can not be empty.");
+        this.addAssignment(new Assignment(columnName, null, false, expression));
+        return this;
+    }
+
+    public <T> UpdateBuilder filter(String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
+        this.filters.add(new FilterCondition(
+                new FilterPredicate(columnName, condition, value, valueIsQuoted), EFilterConjunction.NONE));
+        return this;
+    }
+
+    public UpdateBuilder filter(FilterGroupBuilder filterGroupBuilder) {
+        this.filters.add(filterGroupBuilder.toFilterCondition());
+        return this;
+    }
+
+    public UpdateBuilder and() {
+        this.filters.setConjunction(EFilterConjunction.AND);
+        return this;
+    }
+
+    public UpdateBuilder or() {
+        this.filters.setConjunction(EFilterConjunction.OR);
+        return this;
+    }
+
+    /**
+     * Unique column that picks the rows of a batch on dialects without a native UPDATE limit.
+     * Defaults to the row id of the dialect (ctid on Postgres.)
+     */
+    public UpdateBuilder setBatchKeyColumn(String batchKeyColumn) {
+        this.batchKeyColumn = batchKeyColumn;
+        return this;
+    }
+
+    public SQLContext getContext() { return this.context; }
+
+    public String getTableName() { return this.tableName; }
+
+    public String build() throws UpdateBuilderException {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer, this.snapshotAssignments(), this.filters.snapshot(), null, 0, 0);
+        return writer.toString();
+    }
+
+    /**
+     * Build the statement with positional "?" placeholders in place of every value.
+     */
+    public BoundStatement buildParameterized() throws UpdateBuilderException {
+        return this.buildParameterized(EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildParameterized(EPlaceholderStyle placeholderStyle) throws UpdateBuilderException {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        this.render(writer, this.snapshotAssignments(), this.filters.snapshot(), null, 0, 0);
+        return writer.toBoundStatement();
+    }
+
+    /**
+     * Build a statement that updates at most batchSize of the filtered rows, see {@link DeleteBuilder#buildBatch(int)}.
+     */
+    public String buildBatch(int batchSize) throws UpdateBuilderException {
+        SQLWriter writer = new SQLWriter();
+        this.renderBatch(writer, batchSize);
+        return writer.toString();
+    }
+
+    public BoundStatement buildBatchParameterized(int batchSize) throws UpdateBuilderException {
+        return this.buildBatchParameterized(batchSize, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public BoundStatement buildBatchParameterized(int batchSize, EPlaceholderStyle placeholderStyle) throws UpdateBuilderException {
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        this.renderBatch(writer, batchSize);
+        return writer.toBoundStatement();
+    }
+
+    /**
+     * Lazily build one statement per slice of [fromKey, toKey) of the key column, see {@link DeleteBuilder#buildKeyRanges}.
+     */
+    public Iterator<String> buildKeyRanges(String keyColumn, long fromKey, long toKey, long step) throws UpdateBuilderException {
+        List<Assignment> assignments = this.snapshotAssignments();
+        List<FilterCondition> conditions = this.checkKeyRange(keyColumn, fromKey, toKey, step);
+        return new KeyRangeIterator<>(fromKey, toKey, step) {
+            @Override
+            protected String render(long sliceFromKey, long sliceToKey) {
+                SQLWriter writer = new SQLWriter();
+                UpdateBuilder.this.render(writer, assignments, conditions, keyColumn, sliceFromKey, sliceToKey);
+                return writer.toString();
+            }
+        };
+    }
+
+    public Iterator<BoundStatement> buildKeyRangesParameterized(String keyColumn, long fromKey, long toKey, long step) throws UpdateBuilderException {
+        return this.buildKeyRangesParameterized(keyColumn, fromKey, toKey, step, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public Iterator<BoundStatement> buildKeyRangesParameterized(String keyColumn, long fromKey, long toKey, long step,
+                                                                EPlaceholderStyle placeholderStyle) throws UpdateBuilderException {
+        List<Assignment> assignments = this.snapshotAssignments();
+        List<FilterCondition> conditions = this.checkKeyRange(keyColumn, fromKey, toKey, step);
+        return new KeyRangeIterator<>(fromKey, toKey, step) {
+            @Override
+            protected BoundStatement render(long sliceFromKey, long sliceToKey) {
+                ParameterizedWriter writer = new ParameterizedWriter(UpdateBuilder.this.context, placeholderStyle);
+                UpdateBuilder.this.render(writer, assignments, conditions, keyColumn, sliceFromKey, sliceToKey);
+                return writer.toBoundStatement();
+            }
+        };
+    }
+
+    private void addAssignment(Assignment assignment) throws UpdateBuilderException {
+        if (assignment.columnName == null || assignment.columnName.isEmpty())
+            throw new UpdateBuilderException("Column name can not be empty.");
+
+        if (this.assignments.stream().anyMatch(existing -> Objects.equals(existing.columnName, assignment.columnName)))
+            throw new UpdateBuilderException("Column '" + assignment.columnName + "' is already set.");
+
+        this.assignments.add(assignment);
+    }
+
+    private List<Assignment> snapshotAssignments() throws UpdateBuilderException {
+        if (this.assignments.isEmpty())
+            throw new UpdateBuilderException("Update needs at least one column to set.");
+        return List.copyOf(this.assignments);
+    }
+
+    private List<FilterCondition> checkKeyRange(String keyColumn, long fromKey, long toKey, long step) throws UpdateBuilderException {
+        if (keyColumn == null || keyColumn.isEmpty())
+            throw new UpdateBuilderException("Key column can not be empty.");
+        if (step <= 0)
+            throw new UpdateBuilderException("Key range step must be positive.");
+        if (fromKey > toKey)
+            throw new UpdateBuilderException("Key range start " + fromKey + " is after its end " + toKey + ".");
+        return this.filters.snapshot();
+    }
+
+    private void render(SQLWriter writer, List<Assignment> assignments, List<FilterCondition> conditions, String rangeColumn, long fromKey, long toKey) {
+        writer.append("UPDATE ").append(this.tableName);
+        UpdateBuilder.appendAssignments(writer, assignments);
+        WriteFilters.appendWhere(writer, conditions, rangeColumn, fromKey, toKey);
+        writer.append(';');
+    }
+
+    private void renderBatch(SQLWriter writer, int batchSize) throws UpdateBuilderException {
+        if (batchSize <= 0)
+            throw new UpdateBuilderException("Batch size must be positive.");
+
+        List<Assignment> assignments = this.snapshotAssignments();
+        IDialectRenderer dialect = this.context.getDialectRenderer();
+        String batchKey = WriteFilters.resolveBatchKey(dialect, this.batchKeyColumn);
+        if (dialect.getWriteLimitStyle() == EWriteLimitStyle.SUBQUERY && batchKey == null)
+            throw new UpdateBuilderException("Batched updates on " + dialect.getDialect() + " need a batch key column.");
+
+        writer.append("UPDATE ");
+        if (dialect.getWriteLimitStyle() == EWriteLimitStyle.TOP)
+            writer.append("TOP (").append(batchSize).append(") ");
+        writer.append(this.tableName);
+        UpdateBuilder.appendAssignments(writer, assignments);
+        WriteFilters.appendBatchWhere(writer, dialect, this.tableName, this.filters.snapshot(), batchKey, batchSize);
+        writer.append(';');
+    }
+
+    private static void appendAssignments(SQLWriter writer, List<Assignment> assignments) {
+        writer.append(" SET ");
+        for (int i = 0; i < assignments.size(); i++) {
+            if (i > 0)
+                writer.append(", ");
+
+            Assignment assignment = assignments.get(i);
+            writer.append(assignment.columnName).append(" = ");
+            if (assignment.expression != null)
+                writer.append(assignment.expression);
+            else
+                writer.appendValue(assignment.value, assignment.valueIsQuoted);
+        }
+    }
+
+    private static final class Assignment {
+        private final String columnName;
+        private final Object value;
+        private final boolean valueIsQuoted;
+        private final String expression;
+
+        private Assignment(String columnName, Object value, boolean valueIsQuoted, String expression) {
+            this.columnName = columnName;
+            this.value = value;
+            this.valueIsQuoted = valueIsQuoted;
+            this.expression = expression;
+        }
+    }
+}
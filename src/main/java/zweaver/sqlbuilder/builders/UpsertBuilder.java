@@ -0,0 +1,228 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.UpsertBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Builds multi-row upserts: rows whose key is not in the table yet are inserted, rows whose key is
+ * already there update the existing row. Every statement is a single round trip in the dialect of the
+ * {@link SQLContext}: "INSERT ... ON CONFLICT DO UPDATE" on Postgres, "INSERT ... ON DUPLICATE KEY UPDATE"
+ * on MySQL/MariaDB and "MERGE" everywhere else.
+ *
+ * Rows are consumed lazily and split into statements like {@link InsertBuilder} does. The key
+ * columns must be covered by a unique index (MySQL/MariaDB check all unique keys of the table), and
+ * the rows of one statement must have distinct keys.
+ */
+public final class UpsertBuilder {
+    private static final int DEFAULT_MAX_ROWS = 1000;
+
+    private final SQLContext context;
+    private final String tableName;
+    private final List<TableColumn> columns;
+    private final List<String> keyColumns;
+    private List<String> updateColumns;
+    private int maxRowsPerStatement;
+    private int maxParametersPerStatement;
+    private int maxStatementLength;
+
+    public UpsertBuilder(SQLContext context, String tableName) throws UpsertBuilderException {
+        if (tableName == null || tableName.isEmpty())
+            throw new UpsertBuilderException("Table name can not be empty.");
+
+        this.context = context;
+        this.tableName = tableName;
+        this.columns = new ArrayList<>();
+        this.keyColumns = new ArrayList<>();
+        this.updateColumns = null;
+        this.maxRowsPerStatement = DEFAULT_MAX_ROWS;
+        // statements are split instead of rejected, so the limits of the dialect apply unless the context has its own
+        this.maxParametersPerStatement = context.getMaxParameters() > 0 ? context.getMaxParameters() : context.getDialectRenderer().getMaxParameters();
+        this.maxStatementLength = context.getMaxStatementLength() > 0 ? context.getMaxStatementLength() : context.getDialectRenderer().getMaxStatementLength();
+    }
+
+    public UpsertBuilder addColumn(TableColumn column) throws UpsertBuilderException {
+        if (column == null)
+            throw new UpsertBuilderException("Column can not be null.");
+
+        if (this.hasColumn(column.getName()))
+            throw new UpsertBuilderException("Column name '" + column.getName() + "' already exists.");
+
+        this.columns.add(column);
+        return this;
+    }
+
+    public UpsertBuilder addColumns(List<TableColumn> columns) throws UpsertBuilderException {
+        for (TableColumn column : columns)
+            this.addColumn(column);
+        return this;
+    }
+
+    /**
+     * Add a column that identifies a row. It must also be added with {@link #addColumn(TableColumn)}.
+     */
+    public UpsertBuilder addKeyColumn(String columnName) throws UpsertBuilderException {
+        if (this.keyColumns.contains(columnName))
+            throw new UpsertBuilderException("Key column '" + columnName + "' already exists.");
+
+        this.keyColumns.add(columnName);
+        return this;
+    }
+
+    public UpsertBuilder addKeyColumns(List<String> columnNames) throws UpsertBuilderException {
+        for (String columnName : columnNames)
+            this.addKeyColumn(columnName);
+        return this;
+    }
+
+    /**
+     * The columns that are overwritten when the key already exists. Defaults to all columns that
+     * are not key columns; an empty list leaves existing rows as they are (insert if absent.)
+     */
+    public UpsertBuilder setUpdateColumns(List<String> columnNames) {
+        this.updateColumns = new ArrayList<>(columnNames);
+        return this;
+    }
+
+    public UpsertBuilder setMaxRowsPerStatement(int maxRowsPerStatement) throws UpsertBuilderException {
+        if (maxRowsPerStatement <= 0)
+            throw new UpsertBuilderException("Maximum rows per statement must be positive.");
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        return this;
+    }
+
+    /**
+     * Maximum number of placeholders in one parameterized statement. Use 0 for no limit.
+     */
+    public UpsertBuilder setMaxParametersPerStatement(int maxParametersPerStatement) {
+        this.maxParametersPerStatement = maxParametersPerStatement;
+        return this;
+    }
+
+    /**
+     * Maximum number of UTF-8 encoded bytes of one statement with inlined values. Use 0 for no limit.
+     */
+    public UpsertBuilder setMaxStatementLength(int maxStatementLength) {
+        this.maxStatementLength = maxStatementLength;
+        return this;
+    }
+
+    public int getMaxRowsPerStatement() { return this.maxRowsPerStatement; }
+
+    public int getMaxParametersPerStatement() { return this.maxParametersPerStatement; }
+
+    public int getMaxStatementLength() { return this.maxStatementLength; }
+
+    /**
+     * Lazily render the rows into statements with inlined values.
+     */
+    public Iterator<String> build(Iterator<? extends List<?>> rows) throws UpsertBuilderException {
+        return this.chunk(rows, this.maxRowsPerStatement, this.maxStatementLength, null);
+    }
+
+    public Stream<String> build(Stream<? extends List<?>> rows) throws UpsertBuilderException {
+        return InsertBuilder.toStream(this.build(rows.iterator())).onClose(rows::close);
+    }
+
+    /**
+     * Lazily render the rows into statements with positional "?" placeholders. Every statement
+     * except possibly the last has the same SQL, so they can be reused for JDBC batching.
+     */
+    public Iterator<BoundStatement> buildParameterized(Iterator<? extends List<?>> rows) throws UpsertBuilderException {
+        return this.buildParameterized(rows, EPlaceholderStyle.POSITIONAL);
+    }
+
+    public Iterator<BoundStatement> buildParameterized(Iterator<? extends List<?>> rows, EPlaceholderStyle placeholderStyle) throws UpsertBuilderException {
+        int maxRows = this.maxRowsPerStatement;
+        if (this.maxParametersPerStatement > 0) {
+            if (this.columns.size() > this.maxParametersPerStatement)
+                throw new UpsertBuilderException("A single row has more values than the parameter limit of " + this.maxParametersPerStatement + ".");
+            maxRows = Math.min(maxRows, this.maxParametersPerStatement / Math.max(1, this.columns.size()));
+        }
+
+        return this.chunk(rows, maxRows, 0, placeholderStyle);
+    }
+
+    public Stream<BoundStatement> buildParameterized(Stream<? extends List<?>> rows, EPlaceholderStyle placeholderStyle) throws UpsertBuilderException {
+        return InsertBuilder.toStream(this.buildParameterized(rows.iterator(), placeholderStyle)).onClose(rows::close);
+    }
+
+    /**
+     * Render every statement with inlined values into the given sink, one statement per line.
+     */
+    public void renderTo(Appendable out, Iterator<? extends List<?>> rows) throws UpsertBuilderException, IOException {
+        Iterator<String> statements = this.build(rows);
+        while (statements.hasNext())
+            out.append(statements.next()).append('\n');
+    }
+
+    private boolean hasColumn(String columnName) {
+        return this.columns.stream().anyMatch(column -> Objects.equals(column.getName(), columnName));
+    }
+
+    private List<String> resolveUpdateColumns() throws UpsertBuilderException {
+        if (this.columns.isEmpty())
+            throw new UpsertBuilderException("Can not upsert into a table with no columns.");
+
+        if (this.keyColumns.isEmpty())
+            throw new UpsertBuilderException("Upsert needs at least one key column.");
+
+        for (String keyColumn : this.keyColumns) {
+            if (!this.hasColumn(keyColumn))
+                throw new UpsertBuilderException("Key column '" + keyColumn + "' is not a column of the upsert.");
+        }
+
+        if (this.updateColumns == null) {
+            List<String> updateColumns = new ArrayList<>();
+            for (TableColumn column : this.columns) {
+                if (!this.keyColumns.contains(column.getName()))
+                    updateColumns.add(column.getName());
+            }
+            return updateColumns;
+        }
+
+        for (String updateColumn : this.updateColumns) {
+            if (!this.hasColumn(updateColumn))
+                throw new UpsertBuilderException("Update column '" + updateColumn + "' is not a column of the upsert.");
+            if (this.keyColumns.contains(updateColumn))
+                throw new UpsertBuilderException("Key column '" + updateColumn + "' can not be updated.");
+        }
+        return List.copyOf(this.updateColumns);
+    }
+
+    private <T> Iterator<T> chunk(Iterator<? extends List<?>> rows, int maxRows, int maxLength, EPlaceholderStyle placeholderStyle) throws UpsertBuilderException {
+        List<String> updateColumns = this.resolveUpdateColumns();
+        // later changes to the builder must not affect statements that are already being rendered
+        List<TableColumn> columns = List.copyOf(this.columns);
+        List<String> keyColumns = List.copyOf(this.keyColumns);
+        IDialectRenderer dialect = this.context.getDialectRenderer();
+
+        SQLWriter head = new SQLWriter();
+        dialect.appendUpsertHead(head, this.tableName, columns);
+        SQLWriter tail = new SQLWriter();
+        dialect.appendUpsertTail(tail, columns, keyColumns, updateColumns);
+
+        return new RowChunkIterator<>(this.context, rows, columns, head.toString(), tail.toString(), maxRows, maxLength, placeholderStyle) {
+            @Override
+            protected void appendRowStart(SQLWriter writer, boolean isFirstRow) {
+                dialect.appendUpsertRowStart(writer, isFirstRow);
+            }
+
+            @Override
+            protected void appendRowEnd(SQLWriter writer) {
+                dialect.appendUpsertRowEnd(writer);
+            }
+        };
+    }
+}
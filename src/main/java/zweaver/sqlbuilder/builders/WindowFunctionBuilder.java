@@ -0,0 +1,107 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.OrderByColumn;
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.enums.EFrameUnit;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.enums.EWindowFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a window function for {@link SelectBuilder#selectWindow}, e.g., a rank or a running total:
+ *
+ * new WindowFunctionBuilder(EWindowFunction.SUM, "amount").partitionBy("account").orderBy("day").rowsBetween(WindowFunction.UNBOUNDED_PRECEDING, WindowFunction.CURRENT_ROW)
+ *
+ * Ranking functions and LAG/LEAD need an ORDER BY on most databases.
+ */
+public final class WindowFunctionBuilder {
+    private final EWindowFunction function;
+    private final String columnName;
+    private int offset;
+    private final List<String> partitionColumns;
+    private final List<OrderByColumn> orderByColumns;
+    private EFrameUnit frameUnit;
+    private long frameStart;
+    private long frameEnd;
+
+    /**
+     * A ranking function (ROW_NUMBER, RANK, DENSE_RANK.)
+     */
+    public WindowFunctionBuilder(EWindowFunction function) {
+        this(function, null);
+    }
+
+    public WindowFunctionBuilder(EWindowFunction function, String columnName) {
+        this.function = function;
+        this.columnName = columnName;
+        this.offset = 1;
+        this.partitionColumns = new ArrayList<>();
+        this.orderByColumns = new ArrayList<>();
+        this.frameUnit = null;
+    }
+
+    /**
+     * How many rows LAG looks back or LEAD looks ahead. Defaults to 1.
+     */
+    public WindowFunctionBuilder offset(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public WindowFunctionBuilder partitionBy(String columnName) {
+        this.partitionColumns.add(columnName);
+        return this;
+    }
+
+    public WindowFunctionBuilder partitionBy(List<String> columnNames) {
+        this.partitionColumns.addAll(columnNames);
+        return this;
+    }
+
+    public WindowFunctionBuilder orderBy(String columnName) {
+        return this.orderBy(columnName, ESortOrder.ASC);
+    }
+
+    public WindowFunctionBuilder orderBy(String columnName, ESortOrder sortOrder) {
+        this.orderByColumns.add(new OrderByColumn(columnName, sortOrder));
+        return this;
+    }
+
+    /**
+     * Frame of physical rows around the current row, see {@link WindowFunction} for the bounds.
+     */
+    public WindowFunctionBuilder rowsBetween(long frameStart, long frameEnd) {
+        return this.frame(EFrameUnit.ROWS, frameStart, frameEnd);
+    }
+
+    /**
+     * Frame of rows whose ORDER BY value is within the bounds of the current row's value.
+     */
+    public WindowFunctionBuilder rangeBetween(long frameStart, long frameEnd) {
+        return this.frame(EFrameUnit.RANGE, frameStart, frameEnd);
+    }
+
+    private WindowFunctionBuilder frame(EFrameUnit frameUnit, long frameStart, long frameEnd) {
+        this.frameUnit = frameUnit;
+        this.frameStart = frameStart;
+        this.frameEnd = frameEnd;
+        return this;
+    }
+
+    /**
+     * Render the window function on its own, e.g., "ROW_NUMBER() OVER (PARTITION BY a ORDER BY b DESC)".
+     */
+    public String build() {
+        return this.toWindowFunction().toString();
+    }
+
+    /**
+     * The immutable window function this builder currently holds; later changes to the builder do not affect it.
+     */
+    public WindowFunction toWindowFunction() {
+        return new WindowFunction(this.function, this.columnName, this.offset, this.partitionColumns, this.orderByColumns,
+                this.frameUnit, this.frameStart, this.frameEnd);
+    }
+}
@@ -0,0 +1,110 @@
+package zweaver.sqlbuilder.builders;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The WHERE clause of an {@link UpdateBuilder} or {@link DeleteBuilder}. Filters are added like they
+ * are on a {@link SelectBuilder}: if the previous filter has no conjunction yet it defaults to AND.
+ */
+final class WriteFilters {
+    private final List<FilterCondition> conditions;
+
+    WriteFilters() {
+        this.conditions = new ArrayList<>();
+    }
+
+    void add(FilterCondition condition) {
+        int lastIndex = this.conditions.size() - 1;
+        if (lastIndex >= 0 && this.conditions.get(lastIndex).getConjunction() == EFilterConjunction.NONE)
+            this.conditions.set(lastIndex, this.conditions.get(lastIndex).withConjunction(EFilterConjunction.AND));
+        this.conditions.add(condition);
+    }
+
+    /**
+     * Set the conjunction between the last filter and the next one.
+     */
+    void setConjunction(EFilterConjunction conjunction) {
+        int lastIndex = this.conditions.size() - 1;
+        if (lastIndex >= 0)
+            this.conditions.set(lastIndex, this.conditions.get(lastIndex).withConjunction(conjunction));
+    }
+
+    boolean isEmpty() { return this.conditions.isEmpty(); }
+
+    /**
+     * Copy of the filters, so later changes to the builder do not affect statements that are already being rendered.
+     */
+    List<FilterCondition> snapshot() { return List.copyOf(this.conditions); }
+
+    /**
+     * Write " WHERE ..." for the filters, with "rangeColumn >= fromKey AND rangeColumn < toKey" ANDed to them
+     * if a range column is given. Nothing is written if there are neither filters nor a range.
+     */
+    static void appendWhere(SQLWriter writer, List<FilterCondition> conditions, String rangeColumn, long fromKey, long toKey) {
+        boolean hasRange = rangeColumn != null;
+        if (conditions.isEmpty() && !hasRange)
+            return;
+
+        writer.append(' ').append("WHERE").append(' ');
+
+        // the range is ANDed to all other filters
+        boolean isFilterGroup = hasRange && !conditions.isEmpty();
+        if (isFilterGroup)
+            writer.append('(');
+
+        for (FilterCondition condition : conditions)
+            condition.render(writer);
+
+        if (isFilterGroup)
+            writer.append(')').append(" AND ");
+
+        if (hasRange) {
+            new FilterPredicate(rangeColumn, EFilterCondition.GREATER_THAN_EQUAL, fromKey, false).render(writer);
+            writer.append(" AND ");
+            new FilterPredicate(rangeColumn, EFilterCondition.LESS_THAN, toKey, false).render(writer);
+        }
+    }
+
+    /**
+     * Write the WHERE clause of a statement that changes at most batchSize rows. {@link EWriteLimitStyle#TOP}
+     * goes after the verb, so it is left to the caller; {@link EWriteLimitStyle#SUBQUERY} selects the
+     * batch by batchKey, e.g., " WHERE ctid IN (SELECT ctid FROM t WHERE ... LIMIT 1000)".
+     */
+    static void appendBatchWhere(SQLWriter writer, IDialectRenderer dialect, String tableName, List<FilterCondition> conditions,
+                                 String batchKey, int batchSize) {
+        switch (dialect.getWriteLimitStyle()) {
+            case LIMIT -> {
+                WriteFilters.appendWhere(writer, conditions, null, 0, 0);
+                writer.append(" LIMIT ").append(batchSize);
+            }
+            case TOP -> WriteFilters.appendWhere(writer, conditions, null, 0, 0);
+            case SUBQUERY -> {
+                writer.append(" WHERE ").append(batchKey).append(" IN (SELECT ");
+                dialect.appendTop(writer, batchSize, 0);
+                writer.append(batchKey).append(" FROM ").append(tableName);
+                WriteFilters.appendWhere(writer, conditions, null, 0, 0);
+                dialect.appendLimit(writer, batchSize, 0, false);
+                writer.append(')');
+            }
+        }
+    }
+
+    /**
+     * The column that picks the rows of a {@link EWriteLimitStyle#SUBQUERY} batch: the given key column,
+     * else the row id of the dialect. Null if neither exists.
+     */
+    static String resolveBatchKey(IDialectRenderer dialect, String keyColumn) {
+        if (dialect.getWriteLimitStyle() != EWriteLimitStyle.SUBQUERY)
+            return null;
+        return keyColumn != null ? keyColumn : dialect.getRowIdColumn();
+    }
+}
@@ -62,8 +62,8 @@ public class ConnectionBuilder {
     private String toJDBCString() {
         StringBuilder connectionBuilder = new StringBuilder();
         connectionBuilder.append("jdbc:");
-        String driverName = this.getDriverName();
-        this.port = this.port == -1 ? this.getDefaultPort() : this.port;
+        String driverName = this.context.getDialectRenderer().getDriverName();
+        this.port = this.port == -1 ? this.context.getDialectRenderer().getDefaultPort() : this.port;
         connectionBuilder
                 .append(driverName)
                 .append("://")
@@ -77,30 +77,6 @@ public class ConnectionBuilder {
         return connectionBuilder.toString();
     }
 
-    private String getDriverName() {
-        return switch (this.context.getSqlDialect()) {
-            case STANDARD -> "";
-            case POSTGRES -> "postgresql";
-            case MYSQL -> "mysql";
-            case DB2 -> "db2";
-            case MSSQL -> "microsoft:sqlserver";
-            case MARIADB -> "mariadb";
-            case VERTICA -> "vertica";
-        };
-    }
-
-    private int getDefaultPort() {
-        return switch (this.context.getSqlDialect()) {
-            case STANDARD -> 0;
-            case POSTGRES -> 5432;
-            case MYSQL -> 3306;
-            case DB2 -> 50000;
-            case MSSQL -> 1433;
-            case MARIADB -> 3306;
-            case VERTICA -> 5433;
-        };
-    }
-
     private String toODBCString() {
         return "";
     }
@@ -0,0 +1,77 @@
+package zweaver.sqlbuilder.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV rows terminated by '\n'. Fields containing the delimiter, a quote or a line break
+ * are quoted with embedded quotes doubled. Null values are written as the null token unquoted, so a
+ * value equal to the null token is always quoted to keep the two apart.
+ */
+public final class CsvRowEncoder implements IRowEncoder {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private final char delimiter;
+    private final String nullToken;
+
+    public CsvRowEncoder(OutputStream out, Charset charset, char delimiter, String nullToken) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+        this.delimiter = delimiter;
+        this.nullToken = nullToken;
+    }
+
+    @Override
+    public void writeRow(List<?> row) throws IOException {
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0)
+                this.out.write(this.delimiter);
+
+            Object value = row.get(i);
+            if (value == null)
+                this.out.write(this.nullToken);
+            else
+                this.writeField(String.valueOf(value));
+        }
+        this.out.write('\n');
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!value.equals(this.nullToken) && !this.needsQuotes(value)) {
+            this.out.write(value);
+            return;
+        }
+
+        this.out.write('"');
+        int start = 0;
+        int quote = value.indexOf('"');
+        while (quote >= 0) {
+            // copy up to and including the quote, then write it a second time
+            this.out.write(value, start, quote + 1 - start);
+            this.out.write('"');
+            start = quote + 1;
+            quote = value.indexOf('"', start);
+        }
+        this.out.write(value, start, value.length() - start);
+        this.out.write('"');
+    }
+
+    private boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == this.delimiter || character == '"' || character == '\n' || character == '\r')
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.out.flush();
+    }
+}
@@ -0,0 +1,13 @@
+package zweaver.sqlbuilder.bulk;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes rows in a bulk load data format. Encoders buffer their output; call {@link #finish()}
+ * after the last row to write any trailer and flush. The underlying stream is not closed.
+ */
+public interface IRowEncoder {
+    public void writeRow(List<?> row) throws IOException;
+    public void finish() throws IOException;
+}
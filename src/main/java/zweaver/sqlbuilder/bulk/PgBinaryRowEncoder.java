@@ -0,0 +1,161 @@
+package zweaver.sqlbuilder.bulk;
+
+import zweaver.sqlbuilder.datatypes.IDataType;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.exceptions.BulkLoadBuilderException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Postgres binary COPY format. The wire format of every field depends on the column type, so
+ * only columns with a known binary representation are supported: integer, floating point and
+ * boolean types, bytea and text types.
+ *
+ * Values that do not fit their column (e.g., 70000 in a SMALLINT or a string in an INTEGER) and rows
+ * with the wrong number of values throw an {@link IllegalArgumentException} naming the row and column.
+ */
+public final class PgBinaryRowEncoder implements IRowEncoder {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+    private enum FieldType { INT2, INT4, INT8, FLOAT4, FLOAT8, BOOL, BYTEA, TEXT }
+
+    private final DataOutputStream out;
+    private final FieldType[] fieldTypes;
+    private final String[] columnNames;
+    private boolean isHeaderWritten;
+    private long rowNumber;
+
+    public PgBinaryRowEncoder(OutputStream out, List<TableColumn> columns) throws BulkLoadBuilderException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        this.fieldTypes = new FieldType[columns.size()];
+        this.columnNames = new String[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            this.fieldTypes[i] = PgBinaryRowEncoder.fieldType(columns.get(i));
+            this.columnNames[i] = columns.get(i).getName();
+        }
+        this.isHeaderWritten = false;
+        this.rowNumber = 0;
+    }
+
+    private static FieldType fieldType(TableColumn column) throws BulkLoadBuilderException {
+        IDataType dataType = column.getDataType();
+        String typeName = dataType.toString().toUpperCase(Locale.ROOT);
+        int arguments = typeName.indexOf('(');
+        if (arguments >= 0)
+            typeName = typeName.substring(0, arguments).trim();
+
+        return switch (typeName) {
+            case "SMALLINT", "INT2" -> FieldType.INT2;
+            case "INTEGER", "INT", "INT4" -> FieldType.INT4;
+            case "BIGINT", "INT8" -> FieldType.INT8;
+            case "REAL", "FLOAT4" -> FieldType.FLOAT4;
+            case "DOUBLE PRECISION", "FLOAT8" -> FieldType.FLOAT8;
+            case "BOOLEAN", "BOOL" -> FieldType.BOOL;
+            case "BYTEA" -> FieldType.BYTEA;
+            default -> {
+                // text, varchar, char, ... all send their bytes as-is
+                if (dataType.isTextType())
+                    yield FieldType.TEXT;
+                throw new BulkLoadBuilderException("Column '" + column.getName() + "' of type " + typeName
+                        + " has no binary encoding, use the CSV or TEXT format instead.");
+            }
+        };
+    }
+
+    @Override
+    public void writeRow(List<?> row) throws IOException {
+        this.rowNumber++;
+        if (row.size() != this.fieldTypes.length)
+            throw new IllegalArgumentException("Row " + this.rowNumber + " has " + row.size()
+                    + " values but " + this.fieldTypes.length + " columns were given.");
+
+        this.writeHeader();
+        this.out.writeShort(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            Object value = row.get(i);
+            if (value == null) {
+                this.out.writeInt(-1);
+                continue;
+            }
+
+            switch (this.fieldTypes[i]) {
+                case INT2 -> { this.out.writeInt(2); this.out.writeShort((int) this.toInteger(value, i, Short.MIN_VALUE, Short.MAX_VALUE)); }
+                case INT4 -> { this.out.writeInt(4); this.out.writeInt((int) this.toInteger(value, i, Integer.MIN_VALUE, Integer.MAX_VALUE)); }
+                case INT8 -> { this.out.writeInt(8); this.out.writeLong(this.toInteger(value, i, Long.MIN_VALUE, Long.MAX_VALUE)); }
+                case FLOAT4 -> { this.out.writeInt(4); this.out.writeFloat(this.cast(value, Number.class, i).floatValue()); }
+                case FLOAT8 -> { this.out.writeInt(8); this.out.writeDouble(this.cast(value, Number.class, i).doubleValue()); }
+                case BOOL -> { this.out.writeInt(1); this.out.writeByte(this.cast(value, Boolean.class, i) ? 1 : 0); }
+                case BYTEA -> {
+                    byte[] bytes = this.cast(value, byte[].class, i);
+                    this.out.writeInt(bytes.length);
+                    this.out.write(bytes);
+                }
+                case TEXT -> {
+                    byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+                    this.out.writeInt(bytes.length);
+                    this.out.write(bytes);
+                }
+            }
+        }
+    }
+
+    private long toInteger(Object value, int columnIndex, long min, long max) {
+        Number number = this.cast(value, Number.class, columnIndex);
+        long integer;
+        try {
+            integer = switch (number) {
+                case Long l -> l;
+                case Integer n -> n;
+                case Short n -> n;
+                case Byte n -> n;
+                case BigInteger n -> n.longValueExact();
+                default -> new BigDecimal(number.toString()).longValueExact();
+            };
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw this.invalidValue(value, columnIndex, "is not a " + this.fieldTypes[columnIndex] + " value");
+        }
+
+        if (integer < min || integer > max)
+            throw this.invalidValue(value, columnIndex, "is out of range for " + this.fieldTypes[columnIndex]);
+        return integer;
+    }
+
+    private <V> V cast(Object value, Class<V> type, int columnIndex) {
+        if (!type.isInstance(value))
+            throw this.invalidValue(value, columnIndex, "is a " + value.getClass().getSimpleName() + " but " + this.fieldTypes[columnIndex]
+                    + " needs a " + type.getSimpleName());
+        return type.cast(value);
+    }
+
+    private IllegalArgumentException invalidValue(Object value, int columnIndex, String reason) {
+        String text = value instanceof byte[] ? "byte[]" : String.valueOf(value);
+        return new IllegalArgumentException("Value " + text + " of row " + this.rowNumber + ", column '"
+                + this.columnNames[columnIndex] + "' " + reason + ".");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.writeHeader();
+        this.out.writeShort(-1);
+        this.out.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        if (this.isHeaderWritten)
+            return;
+
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0); // flags
+        this.out.writeInt(0); // header extension length
+        this.isHeaderWritten = true;
+    }
+}
@@ -0,0 +1,64 @@
+package zweaver.sqlbuilder.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Tab separated rows terminated by '\n' with backslash escapes and "\N" for null values. This is
+ * both the Postgres COPY text format and the default format of MySQL/MariaDB LOAD DATA.
+ */
+public final class TextRowEncoder implements IRowEncoder {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+
+    public TextRowEncoder(OutputStream out, Charset charset) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+    }
+
+    @Override
+    public void writeRow(List<?> row) throws IOException {
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0)
+                this.out.write('\t');
+
+            Object value = row.get(i);
+            if (value == null)
+                this.out.write("\\N");
+            else
+                this.writeField(String.valueOf(value));
+        }
+        this.out.write('\n');
+    }
+
+    private void writeField(String value) throws IOException {
+        // copy the runs between characters that need escaping in one go
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escape = switch (value.charAt(i)) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (escape == null)
+                continue;
+
+            this.out.write(value, start, i - start);
+            this.out.write(escape);
+            start = i + 1;
+        }
+        this.out.write(value, start, value.length() - start);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.out.flush();
+    }
+}
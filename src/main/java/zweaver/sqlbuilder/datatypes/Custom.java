@@ -1,8 +1,10 @@
 package zweaver.sqlbuilder.datatypes;
 
-import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.DialectRenderers;
 import zweaver.sqlbuilder.enums.EDialect;
-import zweaver.sqlbuilder.util.TypeCastUtil;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.Objects;
 
 public final class Custom implements IDataType {
     private final String typeName;
@@ -20,9 +22,29 @@ public final class Custom implements IDataType {
 
     @Override
     public String castColumn(String columnName) {
-        return TypeCastUtil.castTo(new SQLContext(EDialect.STANDARD), columnName, typeName, null);
+        return DialectRenderers.forDialect(EDialect.STANDARD).castColumn(columnName, this.typeName, null);
     }
 
+    @Override
+    public void appendCast(SQLWriter writer, String columnName) {
+        DialectRenderers.forDialect(EDialect.STANDARD).appendCast(writer, columnName, this.typeName, null);
+    }
+
+    /**
+     * Equal when the cast is the same; the text type flag does not change the cast.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Custom other))
+            return false;
+        return Objects.equals(this.typeName, other.typeName);
+    }
+
+    @Override
+    public int hashCode() { return Objects.hashCode(this.typeName); }
+
     @Override
     public String toString() { return this.typeName.toUpperCase(); }
 }
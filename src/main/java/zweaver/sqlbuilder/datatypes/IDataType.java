@@ -1,9 +1,18 @@
 package zweaver.sqlbuilder.datatypes;
 
 import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.render.SQLWriter;
 
 public interface IDataType {
     public boolean isTextType();
     public String castColumn(String columnName);
+
+    /**
+     * Write the cast straight into the writer instead of building a string first.
+     */
+    public default void appendCast(SQLWriter writer, String columnName) {
+        writer.append(this.castColumn(columnName));
+    }
+
     public String toString();
 }
@@ -1,8 +1,11 @@
 package zweaver.sqlbuilder.datatypes;
 
 import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.render.SQLWriter;
 import zweaver.sqlbuilder.util.TypeCastUtil;
 
+import java.util.Objects;
+
 public final class Integer implements IDataType {
     private final SQLContext context;
 
@@ -18,6 +21,25 @@ public final class Integer implements IDataType {
         return TypeCastUtil.castTo(this.context, columnName, "CUSTOM", null);
     }
 
+    @Override
+    public void appendCast(SQLWriter writer, String columnName) {
+        TypeCastUtil.appendCastTo(writer, this.context, columnName, "CUSTOM", null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Integer other))
+            return false;
+        return Objects.equals(this.context.getDialectRenderer(), other.context.getDialectRenderer());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash("INTEGER", this.context.getDialectRenderer());
+    }
+
     @Override
     public String toString() {
         return "INTEGER";
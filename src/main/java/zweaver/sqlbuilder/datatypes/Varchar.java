@@ -1,9 +1,11 @@
 package zweaver.sqlbuilder.datatypes;
 
 import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.render.SQLWriter;
 import zweaver.sqlbuilder.util.TypeCastUtil;
 
 import java.util.List;
+import java.util.Objects;
 
 public final class Varchar implements IDataType {
     private final SQLContext context;
@@ -30,6 +32,29 @@ public final class Varchar implements IDataType {
         return TypeCastUtil.castTo(context, columnName, "VARCHAR", List.of(String.valueOf(this.length)));
     }
 
+    @Override
+    public void appendCast(SQLWriter writer, String columnName) {
+        if (this.length == 0)
+            TypeCastUtil.appendCastTo(writer, this.context, columnName, "VARCHAR", null);
+        else
+            TypeCastUtil.appendCastTo(writer, this.context, columnName, "VARCHAR", List.of(String.valueOf(this.length)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Varchar other))
+            return false;
+        return this.length == other.length
+                && Objects.equals(this.context.getDialectRenderer(), other.context.getDialectRenderer());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash("VARCHAR", this.length, this.context.getDialectRenderer());
+    }
+
     @Override
     public String toString() {
         StringBuilder typeName = new StringBuilder().append("VARCHAR");
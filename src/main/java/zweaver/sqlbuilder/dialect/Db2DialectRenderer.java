@@ -0,0 +1,21 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.enums.EDialect;
+
+public class Db2DialectRenderer extends StandardDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.DB2; }
+
+    @Override
+    public String getDriverName() { return "db2"; }
+
+    @Override
+    public int getDefaultPort() { return 50000; }
+
+    @Override
+    public boolean supportsRowValueComparison() { return false; }
+
+    // untyped parameter markers are not allowed in a VALUES fullselect
+    @Override
+    public boolean supportsValuesList() { return false; }
+}
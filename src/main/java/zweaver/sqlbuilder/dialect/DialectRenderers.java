@@ -0,0 +1,29 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.enums.EDialect;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The shared renderer instance of every built-in dialect.
+ */
+public final class DialectRenderers {
+    private static final Map<EDialect, IDialectRenderer> RENDERERS = new EnumMap<>(EDialect.class);
+
+    static {
+        RENDERERS.put(EDialect.STANDARD, new StandardDialectRenderer());
+        RENDERERS.put(EDialect.POSTGRES, new PostgresDialectRenderer());
+        RENDERERS.put(EDialect.VERTICA, new VerticaDialectRenderer());
+        RENDERERS.put(EDialect.MSSQL, new MssqlDialectRenderer());
+        RENDERERS.put(EDialect.MYSQL, new MysqlDialectRenderer());
+        RENDERERS.put(EDialect.DB2, new Db2DialectRenderer());
+        RENDERERS.put(EDialect.MARIADB, new MariadbDialectRenderer());
+    }
+
+    private DialectRenderers() { }
+
+    public static IDialectRenderer forDialect(EDialect dialect) {
+        return RENDERERS.get(dialect);
+    }
+}
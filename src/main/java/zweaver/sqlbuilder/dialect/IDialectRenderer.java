@@ -0,0 +1,126 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.GroupBy;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+/**
+ * Everything that differs between SQL dialects. One instance per dialect is resolved when an
+ * {@link zweaver.sqlbuilder.SQLContext} is created (see {@link DialectRenderers}), so builders
+ * call into it directly instead of switching on the dialect.
+ *
+ * To support another database, extend {@link StandardDialectRenderer} (or the renderer of the closest
+ * dialect), override what differs and pass an instance to the {@link zweaver.sqlbuilder.SQLContext}.
+ * Renderers must be stateless so one instance can be shared by all threads.
+ */
+public interface IDialectRenderer {
+    /**
+     * The built-in dialect this renderer is or is based on.
+     */
+    public EDialect getDialect();
+
+    /* CONNECTION */
+    public String getDriverName();
+    public int getDefaultPort();
+
+    /* TYPES */
+    public String castColumn(String columnName, String typeName, List<String> typeArgs);
+
+    /**
+     * Same as {@link #castColumn(String, String, List)} but writes the cast straight into the writer.
+     */
+    public void appendCast(SQLWriter writer, String columnName, String typeName, List<String> typeArgs);
+
+    /* ROW LIMITS */
+
+    /**
+     * Write the part of a row limit that goes right after SELECT (e.g., "TOP 10 ".)
+     */
+    public void appendTop(SQLWriter writer, int limitCount, int offsetCount);
+
+    /**
+     * Write the part of a row limit that goes at the end of a select (e.g., " LIMIT 10 OFFSET 20".)
+     * Zero means no limit or no offset.
+     */
+    public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy);
+
+    /* PREDICATES */
+    public boolean supportsRowValueComparison();
+    public boolean supportsArrayParameters();
+    public boolean supportsValuesList();
+
+    /* AGGREGATES */
+
+    /**
+     * Write an aggregate of a column (e.g., "COUNT(DISTINCT col)".) Use "*" as the column for COUNT(*).
+     */
+    public void appendAggregate(SQLWriter writer, EAggregateFunction function, String columnName);
+    public boolean supportsGrouping(EGroupingType groupingType);
+
+    /**
+     * Write what goes after "GROUP BY " (e.g., "ROLLUP(a,b)".)
+     */
+    public void appendGrouping(SQLWriter writer, GroupBy groupBy);
+
+    /* WINDOW FUNCTIONS */
+
+    /**
+     * Whether RANGE frames can have value offsets (e.g., "RANGE BETWEEN 7 PRECEDING AND CURRENT ROW"),
+     * otherwise only UNBOUNDED and CURRENT ROW bounds.
+     */
+    public boolean supportsRangeFrameOffsets();
+
+    /* STATEMENT LIMITS (0 means no limit) */
+    public int getMaxParameters();
+    public int getMaxStatementLength();
+    public int getMaxInListElements();
+
+    /* UPSERTS */
+
+    /**
+     * Write everything of a multi-row upsert before the first row (e.g., "INSERT INTO t (a,b) VALUES ".)
+     */
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns);
+
+    /**
+     * Write what goes before the values of a row (e.g., "(" or ",(".)
+     */
+    public void appendUpsertRowStart(SQLWriter writer, boolean isFirstRow);
+    public void appendUpsertRowEnd(SQLWriter writer);
+
+    /**
+     * Write everything of an upsert after the last row. Existing rows with the same key get the values
+     * of the update columns; without update columns they are left as they are.
+     */
+    public void appendUpsertTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns);
+
+    /* BATCHED WRITES */
+
+    /**
+     * How an UPDATE or DELETE is limited to a number of rows, see {@link EWriteLimitStyle}.
+     */
+    public EWriteLimitStyle getWriteLimitStyle();
+
+    /**
+     * Column that addresses a physical row (e.g., "ctid" on Postgres) for {@link EWriteLimitStyle#SUBQUERY}
+     * batches, or null if the dialect has none and a key column must be given.
+     */
+    public String getRowIdColumn();
+
+    /* BULK LOADING */
+    public boolean supportsBulkLoad(EBulkLoadFormat format);
+
+    /**
+     * Write the statement that streams rows into the table. Only called for formats the dialect supports,
+     * see {@link #supportsBulkLoad(EBulkLoadFormat)}.
+     */
+    public void appendBulkLoad(SQLWriter writer, String tableName, List<TableColumn> columns, EBulkLoadFormat format, String fileName);
+    public String getBulkLoadNullToken();
+}
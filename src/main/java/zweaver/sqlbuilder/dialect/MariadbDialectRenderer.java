@@ -0,0 +1,15 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.enums.EDialect;
+
+public class MariadbDialectRenderer extends MysqlDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.MARIADB; }
+
+    @Override
+    public String getDriverName() { return "mariadb"; }
+
+    // default max_allowed_packet of MariaDB
+    @Override
+    public int getMaxStatementLength() { return 16 * 1024 * 1024; }
+}
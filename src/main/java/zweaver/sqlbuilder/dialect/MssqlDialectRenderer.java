@@ -0,0 +1,63 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+public class MssqlDialectRenderer extends StandardDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.MSSQL; }
+
+    @Override
+    public String getDriverName() { return "microsoft:sqlserver"; }
+
+    @Override
+    public int getDefaultPort() { return 1433; }
+
+    @Override
+    public boolean supportsRangeFrameOffsets() { return false; }
+
+    @Override
+    public void appendTop(SQLWriter writer, int limitCount, int offsetCount) {
+        // OFFSET only exists as part of ORDER BY, where the limit becomes a FETCH NEXT
+        if (limitCount > 0 && offsetCount == 0)
+            writer.append("TOP ").append(limitCount).append(' ');
+    }
+
+    @Override
+    public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy) {
+        if (offsetCount == 0)
+            return;
+
+        if (!hasOrderBy)
+            writer.append(" ORDER BY (SELECT NULL)");
+        super.appendLimit(writer, limitCount, offsetCount, hasOrderBy);
+    }
+
+    @Override
+    public boolean supportsRowValueComparison() { return false; }
+
+    // without HOLDLOCK two concurrent merges can both miss the same key and insert it twice
+    @Override
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        writer.append("MERGE INTO ").append(tableName).append(" WITH (HOLDLOCK) AS tgt USING (VALUES ");
+    }
+
+    @Override
+    public void appendAggregate(SQLWriter writer, EAggregateFunction function, String columnName) {
+        if (function == EAggregateFunction.APPROX_COUNT_DISTINCT)
+            writer.append("APPROX_COUNT_DISTINCT(").append(columnName).append(')');
+        else
+            super.appendAggregate(writer, function, columnName);
+    }
+
+    @Override
+    public int getMaxParameters() { return 2100; }
+
+    @Override
+    public EWriteLimitStyle getWriteLimitStyle() { return EWriteLimitStyle.TOP; }
+}
@@ -0,0 +1,100 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.GroupBy;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.util.List;
+
+public class MysqlDialectRenderer extends StandardDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.MYSQL; }
+
+    @Override
+    public String getDriverName() { return "mysql"; }
+
+    @Override
+    public int getDefaultPort() { return 3306; }
+
+    @Override
+    public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy) {
+        if (limitCount > 0)
+            writer.append(" LIMIT ").append(limitCount);
+        else if (offsetCount > 0)
+            // there is no OFFSET without LIMIT, the documented workaround is the largest possible limit
+            writer.append(" LIMIT 18446744073709551615");
+        if (offsetCount > 0)
+            writer.append(" OFFSET ").append(offsetCount);
+    }
+
+    @Override
+    public boolean supportsValuesList() { return false; }
+
+    @Override
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        StandardDialectRenderer.appendInsertHead(writer, tableName, columns);
+    }
+
+    // the conflict is detected on any unique key of the table, so the key columns are only needed for the no-op update
+    @Override
+    public void appendUpsertTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns) {
+        writer.append(" ON DUPLICATE KEY UPDATE ");
+        if (updateColumns.isEmpty()) {
+            writer.append(keyColumns.getFirst()).append(" = ").append(keyColumns.getFirst());
+            return;
+        }
+
+        // VALUES() is deprecated by MySQL 8.0.20 in favor of a row alias, which MariaDB doesn't support
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append(updateColumns.get(i)).append(" = VALUES(").append(updateColumns.get(i)).append(')');
+        }
+    }
+
+    @Override
+    public boolean supportsGrouping(EGroupingType groupingType) {
+        return groupingType == EGroupingType.COLUMNS || groupingType == EGroupingType.ROLLUP;
+    }
+
+    @Override
+    public void appendGrouping(SQLWriter writer, GroupBy groupBy) {
+        StandardDialectRenderer.appendNameList(writer, groupBy.getColumnNames());
+        if (groupBy.getGroupingType() == EGroupingType.ROLLUP)
+            writer.append(" WITH ROLLUP");
+    }
+
+    @Override
+    public int getMaxParameters() { return 65535; }
+
+    // default max_allowed_packet of MySQL 8.0
+    @Override
+    public int getMaxStatementLength() { return 64 * 1024 * 1024; }
+
+    // a LIMIT inside an IN subquery is not supported, but UPDATE and DELETE take one themselves
+    @Override
+    public EWriteLimitStyle getWriteLimitStyle() { return EWriteLimitStyle.LIMIT; }
+
+    @Override
+    public boolean supportsBulkLoad(EBulkLoadFormat format) { return format != EBulkLoadFormat.BINARY; }
+
+    @Override
+    public void appendBulkLoad(SQLWriter writer, String tableName, List<TableColumn> columns, EBulkLoadFormat format, String fileName) {
+        writer.append("LOAD DATA LOCAL INFILE '");
+        SelectUtil.appendSanitizedQuotes(writer, fileName);
+        writer.append("' INTO TABLE ").append(tableName).append(" CHARACTER SET utf8mb4");
+        if (format == EBulkLoadFormat.CSV)
+            writer.append(" FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' LINES TERMINATED BY '\\n'");
+        writer.append(' ');
+        StandardDialectRenderer.appendColumnList(writer, columns);
+    }
+
+    // an unquoted NULL is read as null when fields are enclosed
+    @Override
+    public String getBulkLoadNullToken() { return "NULL"; }
+}
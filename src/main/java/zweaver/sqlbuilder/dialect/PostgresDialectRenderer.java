@@ -0,0 +1,89 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+public class PostgresDialectRenderer extends StandardDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.POSTGRES; }
+
+    @Override
+    public String getDriverName() { return "postgresql"; }
+
+    @Override
+    public int getDefaultPort() { return 5432; }
+
+    @Override
+    public void appendCast(SQLWriter writer, String columnName, String typeName, List<String> typeArgs) {
+        writer.append(columnName).append("::").append(typeName);
+        StandardDialectRenderer.appendTypeArgs(writer, typeArgs);
+    }
+
+    @Override
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        StandardDialectRenderer.appendInsertHead(writer, tableName, columns);
+    }
+
+    @Override
+    public void appendUpsertTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns) {
+        writer.append(" ON CONFLICT (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append(keyColumns.get(i));
+        }
+
+        if (updateColumns.isEmpty()) {
+            writer.append(") DO NOTHING");
+            return;
+        }
+
+        writer.append(") DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append(updateColumns.get(i)).append(" = EXCLUDED.").append(updateColumns.get(i));
+        }
+    }
+
+    @Override
+    public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy) {
+        if (limitCount > 0)
+            writer.append(" LIMIT ").append(limitCount);
+        if (offsetCount > 0)
+            writer.append(" OFFSET ").append(offsetCount);
+    }
+
+    @Override
+    public boolean supportsArrayParameters() { return true; }
+
+    @Override
+    public boolean supportsValuesList() { return false; }
+
+    @Override
+    public int getMaxParameters() { return 65535; }
+
+    // ctid changes when a row is updated, so it is only stable within the statement that selected it
+    @Override
+    public String getRowIdColumn() { return "ctid"; }
+
+    @Override
+    public boolean supportsBulkLoad(EBulkLoadFormat format) { return true; }
+
+    @Override
+    public void appendBulkLoad(SQLWriter writer, String tableName, List<TableColumn> columns, EBulkLoadFormat format, String fileName) {
+        writer.append("COPY ").append(tableName).append(' ');
+        StandardDialectRenderer.appendColumnList(writer, columns);
+        writer.append(" FROM STDIN");
+        switch (format) {
+            case CSV -> writer.append(" WITH (FORMAT csv)");
+            case BINARY -> writer.append(" WITH (FORMAT binary)");
+            case TEXT -> { }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.GroupBy;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EGroupingType;
+import zweaver.sqlbuilder.enums.EWriteLimitStyle;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+/**
+ * Unopinionated SQL following the standard. Base class of all built-in renderers.
+ */
+public class StandardDialectRenderer implements IDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.STANDARD; }
+
+    @Override
+    public String getDriverName() { return ""; }
+
+    @Override
+    public int getDefaultPort() { return 0; }
+
+    @Override
+    public String castColumn(String columnName, String typeName, List<String> typeArgs) {
+        SQLWriter writer = new SQLWriter();
+        this.appendCast(writer, columnName, typeName, typeArgs);
+        return writer.toString();
+    }
+
+    @Override
+    public void appendCast(SQLWriter writer, String columnName, String typeName, List<String> typeArgs) {
+        writer.append("CAST(").append(columnName).append(" AS ").append(typeName);
+        StandardDialectRenderer.appendTypeArgs(writer, typeArgs);
+        writer.append(')');
+    }
+
+    protected static void appendTypeArgs(SQLWriter writer, List<String> typeArgs) {
+        if (typeArgs == null || typeArgs.isEmpty())
+            return;
+
+        writer.append('(');
+        for (int i = 0; i < typeArgs.size(); i++) {
+            if (i > 0)
+                writer.append(", ");
+            writer.append(typeArgs.get(i));
+        }
+        writer.append(')');
+    }
+
+    @Override
+    public void appendTop(SQLWriter writer, int limitCount, int offsetCount) { }
+
+    @Override
+    public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy) {
+        if (offsetCount > 0)
+            writer.append(" OFFSET ").append(offsetCount).append(" ROWS");
+        if (limitCount > 0)
+            writer.append(offsetCount > 0 ? " FETCH NEXT " : " FETCH FIRST ").append(limitCount).append(" ROWS ONLY");
+    }
+
+    @Override
+    public boolean supportsRowValueComparison() { return true; }
+
+    @Override
+    public boolean supportsArrayParameters() { return false; }
+
+    @Override
+    public boolean supportsValuesList() { return true; }
+
+    @Override
+    public void appendAggregate(SQLWriter writer, EAggregateFunction function, String columnName) {
+        switch (function) {
+            // without a native approximation the exact count is the closest answer
+            case COUNT_DISTINCT, APPROX_COUNT_DISTINCT -> writer.append("COUNT(DISTINCT ").append(columnName).append(')');
+            default -> writer.append(function.name()).append('(').append(columnName).append(')');
+        }
+    }
+
+    @Override
+    public boolean supportsGrouping(EGroupingType groupingType) { return true; }
+
+    @Override
+    public boolean supportsRangeFrameOffsets() { return true; }
+
+    @Override
+    public void appendGrouping(SQLWriter writer, GroupBy groupBy) {
+        switch (groupBy.getGroupingType()) {
+            case COLUMNS -> StandardDialectRenderer.appendNameList(writer, groupBy.getColumnNames());
+            case ROLLUP, CUBE -> {
+                writer.append(groupBy.getGroupingType().name()).append('(');
+                StandardDialectRenderer.appendNameList(writer, groupBy.getColumnNames());
+                writer.append(')');
+            }
+            case GROUPING_SETS -> {
+                writer.append("GROUPING SETS (");
+                for (int i = 0; i < groupBy.getGroupingSets().size(); i++) {
+                    if (i > 0)
+                        writer.append(',');
+                    writer.append('(');
+                    StandardDialectRenderer.appendNameList(writer, groupBy.getGroupingSets().get(i));
+                    writer.append(')');
+                }
+                writer.append(')');
+            }
+        }
+    }
+
+    protected static void appendNameList(SQLWriter writer, List<String> names) {
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append(names.get(i));
+        }
+    }
+
+    @Override
+    public int getMaxParameters() { return 0; }
+
+    @Override
+    public int getMaxStatementLength() { return 0; }
+
+    @Override
+    public int getMaxInListElements() { return 0; }
+
+    @Override
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        writer.append("MERGE INTO ").append(tableName).append(" AS tgt USING (VALUES ");
+    }
+
+    @Override
+    public void appendUpsertRowStart(SQLWriter writer, boolean isFirstRow) {
+        writer.append(isFirstRow ? "(" : ",(");
+    }
+
+    @Override
+    public void appendUpsertRowEnd(SQLWriter writer) {
+        writer.append(')');
+    }
+
+    @Override
+    public void appendUpsertTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns) {
+        StandardDialectRenderer.appendMergeTail(writer, columns, keyColumns, updateColumns);
+    }
+
+    /**
+     * Write the end of a MERGE whose source rows are in a derived table aliased "src" and whose target is aliased "tgt".
+     */
+    protected static void appendMergeTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns) {
+        writer.append(") AS src ");
+        StandardDialectRenderer.appendColumnList(writer, columns);
+
+        writer.append(" ON (");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0)
+                writer.append(" AND ");
+            writer.append("tgt.").append(keyColumns.get(i)).append(" = src.").append(keyColumns.get(i));
+        }
+        writer.append(')');
+
+        if (!updateColumns.isEmpty()) {
+            writer.append(" WHEN MATCHED THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0)
+                    writer.append(',');
+                writer.append(updateColumns.get(i)).append(" = src.").append(updateColumns.get(i));
+            }
+        }
+
+        writer.append(" WHEN NOT MATCHED THEN INSERT ");
+        StandardDialectRenderer.appendColumnList(writer, columns);
+        writer.append(" VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append("src.").append(columns.get(i).getName());
+        }
+        writer.append(')');
+    }
+
+    /**
+     * Write "INSERT INTO t (a,b) VALUES " for dialects that upsert with an INSERT clause.
+     */
+    protected static void appendInsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        writer.append("INSERT INTO ").append(tableName).append(' ');
+        StandardDialectRenderer.appendColumnList(writer, columns);
+        writer.append(" VALUES ");
+    }
+
+    @Override
+    public EWriteLimitStyle getWriteLimitStyle() { return EWriteLimitStyle.SUBQUERY; }
+
+    @Override
+    public String getRowIdColumn() { return null; }
+
+    @Override
+    public boolean supportsBulkLoad(EBulkLoadFormat format) { return false; }
+
+    // never called, since no format is supported
+    @Override
+    public void appendBulkLoad(SQLWriter writer, String tableName, List<TableColumn> columns, EBulkLoadFormat format, String fileName) {
+    }
+
+    @Override
+    public String getBulkLoadNullToken() { return ""; }
+
+    protected static void appendColumnList(SQLWriter writer, List<TableColumn> columns) {
+        writer.append('(');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                writer.append(',');
+            writer.append(columns.get(i).getName());
+        }
+        writer.append(')');
+    }
+}
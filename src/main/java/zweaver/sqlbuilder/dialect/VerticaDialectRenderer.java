@@ -0,0 +1,67 @@
+package zweaver.sqlbuilder.dialect;
+
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+public class VerticaDialectRenderer extends PostgresDialectRenderer {
+    @Override
+    public EDialect getDialect() { return EDialect.VERTICA; }
+
+    @Override
+    public String getDriverName() { return "vertica"; }
+
+    @Override
+    public int getDefaultPort() { return 5433; }
+
+    @Override
+    public boolean supportsRowValueComparison() { return false; }
+
+    @Override
+    public boolean supportsArrayParameters() { return false; }
+
+    // there is no multi-row VALUES, so the source rows of the MERGE are a UNION ALL of selects
+    @Override
+    public void appendUpsertHead(SQLWriter writer, String tableName, List<TableColumn> columns) {
+        writer.append("MERGE INTO ").append(tableName).append(" AS tgt USING (");
+    }
+
+    @Override
+    public void appendUpsertRowStart(SQLWriter writer, boolean isFirstRow) {
+        writer.append(isFirstRow ? "SELECT " : " UNION ALL SELECT ");
+    }
+
+    @Override
+    public void appendUpsertRowEnd(SQLWriter writer) { }
+
+    @Override
+    public void appendUpsertTail(SQLWriter writer, List<TableColumn> columns, List<String> keyColumns, List<String> updateColumns) {
+        StandardDialectRenderer.appendMergeTail(writer, columns, keyColumns, updateColumns);
+    }
+
+    @Override
+    public void appendAggregate(SQLWriter writer, EAggregateFunction function, String columnName) {
+        if (function == EAggregateFunction.APPROX_COUNT_DISTINCT)
+            writer.append("APPROXIMATE_COUNT_DISTINCT(").append(columnName).append(')');
+        else
+            super.appendAggregate(writer, function, columnName);
+    }
+
+    // unlike Postgres there is no ctid
+    @Override
+    public String getRowIdColumn() { return null; }
+
+    @Override
+    public boolean supportsBulkLoad(EBulkLoadFormat format) { return format == EBulkLoadFormat.CSV; }
+
+    @Override
+    public void appendBulkLoad(SQLWriter writer, String tableName, List<TableColumn> columns, EBulkLoadFormat format, String fileName) {
+        writer.append("COPY ").append(tableName).append(' ');
+        StandardDialectRenderer.appendColumnList(writer, columns);
+        writer.append(" FROM STDIN PARSER FCSVPARSER(type='rfc4180', header=false)");
+    }
+}
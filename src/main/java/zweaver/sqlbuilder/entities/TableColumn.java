@@ -3,6 +3,7 @@ package zweaver.sqlbuilder.entities;
 import zweaver.sqlbuilder.datatypes.IDataType;
 import zweaver.sqlbuilder.datatypes.Varchar;
 import zweaver.sqlbuilder.exceptions.TableColumnException;
+import zweaver.sqlbuilder.render.SQLWriter;
 
 public class TableColumn {
     private final String name;
@@ -38,25 +39,28 @@ public class TableColumn {
 
     public Object getDefaultValue() { return this.defaultValue; }
 
-    @Override
-    public String toString() {
-        StringBuilder column = new StringBuilder();
-        column.append(this.getName()).append(' ');
-        column.append(this.getDataType());
+    public void render(SQLWriter writer) {
+        writer.append(this.getName()).append(' ');
+        writer.append(this.getDataType().toString());
         Object defaultValue = this.getDefaultValue();
 
         if (!this.isNullable())
-            column.append(" NOT NULL");
+            writer.append(" NOT NULL");
 
         if (defaultValue != null) {
-            column.append(" DEFAULT VALUE ");
+            writer.append(" DEFAULT VALUE ");
 
             if (this.getDataType().isTextType())
-                column.append("'").append(defaultValue).append("'");
+                writer.append('\'').append(defaultValue).append('\'');
             else
-                column.append(defaultValue);
+                writer.append(defaultValue);
         }
+    }
 
-        return column.toString();
+    @Override
+    public String toString() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer);
+        return writer.toString();
     }
 }
@@ -0,0 +1,11 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EAggregateFunction {
+    COUNT,
+    COUNT_DISTINCT,
+    SUM,
+    AVG,
+    MIN,
+    MAX,
+    APPROX_COUNT_DISTINCT   // dialect approximation where there is one (MSSQL, Vertica), else COUNT(DISTINCT ...)
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EBulkLoadFormat {
+    CSV,    // RFC 4180, supported by every bulk load dialect
+    TEXT,   // tab separated with backslash escapes (Postgres text format, MySQL/MariaDB LOAD DATA default)
+    BINARY  // Postgres binary COPY format
+}
@@ -1,14 +1,22 @@
 package zweaver.sqlbuilder.enums;
 
 public enum EFilterCondition {
-    EQUAL,
-    NOT_EQUAL,
-    GREATER_THAN,
-    GREATER_THAN_EQUAL,
-    LESS_THAN,
-    LESS_THAN_EQUAL,
-    LIKE,
-    ILIKE,
-    IN,
-    NOT_IN
+    EQUAL("="),
+    NOT_EQUAL("!="),
+    GREATER_THAN(">"),
+    GREATER_THAN_EQUAL(">="),
+    LESS_THAN("<"),
+    LESS_THAN_EQUAL("<="),
+    LIKE("LIKE"),
+    ILIKE("ILIKE"),
+    IN("IN"),
+    NOT_IN("NOT IN");
+
+    private final String token;
+
+    EFilterCondition(String token) {
+        this.token = token;
+    }
+
+    public String getToken() { return this.token; }
 }
@@ -1,7 +1,18 @@
 package zweaver.sqlbuilder.enums;
 
 public enum EFilterConjunction {
-    NONE,
-    AND,
-    OR
+    NONE(""),
+    AND(" AND "),
+    OR(" OR ");
+
+    private final String token;
+
+    EFilterConjunction(String token) {
+        this.token = token;
+    }
+
+    /**
+     * The conjunction with its surrounding spaces, e.g., " AND ".
+     */
+    public String getToken() { return this.token; }
 }
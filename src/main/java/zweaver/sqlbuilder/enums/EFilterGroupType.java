@@ -1,6 +1,14 @@
 package zweaver.sqlbuilder.enums;
 
 public enum EFilterGroupType {
-    ALL,
-    ANY
+    ALL(EFilterConjunction.AND),
+    ANY(EFilterConjunction.OR);
+
+    private final EFilterConjunction conjunction;
+
+    EFilterGroupType(EFilterConjunction conjunction) {
+        this.conjunction = conjunction;
+    }
+
+    public EFilterConjunction getConjunction() { return this.conjunction; }
 }
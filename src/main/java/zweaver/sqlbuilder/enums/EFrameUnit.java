@@ -0,0 +1,6 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EFrameUnit {
+    ROWS,   // bounds count physical rows
+    RANGE   // bounds are distances on the ORDER BY value
+}
@@ -0,0 +1,8 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EGroupingType {
+    COLUMNS,        // GROUP BY a,b
+    ROLLUP,         // GROUP BY ROLLUP(a,b): (a,b), (a) and the grand total
+    CUBE,           // GROUP BY CUBE(a,b): every combination of the columns
+    GROUPING_SETS   // GROUP BY GROUPING SETS ((a,b),(b),())
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EInListPadding {
+    NONE,
+    REPEAT_LAST,
+    NULL
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EPlaceholderStyle {
+    POSITIONAL, // ?
+    NUMBERED,   // $1, $2, ...
+    NAMED       // :p1, :p2, ...
+}
@@ -0,0 +1,6 @@
+package zweaver.sqlbuilder.enums;
+
+public enum ESortOrder {
+    ASC,
+    DESC
+}
@@ -0,0 +1,8 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EStatementType {
+    SELECT,
+    CTE,
+    UNION,
+    CREATE_TABLE
+}
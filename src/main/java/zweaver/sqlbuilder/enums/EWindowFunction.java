@@ -0,0 +1,27 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EWindowFunction {
+    // ranking, take no column
+    ROW_NUMBER,
+    RANK,
+    DENSE_RANK,
+    // value of another row of the partition, take a column and an offset
+    LAG,
+    LEAD,
+    FIRST_VALUE,
+    LAST_VALUE,
+    // aggregates over the window frame
+    COUNT,
+    SUM,
+    AVG,
+    MIN,
+    MAX;
+
+    public boolean takesColumn() {
+        return this != ROW_NUMBER && this != RANK && this != DENSE_RANK;
+    }
+
+    public boolean takesOffset() {
+        return this == LAG || this == LEAD;
+    }
+}
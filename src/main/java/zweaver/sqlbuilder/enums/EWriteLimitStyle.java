@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.enums;
+
+public enum EWriteLimitStyle {
+    LIMIT,      // UPDATE/DELETE ... LIMIT n (MySQL, MariaDB)
+    TOP,        // UPDATE/DELETE TOP (n) (MSSQL)
+    SUBQUERY    // ... WHERE key IN (SELECT key ... FETCH FIRST n ROWS ONLY), on a row id or a key column
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.exceptions;
+
+public class BulkLoadBuilderException extends Exception {
+    public BulkLoadBuilderException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.exceptions;
+
+public class DeleteBuilderException extends Exception {
+    public DeleteBuilderException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.exceptions;
+
+public class InsertBuilderException extends Exception {
+    public InsertBuilderException(String message) {
+        super(message);
+    }
+}
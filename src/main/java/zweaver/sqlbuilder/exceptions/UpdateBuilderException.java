@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.exceptions;
+
+public class UpdateBuilderException extends Exception {
+    public UpdateBuilderException(String message) {
+        super(message);
+    }
+}
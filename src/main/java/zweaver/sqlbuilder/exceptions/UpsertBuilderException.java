@@ -0,0 +1,7 @@
+package zweaver.sqlbuilder.exceptions;
+
+public class UpsertBuilderException extends Exception {
+    public UpsertBuilderException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,102 @@
+package zweaver.sqlbuilder.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values with a fixed relative precision, in the style of HdrHistogram.
+ *
+ * Values below 64 are counted exactly. Larger values fall into one of 32 linear buckets per power of two,
+ * so any percentile is reported within about 3% of the recorded value. The whole long range fits into
+ * less than 2000 buckets and recording never allocates.
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Record a value; negative values are recorded as 0.
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        this.counts.incrementAndGet(Histogram.bucketOf(value));
+        this.totalCount.increment();
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    public long getCount() { return this.totalCount.sum(); }
+
+    public long getMax() { return this.max.get(); }
+
+    public double getMean() {
+        long count = this.getCount();
+        return count == 0 ? 0 : (double) this.sum.sum() / count;
+    }
+
+    /**
+     * The smallest value that the given percentage (0 - 100) of all recorded values are less than or equal to,
+     * within the precision of the histogram. Returns 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = this.getCount();
+        if (count == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += this.counts.get(bucket);
+            if (seen >= target)
+                return Math.min(Histogram.highestValueOf(bucket), this.getMax());
+        }
+        return this.getMax();
+    }
+
+    /**
+     * Clear all values. Values recorded while resetting may be partly lost.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++)
+            this.counts.set(bucket, 0);
+        this.totalCount.reset();
+        this.sum.reset();
+        this.max.reset();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT)
+            return (int) value;
+
+        // shift the value so its highest bits fall into the upper half of the sub buckets
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT)
+            return bucket;
+
+        int shift = (bucket - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        long highest = ((subBucket + 1) << shift) - 1;
+        // the last bucket ends past the long range
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
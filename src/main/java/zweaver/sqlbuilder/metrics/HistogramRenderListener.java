@@ -0,0 +1,117 @@
+package zweaver.sqlbuilder.metrics;
+
+import zweaver.sqlbuilder.enums.EStatementType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link IRenderListener} that keeps a latency, size and IN list histogram per statement type.
+ * Share one instance between all contexts and {@link #dump(Appendable)} it periodically, e.g., to find
+ * which statements dominate the time spent rendering or to spot huge IN lists.
+ */
+public final class HistogramRenderListener implements IRenderListener {
+    private final Map<EStatementType, StatementMetrics> metrics;
+
+    public HistogramRenderListener() {
+        this.metrics = new EnumMap<>(EStatementType.class);
+        for (EStatementType statementType : EStatementType.values())
+            this.metrics.put(statementType, new StatementMetrics());
+    }
+
+    @Override
+    public void onRender(RenderEvent event) {
+        StatementMetrics metrics = this.metrics.get(event.getStatementType());
+        metrics.latencyNanos.record(event.getLatencyNanos());
+        metrics.length.record(event.getLength());
+        metrics.filterCount.record(event.getFilterCount());
+        metrics.inListElementCount.record(event.getInListElementCount());
+        if (event.isCacheHit())
+            metrics.cacheHits.increment();
+    }
+
+    public Histogram getLatencyNanos(EStatementType statementType) { return this.metrics.get(statementType).latencyNanos; }
+
+    public Histogram getLength(EStatementType statementType) { return this.metrics.get(statementType).length; }
+
+    public Histogram getFilterCount(EStatementType statementType) { return this.metrics.get(statementType).filterCount; }
+
+    public Histogram getInListElementCount(EStatementType statementType) { return this.metrics.get(statementType).inListElementCount; }
+
+    public long getCacheHitCount(EStatementType statementType) { return this.metrics.get(statementType).cacheHits.sum(); }
+
+    public void reset() {
+        for (StatementMetrics metrics : this.metrics.values()) {
+            metrics.latencyNanos.reset();
+            metrics.length.reset();
+            metrics.filterCount.reset();
+            metrics.inListElementCount.reset();
+            metrics.cacheHits.reset();
+        }
+    }
+
+    /**
+     * Write one line per statement type that was built at least once, e.g.,
+     * "SELECT count=1200 cacheHits=800 latencyUs p50=3.1 p99=41.0 max=120.5 length p50=180 max=9000 inList max=1000".
+     */
+    public void dump(Appendable out) throws IOException {
+        for (Map.Entry<EStatementType, StatementMetrics> entry : this.metrics.entrySet()) {
+            StatementMetrics metrics = entry.getValue();
+            if (metrics.latencyNanos.getCount() == 0)
+                continue;
+
+            out.append(entry.getKey().name())
+                    .append(" count=").append(Long.toString(metrics.latencyNanos.getCount()))
+                    .append(" cacheHits=").append(Long.toString(metrics.cacheHits.sum()))
+                    .append(" latencyUs")
+                    .append(" p50=").append(HistogramRenderListener.micros(metrics.latencyNanos.getValueAtPercentile(50)))
+                    .append(" p90=").append(HistogramRenderListener.micros(metrics.latencyNanos.getValueAtPercentile(90)))
+                    .append(" p99=").append(HistogramRenderListener.micros(metrics.latencyNanos.getValueAtPercentile(99)))
+                    .append(" max=").append(HistogramRenderListener.micros(metrics.latencyNanos.getMax()))
+                    .append(" length")
+                    .append(" p50=").append(Long.toString(metrics.length.getValueAtPercentile(50)))
+                    .append(" p99=").append(Long.toString(metrics.length.getValueAtPercentile(99)))
+                    .append(" max=").append(Long.toString(metrics.length.getMax()))
+                    .append(" filters max=").append(Long.toString(metrics.filterCount.getMax()))
+                    .append(" inList")
+                    .append(" p99=").append(Long.toString(metrics.inListElementCount.getValueAtPercentile(99)))
+                    .append(" max=").append(Long.toString(metrics.inListElementCount.getMax()))
+                    .append('\n');
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        try {
+            this.dump(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
+    }
+
+    private static final class StatementMetrics {
+        private final Histogram latencyNanos;
+        private final Histogram length;
+        private final Histogram filterCount;
+        private final Histogram inListElementCount;
+        private final LongAdder cacheHits;
+
+        private StatementMetrics() {
+            this.latencyNanos = new Histogram();
+            this.length = new Histogram();
+            this.filterCount = new Histogram();
+            this.inListElementCount = new Histogram();
+            this.cacheHits = new LongAdder();
+        }
+    }
+}
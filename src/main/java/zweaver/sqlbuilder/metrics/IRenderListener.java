@@ -0,0 +1,13 @@
+package zweaver.sqlbuilder.metrics;
+
+/**
+ * Receives one {@link RenderEvent} per statement built with a context that has this listener,
+ * see {@link zweaver.sqlbuilder.SQLContext#setRenderListener(IRenderListener)}.
+ *
+ * Listeners are called on the thread that built the statement, right after it was built, so
+ * they must be thread-safe and should return quickly.
+ */
+@FunctionalInterface
+public interface IRenderListener {
+    public void onRender(RenderEvent event);
+}
@@ -0,0 +1,63 @@
+package zweaver.sqlbuilder.metrics;
+
+import zweaver.sqlbuilder.enums.EStatementType;
+
+/**
+ * Cost of building one statement. Latency includes the render cache lookup, so cache hits
+ * show up as (very) fast builds.
+ */
+public final class RenderEvent {
+    private final EStatementType statementType;
+    private final long latencyNanos;
+    private final int length;
+    private final int filterCount;
+    private final int inListElementCount;
+    private final boolean isCacheHit;
+    private final long fingerprintHash;
+
+    public RenderEvent(EStatementType statementType, long latencyNanos, int length, int filterCount, int inListElementCount,
+                       boolean isCacheHit, long fingerprintHash) {
+        this.statementType = statementType;
+        this.latencyNanos = latencyNanos;
+        this.length = length;
+        this.filterCount = filterCount;
+        this.inListElementCount = inListElementCount;
+        this.isCacheHit = isCacheHit;
+        this.fingerprintHash = fingerprintHash;
+    }
+
+    public EStatementType getStatementType() { return this.statementType; }
+
+    public long getLatencyNanos() { return this.latencyNanos; }
+
+    /**
+     * Length of the SQL in characters.
+     */
+    public int getLength() { return this.length; }
+
+    /**
+     * Number of filter predicates over all queries of the statement.
+     */
+    public int getFilterCount() { return this.filterCount; }
+
+    /**
+     * Number of values in all IN/NOT IN lists of the statement.
+     */
+    public int getInListElementCount() { return this.inListElementCount; }
+
+    public boolean isCacheHit() { return this.isCacheHit; }
+
+    /**
+     * Hash of the statement shape for aggregating events per shape, or 0 for statements without a fingerprint (CREATE TABLE.)
+     * See {@link zweaver.sqlbuilder.ast.SelectQuery#fingerprintHash()}.
+     */
+    public long getFingerprintHash() { return this.fingerprintHash; }
+
+    @Override
+    public String toString() {
+        return this.statementType + " in " + this.latencyNanos + " ns, " + this.length + " chars, "
+                + this.filterCount + " filters, " + this.inListElementCount + " IN list values"
+                + (this.isCacheHit ? ", cached" : "")
+                + (this.fingerprintHash != 0 ? ", fingerprint " + Long.toHexString(this.fingerprintHash) : "");
+    }
+}
@@ -0,0 +1,24 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+record AndNode(List<IPredicateNode> children) implements IPredicateNode {
+    @Override
+    public void render(SQLWriter writer) {
+        for (int i = 0; i < this.children.size(); i++) {
+            if (i > 0)
+                writer.append(" AND ");
+
+            // AND binds tighter than OR, so only OR children need parentheses
+            IPredicateNode child = this.children.get(i);
+            if (child instanceof OrNode) {
+                writer.append('(');
+                child.render(writer);
+                writer.append(')');
+            } else
+                child.render(writer);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.render.SQLWriter;
+
+enum ConstantNode implements IPredicateNode {
+    TRUE("1 = 1"),
+    FALSE("1 = 0");
+
+    private final String sql;
+
+    ConstantNode(String sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    public void render(SQLWriter writer) {
+        writer.append(this.sql);
+    }
+
+    @Override
+    public boolean isAlwaysTrue() { return this == TRUE; }
+}
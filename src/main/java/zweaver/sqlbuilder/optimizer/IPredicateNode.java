@@ -0,0 +1,15 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.render.SQLWriter;
+
+/**
+ * Node of an optimized predicate tree, see {@link PredicateOptimizer}.
+ */
+public interface IPredicateNode {
+    public void render(SQLWriter writer);
+
+    /**
+     * Whether the predicate was folded to a condition that every row satisfies, so no WHERE is needed.
+     */
+    public default boolean isAlwaysTrue() { return false; }
+}
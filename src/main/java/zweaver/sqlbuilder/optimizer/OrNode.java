@@ -0,0 +1,16 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+record OrNode(List<IPredicateNode> children) implements IPredicateNode {
+    @Override
+    public void render(SQLWriter writer) {
+        for (int i = 0; i < this.children.size(); i++) {
+            if (i > 0)
+                writer.append(" OR ");
+            this.children.get(i).render(writer);
+        }
+    }
+}
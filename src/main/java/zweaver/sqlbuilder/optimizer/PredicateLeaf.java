@@ -0,0 +1,11 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+record PredicateLeaf(FilterPredicate predicate) implements IPredicateNode {
+    @Override
+    public void render(SQLWriter writer) {
+        this.predicate.render(writer);
+    }
+}
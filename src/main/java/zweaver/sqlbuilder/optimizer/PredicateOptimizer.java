@@ -0,0 +1,331 @@
+package zweaver.sqlbuilder.optimizer;
+
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EFilterGroupType;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns the flat filter list of a query into a predicate tree and simplifies it before it is rendered:
+ *
+ * - constant folding: empty IN lists, contradicting equalities and empty ranges become "1 = 0",
+ *   and conditions that can not filter anything are dropped
+ * - de-duplication of identical predicates and IN list values
+ * - flattening of nested AND/OR nodes
+ * - "col = 1 OR col = 2 OR col IN (3,4)" becomes "col IN (1,2,3,4)"
+ * - "col > 1 AND col >= 5 AND col < 10" becomes "col >= 5 AND col < 10"
+ *
+ * Range merging only compares unquoted numeric values; everything else is kept as written. Conjunctions
+ * between filters keep SQL precedence, i.e., "a AND b OR c" is "(a AND b) OR c".
+ */
+public final class PredicateOptimizer {
+    private PredicateOptimizer() { }
+
+    public static IPredicateNode optimize(List<FilterCondition> filterConditions) {
+        IPredicateNode node = PredicateOptimizer.buildTree(filterConditions);
+        IPredicateNode simplified = PredicateOptimizer.simplify(node);
+        // one rewrite can enable another (e.g., merged equalities becoming a single value), so repeat until nothing changes
+        while (!simplified.equals(node)) {
+            node = simplified;
+            simplified = PredicateOptimizer.simplify(node);
+        }
+        return simplified;
+    }
+
+    private static IPredicateNode buildTree(List<FilterCondition> filterConditions) {
+        List<IPredicateNode> orTerms = new ArrayList<>();
+        List<IPredicateNode> andTerms = new ArrayList<>();
+        for (FilterCondition condition : filterConditions) {
+            andTerms.add(PredicateOptimizer.toNode(condition));
+            if (condition.getConjunction() != EFilterConjunction.AND) {
+                orTerms.add(new AndNode(andTerms));
+                andTerms = new ArrayList<>();
+            }
+        }
+        if (!andTerms.isEmpty())
+            orTerms.add(new AndNode(andTerms));
+
+        return orTerms.isEmpty() ? ConstantNode.TRUE : new OrNode(orTerms);
+    }
+
+    private static IPredicateNode toNode(FilterCondition condition) {
+        if (!condition.isGroup())
+            return new PredicateLeaf(condition.getPredicates().getFirst());
+
+        List<IPredicateNode> children = new ArrayList<>(condition.getPredicates().size());
+        for (FilterPredicate predicate : condition.getPredicates())
+            children.add(new PredicateLeaf(predicate));
+        return condition.getGroupType() == EFilterGroupType.ALL ? new AndNode(children) : new OrNode(children);
+    }
+
+    private static IPredicateNode simplify(IPredicateNode node) {
+        if (node instanceof PredicateLeaf leaf)
+            return PredicateOptimizer.simplifyLeaf(leaf);
+        if (node instanceof AndNode and)
+            return PredicateOptimizer.simplifyAnd(and.children());
+        if (node instanceof OrNode or)
+            return PredicateOptimizer.simplifyOr(or.children());
+        return node;
+    }
+
+    private static IPredicateNode simplifyLeaf(PredicateLeaf leaf) {
+        FilterPredicate predicate = leaf.predicate();
+        if (!SelectUtil.isListCondition(predicate.getCondition()))
+            return leaf;
+
+        boolean isIn = predicate.getCondition() == EFilterCondition.IN;
+        List<Object> values = PredicateOptimizer.listValues(predicate);
+        Set<Object> distinctValues = new LinkedHashSet<>(values);
+
+        if (distinctValues.isEmpty())
+            return isIn ? ConstantNode.FALSE : ConstantNode.TRUE;
+
+        if (distinctValues.size() == 1)
+            return new PredicateLeaf(new FilterPredicate(predicate.getColumnName(),
+                    isIn ? EFilterCondition.EQUAL : EFilterCondition.NOT_EQUAL,
+                    distinctValues.iterator().next(), predicate.isValueQuoted()));
+
+        if (distinctValues.size() < values.size())
+            return new PredicateLeaf(new FilterPredicate(predicate.getColumnName(), predicate.getCondition(),
+                    Collections.unmodifiableList(new ArrayList<>(distinctValues)), predicate.isValueQuoted()));
+
+        return leaf;
+    }
+
+    private static IPredicateNode simplifyAnd(List<IPredicateNode> children) {
+        List<IPredicateNode> flattened = new ArrayList<>(children.size());
+        for (IPredicateNode child : children) {
+            IPredicateNode simplified = PredicateOptimizer.simplify(child);
+            if (simplified == ConstantNode.FALSE)
+                return ConstantNode.FALSE;
+            if (simplified == ConstantNode.TRUE)
+                continue;
+            if (simplified instanceof AndNode and)
+                flattened.addAll(and.children());
+            else
+                flattened.add(simplified);
+        }
+
+        List<IPredicateNode> merged = PredicateOptimizer.mergeRanges(new ArrayList<>(new LinkedHashSet<>(flattened)));
+        if (merged == null)
+            return ConstantNode.FALSE;
+        if (merged.isEmpty())
+            return ConstantNode.TRUE;
+        if (merged.size() == 1)
+            return merged.getFirst();
+        return new AndNode(List.copyOf(merged));
+    }
+
+    private static IPredicateNode simplifyOr(List<IPredicateNode> children) {
+        List<IPredicateNode> flattened = new ArrayList<>(children.size());
+        for (IPredicateNode child : children) {
+            IPredicateNode simplified = PredicateOptimizer.simplify(child);
+            if (simplified == ConstantNode.TRUE)
+                return ConstantNode.TRUE;
+            if (simplified == ConstantNode.FALSE)
+                continue;
+            if (simplified instanceof OrNode or)
+                flattened.addAll(or.children());
+            else
+                flattened.add(simplified);
+        }
+
+        List<IPredicateNode> merged = PredicateOptimizer.mergeEqualities(new ArrayList<>(new LinkedHashSet<>(flattened)));
+        if (merged.isEmpty())
+            return ConstantNode.FALSE;
+        if (merged.size() == 1)
+            return merged.getFirst();
+        return new OrNode(List.copyOf(merged));
+    }
+
+    /**
+     * Merge the equalities and IN lists of each column into a single IN list, keeping it where the
+     * first one of the column was.
+     */
+    private static List<IPredicateNode> mergeEqualities(List<IPredicateNode> nodes) {
+        Map<ColumnKey, Set<Object>> valuesByColumn = new LinkedHashMap<>();
+        Map<ColumnKey, Integer> countByColumn = new LinkedHashMap<>();
+        for (IPredicateNode node : nodes) {
+            if (!(node instanceof PredicateLeaf leaf) || !PredicateOptimizer.isEqualityOrInList(leaf.predicate()))
+                continue;
+            ColumnKey key = new ColumnKey(leaf.predicate().getColumnName(), leaf.predicate().isValueQuoted());
+            valuesByColumn.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(PredicateOptimizer.listValues(leaf.predicate()));
+            countByColumn.merge(key, 1, Integer::sum);
+        }
+
+        if (countByColumn.values().stream().allMatch(count -> count < 2))
+            return nodes;
+
+        List<IPredicateNode> merged = new ArrayList<>(nodes.size());
+        Set<ColumnKey> emittedColumns = new LinkedHashSet<>();
+        for (IPredicateNode node : nodes) {
+            if (!(node instanceof PredicateLeaf leaf) || !PredicateOptimizer.isEqualityOrInList(leaf.predicate())) {
+                merged.add(node);
+                continue;
+            }
+
+            ColumnKey key = new ColumnKey(leaf.predicate().getColumnName(), leaf.predicate().isValueQuoted());
+            if (countByColumn.get(key) < 2)
+                merged.add(node);
+            else if (emittedColumns.add(key)) {
+                Set<Object> values = valuesByColumn.get(key);
+                merged.add(new PredicateLeaf(values.size() == 1
+                        ? new FilterPredicate(key.columnName(), EFilterCondition.EQUAL, values.iterator().next(), key.valueIsQuoted())
+                        : new FilterPredicate(key.columnName(), EFilterCondition.IN, Collections.unmodifiableList(new ArrayList<>(values)), key.valueIsQuoted())));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Merge the numeric comparisons of each column into the tightest range, keeping it where the first
+     * comparison of the column was. Returns null if one of the ranges is empty.
+     */
+    private static List<IPredicateNode> mergeRanges(List<IPredicateNode> nodes) {
+        Map<String, List<FilterPredicate>> comparisonsByColumn = new LinkedHashMap<>();
+        for (IPredicateNode node : nodes) {
+            if (node instanceof PredicateLeaf leaf && PredicateOptimizer.numericValue(leaf.predicate()) != null)
+                comparisonsByColumn.computeIfAbsent(leaf.predicate().getColumnName(), k -> new ArrayList<>()).add(leaf.predicate());
+        }
+
+        Map<String, List<IPredicateNode>> rangesByColumn = new LinkedHashMap<>();
+        for (Map.Entry<String, List<FilterPredicate>> entry : comparisonsByColumn.entrySet()) {
+            if (entry.getValue().size() < 2)
+                continue;
+            List<IPredicateNode> range = PredicateOptimizer.tightestRange(entry.getValue());
+            if (range == null)
+                return null;
+            rangesByColumn.put(entry.getKey(), range);
+        }
+
+        if (rangesByColumn.isEmpty())
+            return nodes;
+
+        List<IPredicateNode> merged = new ArrayList<>(nodes.size());
+        for (IPredicateNode node : nodes) {
+            if (!(node instanceof PredicateLeaf leaf) || PredicateOptimizer.numericValue(leaf.predicate()) == null
+                    || !rangesByColumn.containsKey(leaf.predicate().getColumnName())) {
+                merged.add(node);
+                continue;
+            }
+            // the whole range goes in place of the first comparison, the others are dropped
+            List<IPredicateNode> range = rangesByColumn.put(leaf.predicate().getColumnName(), List.of());
+            merged.addAll(range);
+        }
+        return merged;
+    }
+
+    private static List<IPredicateNode> tightestRange(List<FilterPredicate> comparisons) {
+        FilterPredicate equal = null;
+        FilterPredicate lower = null;
+        FilterPredicate upper = null;
+        for (FilterPredicate comparison : comparisons) {
+            BigDecimal value = PredicateOptimizer.numericValue(comparison);
+            switch (comparison.getCondition()) {
+                case EQUAL -> {
+                    if (equal != null && value.compareTo(PredicateOptimizer.numericValue(equal)) != 0)
+                        return null;
+                    equal = comparison;
+                }
+                case GREATER_THAN, GREATER_THAN_EQUAL -> {
+                    if (lower == null || PredicateOptimizer.isTighter(comparison, lower, 1))
+                        lower = comparison;
+                }
+                case LESS_THAN, LESS_THAN_EQUAL -> {
+                    if (upper == null || PredicateOptimizer.isTighter(comparison, upper, -1))
+                        upper = comparison;
+                }
+                default -> throw new IllegalStateException("Unexpected range condition " + comparison.getCondition());
+            }
+        }
+
+        if (equal != null) {
+            BigDecimal value = PredicateOptimizer.numericValue(equal);
+            if (lower != null && !PredicateOptimizer.isWithinBound(value, lower, 1))
+                return null;
+            if (upper != null && !PredicateOptimizer.isWithinBound(value, upper, -1))
+                return null;
+            return List.of(new PredicateLeaf(equal));
+        }
+
+        if (lower != null && upper != null) {
+            int order = PredicateOptimizer.numericValue(lower).compareTo(PredicateOptimizer.numericValue(upper));
+            if (order > 0 || (order == 0 && (PredicateOptimizer.isStrict(lower) || PredicateOptimizer.isStrict(upper))))
+                return null;
+            if (order == 0)
+                return List.of(new PredicateLeaf(new FilterPredicate(lower.getColumnName(), EFilterCondition.EQUAL, lower.getValue(), lower.isValueQuoted())));
+        }
+
+        List<IPredicateNode> range = new ArrayList<>(2);
+        if (lower != null)
+            range.add(new PredicateLeaf(lower));
+        if (upper != null)
+            range.add(new PredicateLeaf(upper));
+        return range;
+    }
+
+    /**
+     * Whether the candidate bound excludes more than the current one. The direction is 1 for lower bounds and -1 for upper bounds.
+     */
+    private static boolean isTighter(FilterPredicate candidate, FilterPredicate current, int direction) {
+        int order = PredicateOptimizer.numericValue(candidate).compareTo(PredicateOptimizer.numericValue(current)) * direction;
+        return order > 0 || (order == 0 && PredicateOptimizer.isStrict(candidate) && !PredicateOptimizer.isStrict(current));
+    }
+
+    private static boolean isWithinBound(BigDecimal value, FilterPredicate bound, int direction) {
+        int order = value.compareTo(PredicateOptimizer.numericValue(bound)) * direction;
+        return order > 0 || (order == 0 && !PredicateOptimizer.isStrict(bound));
+    }
+
+    private static boolean isStrict(FilterPredicate predicate) {
+        return predicate.getCondition() == EFilterCondition.GREATER_THAN || predicate.getCondition() == EFilterCondition.LESS_THAN;
+    }
+
+    private static boolean isEqualityOrInList(FilterPredicate predicate) {
+        return predicate.getCondition() == EFilterCondition.EQUAL
+                || (predicate.getCondition() == EFilterCondition.IN && predicate.getValue() instanceof Iterable<?>);
+    }
+
+    /**
+     * The value of an equality or range comparison against an unquoted number, or null if the predicate can't take part in range merging.
+     */
+    private static BigDecimal numericValue(FilterPredicate predicate) {
+        switch (predicate.getCondition()) {
+            case EQUAL, GREATER_THAN, GREATER_THAN_EQUAL, LESS_THAN, LESS_THAN_EQUAL -> { }
+            default -> { return null; }
+        }
+        if (predicate.isValueQuoted() || !(predicate.getValue() instanceof Number number))
+            return null;
+        if (number instanceof BigDecimal decimal)
+            return decimal;
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            // NaN and infinity
+            return null;
+        }
+    }
+
+    private static List<Object> listValues(FilterPredicate predicate) {
+        List<Object> values = new ArrayList<>();
+        if (predicate.getValue() instanceof Iterable<?> items && predicate.getCondition() != EFilterCondition.EQUAL) {
+            for (Object item : items)
+                values.add(item);
+        } else
+            values.add(predicate.getValue());
+        return values;
+    }
+
+    private record ColumnKey(String columnName, boolean valueIsQuoted) { }
+}
@@ -0,0 +1,75 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.dialect.DialectRenderers;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One aggregate select item, written by the dialect the query is rendered with.
+ */
+final class AggregateProjection implements IProjection {
+    private final EAggregateFunction function;
+    private final String columnName;
+    private final String alias;
+
+    AggregateProjection(EAggregateFunction function, String columnName, String alias) {
+        this.function = function;
+        this.columnName = columnName;
+        this.alias = alias;
+    }
+
+    @Override
+    public int render(SQLWriter writer, boolean isFirst) {
+        return this.render(writer, DialectRenderers.forDialect(EDialect.STANDARD), isFirst);
+    }
+
+    @Override
+    public int render(SQLWriter writer, IDialectRenderer dialect, boolean isFirst) {
+        if (!isFirst)
+            writer.append(',');
+        dialect.appendAggregate(writer, this.function, this.columnName);
+        if (this.alias != null)
+            writer.append(" AS ").append(this.alias);
+        return 1;
+    }
+
+    @Override
+    public int hashShape(FingerprintHasher hasher) {
+        hasher.putEnum(this.function).putString(this.columnName).putString(this.alias);
+        return 1;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer, true);
+        return List.of(writer.toString());
+    }
+
+    @Override
+    public boolean isAggregate() { return true; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof AggregateProjection other))
+            return false;
+        return this.function == other.function
+                && Objects.equals(this.columnName, other.columnName)
+                && Objects.equals(this.alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.function.hashCode();
+        hash = 31 * hash + Objects.hashCode(this.columnName);
+        return 31 * hash + Objects.hashCode(this.alias);
+    }
+}
@@ -0,0 +1,48 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+/**
+ * Plain column names (or any other select item written out as a string.)
+ */
+final class ColumnListProjection implements IProjection {
+    private final List<String> columnNames;
+
+    ColumnListProjection(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    @Override
+    public int render(SQLWriter writer, boolean isFirst) {
+        for (int i = 0; i < this.columnNames.size(); i++) {
+            if (i > 0 || !isFirst)
+                writer.append(',');
+            writer.append(this.columnNames.get(i));
+        }
+        return this.columnNames.size();
+    }
+
+    @Override
+    public int hashShape(FingerprintHasher hasher) {
+        // hashed like a column spec without cast and alias, so both ways of selecting a column have the same fingerprint
+        for (String columnName : this.columnNames)
+            ColumnSpec.hashShape(hasher, columnName, null, null);
+        return this.columnNames.size();
+    }
+
+    @Override
+    public List<String> getColumns() { return this.columnNames; }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ColumnListProjection other && this.columnNames.equals(other.columnNames));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.columnNames.hashCode();
+    }
+}
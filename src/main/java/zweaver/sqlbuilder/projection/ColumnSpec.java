@@ -0,0 +1,88 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.datatypes.IDataType;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.Objects;
+
+/**
+ * One select item: a column, optionally cast to another type and/or aliased.
+ * The cast is only rendered when the query is.
+ */
+public final class ColumnSpec {
+    private final String columnName;
+    private final IDataType castTo;
+    private final String alias;
+
+    public ColumnSpec(String columnName) {
+        this(columnName, null, null);
+    }
+
+    public ColumnSpec(String columnName, IDataType castTo) {
+        this(columnName, castTo, null);
+    }
+
+    /**
+     * @param castTo The type to cast the column to, or null
+     * @param alias The alias of the select item, or null
+     */
+    public ColumnSpec(String columnName, IDataType castTo, String alias) {
+        this.columnName = columnName;
+        this.castTo = castTo;
+        this.alias = alias;
+    }
+
+    public String getColumnName() { return this.columnName; }
+
+    public IDataType getCastTo() { return this.castTo; }
+
+    public String getAlias() { return this.alias; }
+
+    public void render(SQLWriter writer) {
+        ColumnSpec.render(writer, this.columnName, this.castTo, this.alias);
+    }
+
+    static void render(SQLWriter writer, String columnName, IDataType castTo, String alias) {
+        if (castTo == null)
+            writer.append(columnName);
+        else
+            castTo.appendCast(writer, columnName);
+
+        if (alias != null)
+            writer.append(" AS ").append(alias);
+    }
+
+    void hashShape(FingerprintHasher hasher) {
+        ColumnSpec.hashShape(hasher, this.columnName, this.castTo, this.alias);
+    }
+
+    static void hashShape(FingerprintHasher hasher, String columnName, IDataType castTo, String alias) {
+        hasher.putString(columnName).putString(castTo == null ? null : castTo.toString()).putString(alias);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ColumnSpec other))
+            return false;
+        return Objects.equals(this.columnName, other.columnName)
+                && Objects.equals(this.castTo, other.castTo)
+                && Objects.equals(this.alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hashCode(this.columnName);
+        hash = 31 * hash + Objects.hashCode(this.castTo);
+        return 31 * hash + Objects.hashCode(this.alias);
+    }
+
+    @Override
+    public String toString() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer);
+        return writer.toString();
+    }
+}
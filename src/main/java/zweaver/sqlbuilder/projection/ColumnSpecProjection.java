@@ -0,0 +1,58 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column specs read from their source on every render.
+ */
+final class ColumnSpecProjection implements IProjection {
+    private final Iterable<ColumnSpec> specs;
+
+    ColumnSpecProjection(Iterable<ColumnSpec> specs) {
+        this.specs = specs;
+    }
+
+    @Override
+    public int render(SQLWriter writer, boolean isFirst) {
+        int count = 0;
+        for (ColumnSpec spec : this.specs) {
+            if (count > 0 || !isFirst)
+                writer.append(',');
+            spec.render(writer);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public int hashShape(FingerprintHasher hasher) {
+        int count = 0;
+        for (ColumnSpec spec : this.specs) {
+            spec.hashShape(hasher);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        List<String> columns = new ArrayList<>();
+        for (ColumnSpec spec : this.specs)
+            columns.add(spec.toString());
+        return columns;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ColumnSpecProjection other && this.specs.equals(other.specs));
+    }
+
+    @Override
+    public int hashCode() {
+        return this.specs.hashCode();
+    }
+}
@@ -0,0 +1,33 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.datatypes.IDataType;
+import zweaver.sqlbuilder.entities.TableColumn;
+
+/**
+ * Decides which type a schema column is cast to when it is selected, see {@link Projections#schema}.
+ */
+@FunctionalInterface
+public interface ICastPolicy {
+    /**
+     * @return The type to cast the column to, or null to select it as is
+     */
+    public IDataType castFor(TableColumn column);
+
+    public static ICastPolicy none() {
+        return column -> null;
+    }
+
+    /**
+     * Cast every column to the type it is declared with.
+     */
+    public static ICastPolicy declaredType() {
+        return TableColumn::getDataType;
+    }
+
+    /**
+     * Cast every column to the same type, e.g., to VARCHAR for a text export.
+     */
+    public static ICastPolicy allTo(IDataType dataType) {
+        return column -> dataType;
+    }
+}
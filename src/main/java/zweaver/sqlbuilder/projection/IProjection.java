@@ -0,0 +1,54 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+
+/**
+ * Source of select items (columns, casts, aliases) that is only read when the query is rendered.
+ * See {@link Projections} for the built-in sources.
+ */
+public interface IProjection {
+    /**
+     * Write the select items separated by commas.
+     * @param isFirst Whether no select item was written before, otherwise the first item is preceded by a comma
+     * @return The number of select items written
+     */
+    public int render(SQLWriter writer, boolean isFirst);
+
+    /**
+     * Same as {@link #render(SQLWriter, boolean)} for select items that differ between dialects, e.g., aggregates.
+     */
+    public default int render(SQLWriter writer, IDialectRenderer dialect, boolean isFirst) {
+        return this.render(writer, isFirst);
+    }
+
+    /**
+     * Whether the select items aggregate rows, so the query returns one row per group instead of one per row.
+     */
+    public default boolean isAggregate() { return false; }
+
+    /**
+     * Whether the select items are window functions, whose values depend on the other rows of their partition.
+     */
+    public default boolean isWindow() { return false; }
+
+    /**
+     * The window functions of the select items, empty unless {@link #isWindow()}.
+     */
+    public default List<WindowFunction> getWindowFunctions() { return List.of(); }
+
+    /**
+     * Hash the select items as they would be rendered, see {@link FingerprintHasher}.
+     * @return The number of select items hashed
+     */
+    public int hashShape(FingerprintHasher hasher);
+
+    /**
+     * The rendered select items, one string per item. This materializes lazy sources.
+     */
+    public List<String> getColumns();
+}
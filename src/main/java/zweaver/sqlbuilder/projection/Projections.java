@@ -0,0 +1,74 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Built-in {@link IProjection} sources.
+ *
+ * {@link #column} and {@link #columns} copy their names. The lazy sources ({@link #lazy}, {@link #generated},
+ * {@link #schema}) are not copied and are read again on every render, so a wide select never holds its
+ * select items in memory; every item is written straight into the output. A lazy source must return the
+ * same items on every read, or else a {@link zweaver.sqlbuilder.render.RenderCache} returns stale SQL.
+ */
+public final class Projections {
+    private Projections() { }
+
+    public static IProjection column(String columnName) {
+        return new ColumnListProjection(Collections.singletonList(columnName));
+    }
+
+    public static IProjection columns(Iterable<String> columnNames) {
+        List<String> copy = new ArrayList<>();
+        for (String columnName : columnNames)
+            copy.add(columnName);
+        return new ColumnListProjection(Collections.unmodifiableList(copy));
+    }
+
+    public static IProjection spec(ColumnSpec spec) {
+        return new ColumnSpecProjection(Collections.singletonList(spec));
+    }
+
+    /**
+     * Column specs read from the given iterable on every render.
+     */
+    public static IProjection lazy(Iterable<ColumnSpec> specs) {
+        return new ColumnSpecProjection(specs);
+    }
+
+    /**
+     * Column specs from a new stream on every render, e.g., generated from a schema registry.
+     */
+    public static IProjection generated(Supplier<? extends Stream<ColumnSpec>> specs) {
+        return new ColumnSpecProjection(() -> specs.get().iterator());
+    }
+
+    /**
+     * An aggregate of a column, e.g., "SUM(amount) AS total", written in the dialect of the query. Use "*" as
+     * the column for COUNT(*) and null for no alias.
+     */
+    public static IProjection aggregate(EAggregateFunction function, String columnName, String alias) {
+        return new AggregateProjection(function, columnName, alias);
+    }
+
+    /**
+     * A window function, e.g., "ROW_NUMBER() OVER (PARTITION BY a ORDER BY b) AS rank". Use null for no alias.
+     */
+    public static IProjection window(WindowFunction windowFunction, String alias) {
+        return new WindowProjection(windowFunction, alias);
+    }
+
+    /**
+     * Every column of the schema, cast to the type chosen by the policy (and aliased to its own name if it is cast.)
+     */
+    public static IProjection schema(Iterable<TableColumn> columns, ICastPolicy castPolicy) {
+        return new SchemaProjection(columns, castPolicy);
+    }
+}
@@ -0,0 +1,73 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.datatypes.IDataType;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Every column of a schema, cast according to a policy. Cast columns are aliased to their own name.
+ */
+final class SchemaProjection implements IProjection {
+    private final Iterable<TableColumn> columns;
+    private final ICastPolicy castPolicy;
+
+    SchemaProjection(Iterable<TableColumn> columns, ICastPolicy castPolicy) {
+        this.columns = columns;
+        this.castPolicy = castPolicy;
+    }
+
+    @Override
+    public int render(SQLWriter writer, boolean isFirst) {
+        int count = 0;
+        for (TableColumn column : this.columns) {
+            if (count > 0 || !isFirst)
+                writer.append(',');
+            IDataType castTo = this.castPolicy.castFor(column);
+            ColumnSpec.render(writer, column.getName(), castTo, castTo == null ? null : column.getName());
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public int hashShape(FingerprintHasher hasher) {
+        int count = 0;
+        for (TableColumn column : this.columns) {
+            IDataType castTo = this.castPolicy.castFor(column);
+            ColumnSpec.hashShape(hasher, column.getName(), castTo, castTo == null ? null : column.getName());
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        List<String> columns = new ArrayList<>();
+        for (TableColumn column : this.columns) {
+            SQLWriter writer = new SQLWriter();
+            IDataType castTo = this.castPolicy.castFor(column);
+            ColumnSpec.render(writer, column.getName(), castTo, castTo == null ? null : column.getName());
+            columns.add(writer.toString());
+        }
+        return columns;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof SchemaProjection other))
+            return false;
+        return this.columns.equals(other.columns) && this.castPolicy.equals(other.castPolicy);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.columns.hashCode() + Objects.hashCode(this.castPolicy);
+    }
+}
@@ -0,0 +1,65 @@
+package zweaver.sqlbuilder.projection;
+
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.render.FingerprintHasher;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One window function select item.
+ */
+final class WindowProjection implements IProjection {
+    private final WindowFunction windowFunction;
+    private final String alias;
+
+    WindowProjection(WindowFunction windowFunction, String alias) {
+        this.windowFunction = windowFunction;
+        this.alias = alias;
+    }
+
+    @Override
+    public int render(SQLWriter writer, boolean isFirst) {
+        if (!isFirst)
+            writer.append(',');
+        this.windowFunction.render(writer);
+        if (this.alias != null)
+            writer.append(" AS ").append(this.alias);
+        return 1;
+    }
+
+    @Override
+    public int hashShape(FingerprintHasher hasher) {
+        this.windowFunction.hashShape(hasher);
+        hasher.putString(this.alias);
+        return 1;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        SQLWriter writer = new SQLWriter();
+        this.render(writer, true);
+        return List.of(writer.toString());
+    }
+
+    @Override
+    public boolean isWindow() { return true; }
+
+    @Override
+    public List<WindowFunction> getWindowFunctions() { return List.of(this.windowFunction); }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof WindowProjection other))
+            return false;
+        return this.windowFunction.equals(other.windowFunction) && Objects.equals(this.alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.windowFunction.hashCode() + Objects.hashCode(this.alias);
+    }
+}
@@ -0,0 +1,23 @@
+package zweaver.sqlbuilder.render;
+
+import java.util.List;
+
+/**
+ * SQL text with placeholders together with the values to bind to them, in placeholder order.
+ */
+public final class BoundStatement {
+    private final String sql;
+    private final List<Object> parameters;
+
+    public BoundStatement(String sql, List<Object> parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    public String getSql() { return this.sql; }
+
+    public List<Object> getParameters() { return this.parameters; }
+
+    @Override
+    public String toString() { return this.sql; }
+}
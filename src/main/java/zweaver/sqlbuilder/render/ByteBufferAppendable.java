@@ -0,0 +1,74 @@
+package zweaver.sqlbuilder.render;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Appendable that encodes everything appended to it straight into a {@link ByteBuffer}.
+ * Call {@link #finish()} once everything has been written to flush the encoder.
+ * Throws {@link BufferOverflowException} if the buffer runs out of space.
+ */
+public final class ByteBufferAppendable implements Appendable {
+    private final ByteBuffer target;
+    private final CharsetEncoder encoder;
+    private final CharBuffer singleChar;
+    private CharSequence pending;
+
+    public ByteBufferAppendable(ByteBuffer target, Charset charset) {
+        this.target = target;
+        this.encoder = charset.newEncoder();
+        this.singleChar = CharBuffer.allocate(1);
+        this.pending = null;
+    }
+
+    @Override
+    public Appendable append(CharSequence text) throws CharacterCodingException {
+        if (this.pending != null) {
+            // a surrogate pair was split between two appends
+            text = new StringBuilder(this.pending).append(text);
+            this.pending = null;
+        }
+        this.encode(CharBuffer.wrap(text), false);
+        return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence text, int start, int end) throws CharacterCodingException {
+        return this.append(text.subSequence(start, end));
+    }
+
+    @Override
+    public Appendable append(char character) throws CharacterCodingException {
+        if (this.pending != null)
+            return this.append(String.valueOf(character));
+
+        this.singleChar.clear();
+        this.singleChar.put(character).flip();
+        this.encode(this.singleChar, false);
+        return this;
+    }
+
+    public void finish() throws CharacterCodingException {
+        this.encode(CharBuffer.wrap(this.pending == null ? "" : this.pending), true);
+        this.pending = null;
+        this.check(this.encoder.flush(this.target));
+    }
+
+    private void encode(CharBuffer input, boolean endOfInput) throws CharacterCodingException {
+        this.check(this.encoder.encode(input, this.target, endOfInput));
+        if (input.hasRemaining())
+            this.pending = input.toString();
+    }
+
+    private void check(CoderResult result) throws CharacterCodingException {
+        if (result.isOverflow())
+            throw new BufferOverflowException();
+        if (result.isError())
+            result.throwException();
+    }
+}
@@ -0,0 +1,68 @@
+package zweaver.sqlbuilder.render;
+
+/**
+ * 64-bit FNV-1a hash over the structure of a statement, fed by the query nodes without rendering
+ * any SQL. Strings are prefixed with their length so adjacent parts can't run into each other, and
+ * enums are hashed by name so the hash of a shape stays the same across versions and JVM runs.
+ */
+public final class FingerprintHasher {
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash;
+
+    public FingerprintHasher() {
+        this.hash = OFFSET_BASIS;
+    }
+
+    public FingerprintHasher putInt(int value) {
+        for (int shift = 0; shift < 32; shift += 8)
+            this.hash = (this.hash ^ ((value >>> shift) & 0xff)) * PRIME;
+        return this;
+    }
+
+    public FingerprintHasher putLong(long value) {
+        for (int shift = 0; shift < 64; shift += 8)
+            this.hash = (this.hash ^ ((value >>> shift) & 0xff)) * PRIME;
+        return this;
+    }
+
+    public FingerprintHasher putBoolean(boolean value) {
+        this.hash = (this.hash ^ (value ? 1 : 0)) * PRIME;
+        return this;
+    }
+
+    /**
+     * Hash a string, or null (which is distinct from the empty string.)
+     */
+    public FingerprintHasher putString(String value) {
+        if (value == null)
+            return this.putInt(-1);
+
+        this.putInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            this.hash = (this.hash ^ (character & 0xff)) * PRIME;
+            this.hash = (this.hash ^ (character >>> 8)) * PRIME;
+        }
+        return this;
+    }
+
+    public FingerprintHasher putEnum(Enum<?> value) {
+        return this.putString(value == null ? null : value.name());
+    }
+
+    /**
+     * The hash of everything put so far, with the bits mixed so that similar shapes don't get similar hashes.
+     */
+    public long getHash() {
+        // final mix of MurmurHash3
+        long hash = this.hash;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
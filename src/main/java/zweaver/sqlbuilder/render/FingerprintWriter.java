@@ -0,0 +1,29 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+/**
+ * Writer that renders the normalized text of a statement: every literal is replaced by "?" and
+ * every IN/NOT IN list is collapsed to "(?)", so all statements of the same shape render the same.
+ * Limits and offsets are part of the shape and are kept as is.
+ */
+public final class FingerprintWriter extends SQLWriter {
+    public FingerprintWriter() {
+        super();
+    }
+
+    public FingerprintWriter(Appendable out) {
+        super(out);
+    }
+
+    @Override
+    public void appendFilterValue(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        this.append(SelectUtil.isListCondition(condition) ? "(?)" : "?");
+    }
+
+    @Override
+    public void appendValue(Object value, boolean valueIsQuoted) {
+        this.append('?');
+    }
+}
@@ -0,0 +1,11 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+
+/**
+ * Renders one independent part of a statement (e.g., one branch of a union), see {@link ParallelRenderer}.
+ */
+@FunctionalInterface
+public interface ISegmentRenderer {
+    public void render(SQLWriter writer, int index) throws SelectBuilderException;
+}
@@ -0,0 +1,74 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Renders the segments of a statement on an executor and joins them in order.
+ *
+ * The segments are split into one contiguous chunk per core. Every chunk is rendered into the pooled
+ * buffer of the thread running it, and the first chunk is rendered by the calling thread while the
+ * others are in flight. The chunks are then joined into a string of exactly the final size with one copy.
+ */
+public final class ParallelRenderer {
+    private ParallelRenderer() { }
+
+    public static String render(int segmentCount, ISegmentRenderer segmentRenderer, Executor executor) throws SelectBuilderException {
+        int chunkCount = Math.min(segmentCount, Runtime.getRuntime().availableProcessors());
+        if (chunkCount <= 1)
+            return ParallelRenderer.renderChunk(segmentRenderer, 0, segmentCount);
+
+        List<CompletableFuture<String>> chunks = new ArrayList<>(chunkCount - 1);
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            int from = ParallelRenderer.chunkStart(chunk, chunkCount, segmentCount);
+            int to = ParallelRenderer.chunkStart(chunk + 1, chunkCount, segmentCount);
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ParallelRenderer.renderChunk(segmentRenderer, from, to);
+                } catch (SelectBuilderException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        String[] renderedChunks = new String[chunkCount];
+        try {
+            renderedChunks[0] = ParallelRenderer.renderChunk(segmentRenderer, 0, ParallelRenderer.chunkStart(1, chunkCount, segmentCount));
+            for (int chunk = 1; chunk < chunkCount; chunk++)
+                renderedChunks[chunk] = chunks.get(chunk - 1).join();
+        } catch (CompletionException e) {
+            chunks.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof SelectBuilderException cause)
+                throw cause;
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        } catch (SelectBuilderException | RuntimeException e) {
+            chunks.forEach(future -> future.cancel(false));
+            throw e;
+        }
+
+        // sizes the result exactly and copies every chunk once, unlike a StringBuilder and its toString()
+        return String.join("", renderedChunks);
+    }
+
+    private static int chunkStart(int chunk, int chunkCount, int segmentCount) {
+        return (int) ((long) chunk * segmentCount / chunkCount);
+    }
+
+    private static String renderChunk(ISegmentRenderer segmentRenderer, int from, int to) throws SelectBuilderException {
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            for (int i = from; i < to; i++)
+                segmentRenderer.render(writer, i);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+}
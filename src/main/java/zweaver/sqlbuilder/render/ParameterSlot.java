@@ -0,0 +1,35 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+/**
+ * A value position inside a {@link SelectTemplate}. The slot remembers which column and
+ * condition it belongs to and whether its value(s) are quoted, so values supplied at
+ * render time are formatted exactly like the ones the template was compiled with.
+ */
+public final class ParameterSlot {
+    private final String columnName;
+    private final EFilterCondition condition;
+    private final boolean valueIsQuoted;
+
+    public ParameterSlot(String columnName, EFilterCondition condition, boolean valueIsQuoted) {
+        this.columnName = columnName;
+        this.condition = condition;
+        this.valueIsQuoted = valueIsQuoted;
+    }
+
+    public String getColumnName() { return this.columnName; }
+
+    public EFilterCondition getCondition() { return this.condition; }
+
+    public boolean isValueQuoted() { return this.valueIsQuoted; }
+
+    public boolean isList() {
+        return SelectUtil.isListCondition(this.condition);
+    }
+
+    void render(SQLWriter writer, Object value) {
+        SelectUtil.appendCondition(writer, this.condition, value, this.valueIsQuoted);
+    }
+}
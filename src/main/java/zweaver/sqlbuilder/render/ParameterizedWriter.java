@@ -0,0 +1,196 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writer that emits placeholders instead of literal filter values and collects the
+ * values in placeholder order. Quoted values are bound as strings so they compare
+ * the same way the quoted literal would.
+ *
+ * IN/NOT IN lists follow the bucketing options of the {@link SQLContext} (if one is given)
+ * so that lists of different lengths map onto a bounded set of statement texts.
+ */
+public class ParameterizedWriter extends SQLWriter {
+    protected final SQLContext context;
+    protected final EPlaceholderStyle placeholderStyle;
+    protected final List<Object> parameters;
+
+    public ParameterizedWriter(EPlaceholderStyle placeholderStyle) {
+        this(null, placeholderStyle);
+    }
+
+    public ParameterizedWriter(SQLContext context, EPlaceholderStyle placeholderStyle) {
+        this.context = context;
+        this.placeholderStyle = placeholderStyle;
+        this.parameters = new ArrayList<>();
+    }
+
+    @Override
+    public void appendCondition(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        if (this.context == null || !SelectUtil.isListCondition(condition)) {
+            super.appendCondition(columnName, condition, value, valueIsQuoted);
+            return;
+        }
+
+        List<Object> items = ParameterizedWriter.toList(value);
+        if (items.isEmpty()) {
+            super.appendCondition(columnName, condition, value, valueIsQuoted);
+            return;
+        }
+
+        int arrayThreshold = this.context.getInListArrayThreshold();
+        if (arrayThreshold > 0 && items.size() > arrayThreshold) {
+            IDialectRenderer dialect = this.context.getDialectRenderer();
+            Object[] array = dialect.supportsArrayParameters() ? ParameterizedWriter.toTypedArray(items, valueIsQuoted) : null;
+            if (array != null) {
+                this.append(condition == EFilterCondition.IN ? "= ANY(" : "<> ALL(");
+                this.parameters.add(array);
+                this.appendPlaceholder();
+                this.append(')');
+                return;
+            }
+
+            if (dialect.supportsValuesList()) {
+                SelectUtil.appendFilterOperator(this, condition);
+                this.append(" (SELECT v FROM (VALUES ");
+                boolean isFirstItem = true;
+                for (Object item : this.padInList(items, condition)) {
+                    this.append(isFirstItem ? "(" : ",(");
+                    this.appendParameter(item, valueIsQuoted);
+                    this.append(')');
+                    isFirstItem = false;
+                }
+                this.append(") AS in_list(v))");
+                return;
+            }
+        }
+
+        SelectUtil.appendFilterOperator(this, condition);
+        this.append(" (");
+        boolean isFirstItem = true;
+        for (Object item : this.padInList(items, condition)) {
+            if (!isFirstItem)
+                this.append(',');
+            this.appendParameter(item, valueIsQuoted);
+            isFirstItem = false;
+        }
+        this.append(')');
+    }
+
+    @Override
+    public void appendFilterValue(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        if (SelectUtil.isListCondition(condition)) {
+            this.append('(');
+            if (value instanceof Iterable<?>) {
+                Iterable<?> itemList = (Iterable<?>) value;
+                boolean isFirstItem = true;
+                for (Object item : itemList) {
+                    if (!isFirstItem)
+                        this.append(',');
+                    this.appendParameter(item, valueIsQuoted);
+                    isFirstItem = false;
+                }
+            } else
+                this.appendParameter(value, valueIsQuoted);
+            this.append(')');
+        } else
+            this.appendParameter(value, valueIsQuoted);
+    }
+
+    @Override
+    public void appendValue(Object value, boolean valueIsQuoted) {
+        this.appendParameter(value, valueIsQuoted);
+    }
+
+    protected void appendParameter(Object value, boolean valueIsQuoted) {
+        this.parameters.add(valueIsQuoted && value != null ? String.valueOf(value) : value);
+        this.appendPlaceholder();
+    }
+
+    /**
+     * Array of the element type the driver needs to infer the SQL array type (e.g., Integer[] for
+     * int4[]), since an Object[] can not be bound. Quoted values become a String[], integers of mixed
+     * types a Long[]. Null if the items have no common type; the caller then falls back to a list.
+     */
+    private static Object[] toTypedArray(List<Object> items, boolean valueIsQuoted) {
+        if (valueIsQuoted) {
+            String[] array = new String[items.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = items.get(i) == null ? null : String.valueOf(items.get(i));
+            return array;
+        }
+
+        Class<?> elementType = null;
+        for (Object item : items) {
+            if (item == null || item.getClass() == elementType)
+                continue;
+            if (elementType == null)
+                elementType = item.getClass();
+            else if (ParameterizedWriter.isIntegral(elementType) && ParameterizedWriter.isIntegral(item.getClass()))
+                elementType = Long.class;
+            else
+                return null;
+        }
+        if (elementType == null)
+            return null;
+
+        Object[] array = (Object[]) Array.newInstance(elementType, items.size());
+        for (int i = 0; i < array.length; i++) {
+            Object item = items.get(i);
+            array[i] = elementType == Long.class && item != null ? ((Number) item).longValue() : item;
+        }
+        return array;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    private void appendPlaceholder() {
+        switch (this.placeholderStyle) {
+            case POSITIONAL -> this.append('?');
+            case NUMBERED -> this.append('$').append(this.parameters.size());
+            case NAMED -> this.append(":p").append(this.parameters.size());
+        }
+    }
+
+    private List<Object> padInList(List<Object> items, EFilterCondition condition) {
+        EInListPadding padding = this.context.getInListPadding();
+        int bucketSize = SelectUtil.inListBucketSize(items.size());
+        if (padding == EInListPadding.NONE || bucketSize == items.size())
+            return items;
+
+        // a NULL inside NOT IN makes the whole condition unknown, so always repeat the last value there
+        Object padValue = padding == EInListPadding.NULL && condition == EFilterCondition.IN ? null : items.getLast();
+        List<Object> padded = new ArrayList<>(bucketSize);
+        padded.addAll(items);
+        while (padded.size() < bucketSize)
+            padded.add(padValue);
+        return padded;
+    }
+
+    private static List<Object> toList(Object value) {
+        if (!(value instanceof Iterable<?>))
+            return Collections.singletonList(value);
+
+        List<Object> items = value instanceof Collection<?> ? new ArrayList<>(((Collection<?>) value).size()) : new ArrayList<>();
+        for (Object item : (Iterable<?>) value)
+            items.add(item);
+        return items;
+    }
+
+    public BoundStatement toBoundStatement() {
+        return new BoundStatement(this.out.toString(), Collections.unmodifiableList(this.parameters));
+    }
+}
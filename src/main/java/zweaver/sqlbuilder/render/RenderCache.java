@@ -0,0 +1,164 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of rendered SQL keyed by the structure of the query node (table, columns, filters,
+ * limit, ...), the dialect renderer of its {@link zweaver.sqlbuilder.SQLContext} and whether it was rendered
+ * as a final statement. Set it on a context with
+ * {@link zweaver.sqlbuilder.SQLContext#setRenderCache(RenderCache)} and every {@code build()} of a
+ * query using that context looks here first.
+ *
+ * The cache is split into independently locked segments, each evicting its least recently used
+ * entries once it holds more than its share of entries or of weight (total length of the cached SQL.)
+ * Entries older than the time to live, if any, are treated as absent.
+ */
+public final class RenderCache {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final long timeToLiveNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public RenderCache(int maximumSize) {
+        this(maximumSize, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @param maximumSize maximum number of cached statements
+     * @param maximumWeight maximum number of cached characters over all statements
+     * @param timeToLive how long an entry stays valid after it was added, or null to keep it until evicted
+     */
+    public RenderCache(int maximumSize, long maximumWeight, Duration timeToLive) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        if (maximumWeight <= 0)
+            throw new IllegalArgumentException("Maximum weight must be positive.");
+
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+            this.segments[i] = new Segment(maximumSize / segmentCount, Math.max(1, maximumWeight / segmentCount));
+
+        this.timeToLiveNanos = timeToLive == null ? 0 : Math.max(1, timeToLive.toNanos());
+    }
+
+    /**
+     * Rendered SQL for the given query node, or null if it is not cached.
+     */
+    public String get(Object query, IDialectRenderer dialect, boolean isFinalStatement) {
+        Key key = new Key(query, dialect, isFinalStatement);
+        String sql = this.segmentFor(key).get(key);
+        if (sql == null)
+            this.missCount.increment();
+        else
+            this.hitCount.increment();
+        return sql;
+    }
+
+    public void put(Object query, IDialectRenderer dialect, boolean isFinalStatement, String sql) {
+        Key key = new Key(query, dialect, isFinalStatement);
+        this.segmentFor(key).put(key, sql);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : this.segments)
+            segment.clear();
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : this.segments)
+            size += segment.size();
+        return size;
+    }
+
+    public long getHitCount() { return this.hitCount.sum(); }
+
+    public long getMissCount() { return this.missCount.sum(); }
+
+    public long getEvictionCount() { return this.evictionCount.sum(); }
+
+    @Override
+    public String toString() {
+        return "RenderCache{size=" + this.size() + ", hits=" + this.getHitCount()
+                + ", misses=" + this.getMissCount() + ", evictions=" + this.getEvictionCount() + '}';
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return this.segments[hash & (this.segments.length - 1)];
+    }
+
+    private record Key(Object query, IDialectRenderer dialect, boolean isFinalStatement) {
+    }
+
+    private record Entry(String sql, long expiresAt) {
+    }
+
+    private final class Segment {
+        private final int maximumSize;
+        private final long maximumWeight;
+        private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        private Segment(int maximumSize, long maximumWeight) {
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+        }
+
+        private synchronized String get(Key key) {
+            Entry entry = this.entries.get(key);
+            if (entry == null)
+                return null;
+
+            if (RenderCache.this.timeToLiveNanos != 0 && System.nanoTime() - entry.expiresAt >= 0) {
+                this.entries.remove(key);
+                this.weight -= entry.sql.length();
+                RenderCache.this.evictionCount.increment();
+                return null;
+            }
+
+            return entry.sql;
+        }
+
+        private synchronized void put(Key key, String sql) {
+            // a statement larger than the whole segment would only evict everything else
+            if (sql.length() > this.maximumWeight)
+                return;
+
+            long expiresAt = System.nanoTime() + RenderCache.this.timeToLiveNanos;
+            Entry previous = this.entries.put(key, new Entry(sql, expiresAt));
+            if (previous != null)
+                this.weight -= previous.sql.length();
+            this.weight += sql.length();
+
+            Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+            while (this.entries.size() > this.maximumSize || this.weight > this.maximumWeight) {
+                Entry evicted = eldest.next().getValue();
+                eldest.remove();
+                this.weight -= evicted.sql.length();
+                RenderCache.this.evictionCount.increment();
+            }
+        }
+
+        private synchronized void clear() {
+            this.entries.clear();
+            this.weight = 0;
+        }
+
+        private synchronized int size() {
+            return this.entries.size();
+        }
+    }
+}
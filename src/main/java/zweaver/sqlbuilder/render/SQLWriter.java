@@ -0,0 +1,163 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Sink that builders render their SQL into. Everything is written straight to the underlying
+ * {@link Appendable}, so nested builders (CTEs, unions, ...) share one output without creating
+ * intermediate strings. I/O errors of the sink are rethrown as {@link UncheckedIOException}.
+ *
+ * Filter conditions are routed through {@link #appendCondition} and {@link #appendFilterValue}
+ * so subclasses can decide how a value ends up in the statement (inlined literal, parameter slot, ...).
+ */
+public class SQLWriter {
+    // buffers larger than this are not kept around after a build so one huge statement doesn't pin memory
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+    private static final ThreadLocal<StringBuilder> POOLED_BUFFER = new ThreadLocal<>();
+
+    protected final Appendable out;
+    private final StringBuilder builder;
+    private final boolean isPooled;
+
+    public SQLWriter() {
+        this(new StringBuilder());
+    }
+
+    public SQLWriter(Appendable out) {
+        this(out, false);
+    }
+
+    private SQLWriter(Appendable out, boolean isPooled) {
+        this.out = out;
+        this.builder = out instanceof StringBuilder ? (StringBuilder) out : null;
+        this.isPooled = isPooled;
+    }
+
+    /**
+     * Get a writer backed by this thread's reusable buffer. The only allocation left on a
+     * steady-state build is then the final {@link #toString()}. Call {@link #release()} once
+     * the SQL has been read; if the buffer is still in use (nested builds) a fresh one is used.
+     */
+    public static SQLWriter acquire() {
+        StringBuilder buffer = POOLED_BUFFER.get();
+        if (buffer == null)
+            return new SQLWriter(new StringBuilder(256), true);
+
+        POOLED_BUFFER.remove();
+        buffer.setLength(0);
+        return new SQLWriter(buffer, true);
+    }
+
+    public void release() {
+        if (this.isPooled && this.builder.capacity() <= MAX_POOLED_CAPACITY)
+            POOLED_BUFFER.set(this.builder);
+    }
+
+    public SQLWriter append(CharSequence text) {
+        if (this.builder != null) {
+            this.builder.append(text);
+            return this;
+        }
+
+        try {
+            this.out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public SQLWriter append(CharSequence text, int start, int end) {
+        if (this.builder != null) {
+            this.builder.append(text, start, end);
+            return this;
+        }
+
+        try {
+            this.out.append(text, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public SQLWriter append(char character) {
+        if (this.builder != null) {
+            this.builder.append(character);
+            return this;
+        }
+
+        try {
+            this.out.append(character);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public SQLWriter append(int value) {
+        if (this.builder != null) {
+            this.builder.append(value);
+            return this;
+        }
+        return this.append(String.valueOf(value));
+    }
+
+    public SQLWriter append(long value) {
+        if (this.builder != null) {
+            this.builder.append(value);
+            return this;
+        }
+        return this.append(String.valueOf(value));
+    }
+
+    public SQLWriter append(Object value) {
+        if (value instanceof CharSequence)
+            return this.append((CharSequence) value);
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return this.append(((Number) value).intValue());
+        if (value instanceof Long)
+            return this.append(((Long) value).longValue());
+        return this.append(String.valueOf(value));
+    }
+
+    /**
+     * Write everything after the column name of a filter, e.g., the "= 10" in "col1 = 10".
+     */
+    public void appendCondition(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        SelectUtil.appendFilterOperator(this, condition);
+        this.append(' ');
+        this.appendFilterValue(columnName, condition, value, valueIsQuoted);
+    }
+
+    /**
+     * Write the value side of a filter, e.g., the "10" in "col1 = 10" or the "(1,2,3)" in "col1 IN (1,2,3)".
+     * @param columnName The column the filter applies to
+     * @param condition The filter condition the value belongs to
+     * @param value The filter value (an Iterable for IN/NOT IN lists)
+     * @param valueIsQuoted Whether the value(s) are wrapped in single quotes
+     */
+    public void appendFilterValue(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        SelectUtil.appendFilterValue(this, condition, value, valueIsQuoted);
+    }
+
+    /**
+     * Write a single value that is not part of a filter, e.g., a column value of an INSERT.
+     * A null value is written as NULL.
+     */
+    public void appendValue(Object value, boolean valueIsQuoted) {
+        if (value == null)
+            this.append("NULL");
+        else
+            SelectUtil.appendValue(this, value, valueIsQuoted);
+    }
+
+    @Override
+    public String toString() {
+        return this.out.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+
+import java.util.List;
+
+/**
+ * Immutable, pre-rendered select statement produced by {@link zweaver.sqlbuilder.builders.SelectBuilder#compile()}.
+ *
+ * The statement is stored as static SQL fragments with one {@link ParameterSlot} between each pair
+ * of fragments, so rendering only splices values in; the structure is never re-rendered.
+ * Instances are safe to share between threads.
+ */
+public final class SelectTemplate {
+    private final SQLContext context;
+    private final String[] fragments;
+    private final ParameterSlot[] slots;
+    private final Object[] compiledValues;
+
+    SelectTemplate(SQLContext context, String[] fragments, ParameterSlot[] slots, Object[] compiledValues) {
+        this.context = context;
+        this.fragments = fragments;
+        this.slots = slots;
+        this.compiledValues = compiledValues;
+    }
+
+    public int getParameterCount() { return this.slots.length; }
+
+    public List<ParameterSlot> getParameterSlots() { return List.of(this.slots); }
+
+    /**
+     * Render the template with the values it was compiled with.
+     */
+    public String render() {
+        return this.splice(this.compiledValues);
+    }
+
+    /**
+     * Render the template with new values, one per parameter slot in the order the filters were added.
+     * IN/NOT IN slots accept an Iterable or a single value.
+     * @param values The values to splice into the template
+     * @return The rendered SQL
+     * @throws SelectBuilderException If the number of values does not match the number of slots
+     */
+    public String render(Object... values) throws SelectBuilderException {
+        this.checkValueCount(values);
+        return this.splice(values);
+    }
+
+    /**
+     * Bind new values to the template instead of inlining them, producing SQL with positional
+     * "?" placeholders. See {@link #render(Object...)} for how values map to slots.
+     */
+    public BoundStatement bind(Object... values) throws SelectBuilderException {
+        return this.bind(EPlaceholderStyle.POSITIONAL, values);
+    }
+
+    public BoundStatement bind(EPlaceholderStyle placeholderStyle, Object... values) throws SelectBuilderException {
+        this.checkValueCount(values);
+
+        ParameterizedWriter writer = new ParameterizedWriter(this.context, placeholderStyle);
+        writer.append(this.fragments[0]);
+        for (int i = 0; i < this.slots.length; i++) {
+            ParameterSlot slot = this.slots[i];
+            writer.appendCondition(slot.getColumnName(), slot.getCondition(), values[i], slot.isValueQuoted());
+            writer.append(this.fragments[i + 1]);
+        }
+        return writer.toBoundStatement();
+    }
+
+    private void checkValueCount(Object[] values) throws SelectBuilderException {
+        if (values == null || values.length != this.slots.length)
+            throw new SelectBuilderException("Expected " + this.slots.length + " parameter values but got "
+                    + (values == null ? 0 : values.length) + ".");
+    }
+
+    private String splice(Object[] values) {
+        SQLWriter writer = SQLWriter.acquire();
+        try {
+            writer.append(this.fragments[0]);
+            for (int i = 0; i < this.slots.length; i++) {
+                this.slots[i].render(writer, values[i]);
+                writer.append(this.fragments[i + 1]);
+            }
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package zweaver.sqlbuilder.render;
+
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writer that cuts the rendered SQL into static fragments at every filter condition
+ * and records a {@link ParameterSlot} in place of the operator and value.
+ */
+public final class TemplateWriter extends SQLWriter {
+    private final List<String> fragments;
+    private final List<ParameterSlot> slots;
+    private final List<Object> values;
+
+    private final SQLContext context;
+    private final StringBuilder fragment;
+
+    public TemplateWriter(SQLContext context) {
+        this(context, new StringBuilder());
+    }
+
+    private TemplateWriter(SQLContext context, StringBuilder fragment) {
+        super(fragment);
+        this.context = context;
+        this.fragment = fragment;
+        this.fragments = new ArrayList<>();
+        this.slots = new ArrayList<>();
+        this.values = new ArrayList<>();
+    }
+
+    @Override
+    public void appendCondition(String columnName, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        this.fragments.add(this.fragment.toString());
+        this.fragment.setLength(0);
+        this.slots.add(new ParameterSlot(columnName, condition, valueIsQuoted));
+        this.values.add(value);
+    }
+
+    public SelectTemplate toTemplate() {
+        List<String> allFragments = new ArrayList<>(this.fragments);
+        allFragments.add(this.fragment.toString());
+        return new SelectTemplate(
+                this.context,
+                allFragments.toArray(new String[0]),
+                this.slots.toArray(new ParameterSlot[0]),
+                this.values.toArray());
+    }
+}
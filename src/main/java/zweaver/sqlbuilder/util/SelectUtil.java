@@ -1,6 +1,20 @@
 package zweaver.sqlbuilder.util;
 
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.OrderByColumn;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.SeekKey;
+import zweaver.sqlbuilder.dialect.IDialectRenderer;
 import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterGroupType;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import java.util.Collection;
+import java.util.List;
 
 public class SelectUtil {
 
@@ -11,83 +25,274 @@ public class SelectUtil {
      * @return The sanitized string
      */
     public static String sanitizeQuotes(String value) {
-        StringBuilder buffer = new StringBuilder();
-
-        if (value.contains("'")) {
-            for (int i = 0; i < value.length(); i++) {
-                // single quote, not at end of string
-                if (value.charAt(i) == '\'' && i < value.length() - 1) {
-                    // if next character is NOT single quote, double it up
-                    if (value.charAt(i + 1) != '\'')
-                        buffer.append("''");
-                        // if next character IS single quote, append as is and skip over
-                    else if (value.charAt(i + 1) == '\'') {
-                        buffer.append("''");
-                        i++;
-                    }
-                    // otherwise, append as normal
-                    else
-                        buffer.append(value.charAt(i));
-                }
-                // if single quote at end of string, double it up
-                else if (value.charAt(i) == '\'' && i == value.length() - 1)
-                    buffer.append("''");
-                    // anything else, append as normal
-                else
-                    buffer.append(value.charAt(i));
-            }
+        int quoteIndex = value.indexOf('\'');
+        if (quoteIndex < 0)
+            return value;
+
+        // leave room for roughly one doubled quote every 16 characters before the buffer has to grow
+        SQLWriter writer = new SQLWriter(new StringBuilder(value.length() + (value.length() >>> 4) + 2));
+        SelectUtil.appendSanitizedQuotes(writer, value);
+        return writer.toString();
+    }
 
-            return buffer.toString();
+    /**
+     * Same as {@link #sanitizeQuotes(String)} but writes the sanitized string straight into the writer.
+     * The text between quotes is copied in bulk rather than character by character.
+     */
+    public static void appendSanitizedQuotes(SQLWriter writer, String value) {
+        int quoteIndex = value.indexOf('\'');
+        if (quoteIndex < 0) {
+            writer.append(value);
+            return;
         }
-        else
-            return value;
+
+        int copyFrom = 0;
+        while (quoteIndex >= 0) {
+            writer.append(value, copyFrom, quoteIndex).append("''");
+            copyFrom = quoteIndex + 1;
+            // quotes that are already doubled up are kept as is
+            if (copyFrom < value.length() && value.charAt(copyFrom) == '\'')
+                copyFrom++;
+            quoteIndex = value.indexOf('\'', copyFrom);
+        }
+        writer.append(value, copyFrom, value.length());
     }
 
     public static <T> String buildFilterString(String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
-        StringBuilder filterBuilder = new StringBuilder();
-        filterBuilder.append(columnName);
-        filterBuilder.append(' ');
-        switch (condition) {
-            case EFilterCondition.EQUAL -> filterBuilder.append('=');
-            case EFilterCondition.NOT_EQUAL -> filterBuilder.append("!=");
-            case EFilterCondition.GREATER_THAN -> filterBuilder.append('>');
-            case EFilterCondition.GREATER_THAN_EQUAL -> filterBuilder.append(">=");
-            case EFilterCondition.LESS_THAN -> filterBuilder.append('<');
-            case EFilterCondition.LESS_THAN_EQUAL -> filterBuilder.append("<=");
-            case EFilterCondition.LIKE -> filterBuilder.append("LIKE");
-            case EFilterCondition.ILIKE -> filterBuilder.append("ILIKE");
-            case EFilterCondition.IN -> filterBuilder.append("IN");
-            case EFilterCondition.NOT_IN -> filterBuilder.append("NOT IN");
+        SQLWriter writer = new SQLWriter();
+        SelectUtil.writeFilter(writer, columnName, condition, value, valueIsQuoted);
+        return writer.toString();
+    }
+
+    public static <T> void writeFilter(SQLWriter writer, String columnName, EFilterCondition condition, T value, boolean valueIsQuoted) {
+        writer.append(columnName);
+        writer.append(' ');
+        writer.appendCondition(columnName, condition, value, valueIsQuoted);
+    }
+
+    public static void appendFilterOperator(SQLWriter writer, EFilterCondition condition) {
+        writer.append(condition.getToken());
+    }
+
+    /**
+     * Append everything after the column name of a filter, e.g., the "= 10" in "col1 = 10".
+     */
+    public static void appendCondition(SQLWriter writer, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        SelectUtil.appendFilterOperator(writer, condition);
+        writer.append(' ');
+        SelectUtil.appendFilterValue(writer, condition, value, valueIsQuoted);
+    }
+
+    public static boolean isListCondition(EFilterCondition condition) {
+        return condition == EFilterCondition.IN || condition == EFilterCondition.NOT_IN;
+    }
+
+    /**
+     * Round an IN list size up to the next power of two so that lists of similar length share one statement shape.
+     */
+    public static int inListBucketSize(int size) {
+        if (size <= 1)
+            return size;
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    public static int countFilters(List<FilterCondition> filterConditions) {
+        int count = 0;
+        for (FilterCondition condition : filterConditions)
+            count += condition.getPredicates().size();
+        return count;
+    }
+
+    public static int countInListElements(List<FilterCondition> filterConditions) {
+        int count = 0;
+        for (FilterCondition condition : filterConditions) {
+            for (FilterPredicate predicate : condition.getPredicates()) {
+                if (SelectUtil.isListCondition(predicate.getCondition()))
+                    count += SelectUtil.countListValues(predicate.getValue());
+            }
         }
-        filterBuilder.append(' ');
+        return count;
+    }
 
-        if (condition == EFilterCondition.IN || condition == EFilterCondition.NOT_IN) {
-            filterBuilder.append('(');
+    public static int countListValues(Object value) {
+        if (value instanceof Collection<?> items)
+            return items.size();
+        if (!(value instanceof Iterable<?> items))
+            return 1;
+
+        int count = 0;
+        for (Object ignored : items)
+            count++;
+        return count;
+    }
+
+    /* STATEMENT LIMITS */
+
+    public static void checkInListSizes(SQLContext context, List<FilterCondition> filterConditions) throws SelectBuilderException {
+        int maxInListElements = context == null ? 0 : context.getMaxInListElements();
+        if (maxInListElements <= 0)
+            return;
+
+        for (FilterCondition condition : filterConditions) {
+            for (FilterPredicate predicate : condition.getPredicates()) {
+                if (!SelectUtil.isListCondition(predicate.getCondition()))
+                    continue;
+                int count = SelectUtil.countListValues(predicate.getValue());
+                if (count > maxInListElements)
+                    throw new SelectBuilderException("IN list on '" + predicate.getColumnName() + "' has " + count
+                            + " values, more than the limit of " + maxInListElements + ". Use buildSplit() to split the query.");
+            }
+        }
+    }
+
+    public static void checkStatementLength(SQLContext context, CharSequence sql) throws SelectBuilderException {
+        int maxStatementLength = context == null ? 0 : context.getMaxStatementLength();
+        // every char is at least one byte, so shorter statements are never measured
+        if (maxStatementLength <= 0 || sql.length() <= maxStatementLength / 3)
+            return;
+
+        long length = SelectUtil.utf8Length(sql, 0, sql.length());
+        if (length > maxStatementLength)
+            throw new SelectBuilderException("Statement has " + length + " bytes, more than the limit of "
+                    + maxStatementLength + ". Use buildSplit() to split the query.");
+    }
+
+    /**
+     * Length of the chars [from, to) in UTF-8 without encoding them. Unpaired surrogates count as
+     * the single '?' byte the encoder replaces them with.
+     */
+    public static long utf8Length(CharSequence text, int from, int to) {
+        long length = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    public static void checkParameterCount(SQLContext context, BoundStatement statement) throws SelectBuilderException {
+        int maxParameters = context == null ? 0 : context.getMaxParameters();
+        if (maxParameters > 0 && statement.getParameters().size() > maxParameters)
+            throw new SelectBuilderException("Statement has " + statement.getParameters().size() + " parameters, more than the limit of "
+                    + maxParameters + ". Use buildSplitParameterized() to split the query.");
+    }
+
+    public static void writeFilterGroup(SQLWriter writer, List<FilterPredicate> predicates, EFilterGroupType groupType) {
+        writer.append('(');
+        for (int i = 0; i < predicates.size(); i++) {
+            predicates.get(i).render(writer);
+            if (i < predicates.size() - 1)
+                writer.append(groupType.getConjunction().getToken());
+        }
+        writer.append(')');
+    }
+
+    /**
+     * Append the literal value side of a filter. IN/NOT IN values are wrapped in parentheses
+     * and iterables are expanded into a comma separated list.
+     */
+    public static void appendFilterValue(SQLWriter writer, EFilterCondition condition, Object value, boolean valueIsQuoted) {
+        if (SelectUtil.isListCondition(condition)) {
+            writer.append('(');
             if (value instanceof Iterable<?>) {
                 Iterable<?> itemList = (Iterable<?>) value;
+                boolean isFirstItem = true;
                 for (Object item : itemList) {
-                    if (valueIsQuoted)
-                        filterBuilder.append("'").append(SelectUtil.sanitizeQuotes(String.valueOf(item))).append("'");
-                    else
-                        filterBuilder.append(item);
-                    filterBuilder.append(',');
+                    if (!isFirstItem)
+                        writer.append(',');
+                    SelectUtil.appendValue(writer, item, valueIsQuoted);
+                    isFirstItem = false;
                 }
-                filterBuilder.setCharAt(filterBuilder.length() - 1, ')');
-            } else {
-                if (valueIsQuoted)
-                    filterBuilder.append("'").append(SelectUtil.sanitizeQuotes(String.valueOf(value))).append("'");
-                else
-                    filterBuilder.append(value);
-                filterBuilder.append(')');
+            } else
+                SelectUtil.appendValue(writer, value, valueIsQuoted);
+            writer.append(')');
+        } else
+            SelectUtil.appendValue(writer, value, valueIsQuoted);
+    }
+
+    public static void appendValue(SQLWriter writer, Object value, boolean valueIsQuoted) {
+        if (valueIsQuoted) {
+            writer.append('\'');
+            SelectUtil.appendSanitizedQuotes(writer, String.valueOf(value));
+            writer.append('\'');
+        } else
+            writer.append(value);
+    }
+
+    /**
+     * Write the condition selecting all rows after the seek key in ORDER BY order. Dialects with row
+     * value comparisons get "(a,b) > (1,2)" when all columns sort the same way; everything else gets
+     * "a >= 1 AND (a > 1 OR (a = 1 AND b > 2))", where the leading range on the first column lets the
+     * index be used as a range scan. Values go through {@link SQLWriter#appendValue} so they are bound
+     * by parameterized writers.
+     */
+    public static void writeSeekCondition(SQLWriter writer, IDialectRenderer dialect, List<OrderByColumn> orderByColumns, SeekKey seekKey) {
+        List<Object> values = seekKey.getValues();
+        List<Boolean> valuesAreQuoted = seekKey.getValuesAreQuoted();
+        int keyCount = orderByColumns.size();
+
+        boolean isSameOrder = true;
+        for (OrderByColumn column : orderByColumns)
+            isSameOrder &= column.getSortOrder() == orderByColumns.getFirst().getSortOrder();
+
+        OrderByColumn first = orderByColumns.getFirst();
+        if (keyCount == 1) {
+            writer.append(first.getColumnName()).append(' ').append(SelectUtil.seekOperator(first, false)).append(' ');
+            writer.appendValue(values.getFirst(), valuesAreQuoted.getFirst());
+            return;
+        }
+
+        if (isSameOrder && dialect.supportsRowValueComparison()) {
+            writer.append('(');
+            for (int i = 0; i < keyCount; i++) {
+                if (i > 0)
+                    writer.append(',');
+                writer.append(orderByColumns.get(i).getColumnName());
+            }
+            writer.append(") ").append(SelectUtil.seekOperator(first, false)).append(" (");
+            for (int i = 0; i < keyCount; i++) {
+                if (i > 0)
+                    writer.append(',');
+                writer.appendValue(values.get(i), valuesAreQuoted.get(i));
             }
-        } else {
-            if (valueIsQuoted)
-                filterBuilder.append("'").append(SelectUtil.sanitizeQuotes(String.valueOf(value))).append("'");
-            else
-                filterBuilder.append(value);
+            writer.append(')');
+            return;
         }
 
-        return filterBuilder.toString();
+        writer.append('(').append(first.getColumnName()).append(' ').append(SelectUtil.seekOperator(first, true)).append(' ');
+        writer.appendValue(values.getFirst(), valuesAreQuoted.getFirst());
+        writer.append(" AND (");
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0)
+                writer.append(" OR (");
+            for (int j = 0; j < i; j++) {
+                writer.append(orderByColumns.get(j).getColumnName()).append(" = ");
+                writer.appendValue(values.get(j), valuesAreQuoted.get(j));
+                writer.append(" AND ");
+            }
+            writer.append(orderByColumns.get(i).getColumnName()).append(' ').append(SelectUtil.seekOperator(orderByColumns.get(i), false)).append(' ');
+            writer.appendValue(values.get(i), valuesAreQuoted.get(i));
+            if (i > 0)
+                writer.append(')');
+        }
+        writer.append("))");
+    }
+
+    private static String seekOperator(OrderByColumn column, boolean isInclusive) {
+        if (column.getSortOrder() == ESortOrder.DESC)
+            return isInclusive ? "<=" : "<";
+        return isInclusive ? ">=" : ">";
     }
 
     public static String buildFilterAlias(String columnName, String alias) {
@@ -0,0 +1,175 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.BulkLoadBuilder;
+import zweaver.sqlbuilder.builders.CreateTableBuilder;
+import zweaver.sqlbuilder.bulk.PgBinaryRowEncoder;
+import zweaver.sqlbuilder.datatypes.Custom;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.dialect.StandardDialectRenderer;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EBulkLoadFormat;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.BulkLoadBuilderException;
+import zweaver.sqlbuilder.exceptions.CreateTableBuilderException;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class BulkLoadBuilderTest {
+    private final SQLContext context;
+
+    public BulkLoadBuilderTest() {
+        this.context = new SQLContext(EDialect.POSTGRES);
+    }
+
+    @Test
+    public void postgresStatements() throws BulkLoadBuilderException, TableColumnException {
+        assertEquals("COPY sample_table (id,name) FROM STDIN WITH (FORMAT csv);", new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .build());
+        assertEquals("COPY sample_table (id,name) FROM STDIN;", new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setFormat(EBulkLoadFormat.TEXT)
+                .build());
+        assertEquals("COPY sample_table (id,name) FROM STDIN WITH (FORMAT binary);", new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setFormat(EBulkLoadFormat.BINARY)
+                .build());
+    }
+
+    @Test
+    public void mysqlStatements() throws BulkLoadBuilderException, TableColumnException {
+        SQLContext mysql = new SQLContext(EDialect.MYSQL);
+        assertEquals("LOAD DATA LOCAL INFILE 'stdin' INTO TABLE sample_table CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' LINES TERMINATED BY '\\n' (id,name);",
+                new BulkLoadBuilder(mysql, "sample_table")
+                        .addColumn(new TableColumn("id", new Integer(mysql), false))
+                        .addColumn(new TableColumn("name", new Varchar(mysql), true))
+                        .build());
+
+        SQLContext mariadb = new SQLContext(EDialect.MARIADB);
+        assertEquals("LOAD DATA LOCAL INFILE 'data.tsv' INTO TABLE sample_table CHARACTER SET utf8mb4 (id,name);",
+                new BulkLoadBuilder(mariadb, "sample_table")
+                        .addColumn(new TableColumn("id", new Integer(mariadb), false))
+                        .addColumn(new TableColumn("name", new Varchar(mariadb), true))
+                        .setFormat(EBulkLoadFormat.TEXT)
+                        .setFileName("data.tsv")
+                        .build());
+    }
+
+    @Test
+    public void unsupportedDialectOrFormat() {
+        SQLContext mssql = new SQLContext(EDialect.MSSQL);
+        assertThrows(BulkLoadBuilderException.class, () -> new BulkLoadBuilder(mssql, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(mssql), false))
+                .build());
+        SQLContext vertica = new SQLContext(EDialect.VERTICA);
+        assertThrows(BulkLoadBuilderException.class, () -> new BulkLoadBuilder(vertica, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(vertica), false))
+                .setFormat(EBulkLoadFormat.TEXT)
+                .build());
+        SQLContext mysql = new SQLContext(EDialect.MYSQL);
+        assertThrows(BulkLoadBuilderException.class, () -> new BulkLoadBuilder(mysql, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(mysql), false))
+                .setFormat(EBulkLoadFormat.BINARY)
+                .build());
+
+        // custom dialects inherit no bulk load support
+        SQLContext custom = new SQLContext(new StandardDialectRenderer() {});
+        assertThrows(BulkLoadBuilderException.class, () -> new BulkLoadBuilder(custom, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(custom), false))
+                .build());
+    }
+
+    @Test
+    public void fromCreateTable() throws BulkLoadBuilderException, CreateTableBuilderException, TableColumnException {
+        SQLContext vertica = new SQLContext(EDialect.VERTICA);
+        CreateTableBuilder table = new CreateTableBuilder(vertica, "sample_table", false)
+                .addPrimaryKey("id")
+                .addColumn(new TableColumn("col1", new Varchar(vertica, 100), false));
+
+        assertEquals("COPY sample_table (col1) FROM STDIN PARSER FCSVPARSER(type='rfc4180', header=false);", new BulkLoadBuilder(table).build());
+    }
+
+    @Test
+    public void encodeCsv() throws BulkLoadBuilderException, TableColumnException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .encode(List.<List<?>>of(List.of(1, "plain"), List.of(2, "a,\"b\"\nc\\d\te"), Arrays.asList(3, null), List.of(4, "")).iterator(), out);
+        assertEquals("1,plain\n2,\"a,\"\"b\"\"\nc\\d\te\"\n3,\n4,\"\"\n", out.toString(StandardCharsets.UTF_8));
+
+        SQLContext mysql = new SQLContext(EDialect.MYSQL);
+        out = new ByteArrayOutputStream();
+        new BulkLoadBuilder(mysql, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(mysql), false))
+                .addColumn(new TableColumn("name", new Varchar(mysql), true))
+                .encode(List.<List<?>>of(List.of(1, "plain"), List.of(2, "a,\"b\"\nc\\d\te"), Arrays.asList(3, null), List.of(4, "")).iterator(), out);
+        assertEquals("1,plain\n2,\"a,\"\"b\"\"\nc\\d\te\"\n3,NULL\n4,\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodeText() throws BulkLoadBuilderException, TableColumnException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setFormat(EBulkLoadFormat.TEXT)
+                .encode(List.<List<?>>of(List.of(1, "plain"), List.of(2, "a,\"b\"\nc\\d\te"), Arrays.asList(3, null), List.of(4, "")).iterator(), out);
+        assertEquals("1\tplain\n2\ta,\"b\"\\nc\\\\d\\te\n3\t\\N\n4\t\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodePostgresBinary() throws BulkLoadBuilderException, TableColumnException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setFormat(EBulkLoadFormat.BINARY)
+                .encode(List.<List<?>>of(Arrays.asList(7, null)).iterator(), out);
+
+        ByteBuffer expected = ByteBuffer.allocate(11 + 8 + 2 + 8 + 4 + 2);
+        expected.put(new byte[] { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 });
+        expected.putInt(0).putInt(0);
+        expected.putShort((short) 2).putInt(4).putInt(7).putInt(-1);
+        expected.putShort((short) -1);
+        assertArrayEquals(expected.array(), out.toByteArray());
+    }
+
+    @Test
+    public void wrongRowSize() throws BulkLoadBuilderException, TableColumnException {
+        BulkLoadBuilder builder = new BulkLoadBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true));
+        assertThrows(IllegalArgumentException.class, () -> builder.encode(List.<List<?>>of(List.of(1)).iterator(), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void postgresBinaryRejectsValuesThatDoNotFit() throws BulkLoadBuilderException, TableColumnException {
+        PgBinaryRowEncoder encoder = new PgBinaryRowEncoder(new ByteArrayOutputStream(), List.of(
+                new TableColumn("small", new Custom("SMALLINT", false), false),
+                new TableColumn("id", new Integer(context), false)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> encoder.writeRow(List.of(70000, 1)));
+        assertEquals("Value 70000 of row 1, column 'small' is out of range for INT2.", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> encoder.writeRow(List.of(1, "x")));
+        assertEquals("Value x of row 2, column 'id' is a String but INT4 needs a Number.", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> encoder.writeRow(List.of(1, 2.5)));
+        assertThrows(IllegalArgumentException.class, () -> encoder.writeRow(List.of(1)));
+    }
+}
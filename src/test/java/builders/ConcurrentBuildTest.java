@@ -0,0 +1,158 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.FilterCondition;
+import zweaver.sqlbuilder.FilterPredicate;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.ast.SelectQuery;
+import zweaver.sqlbuilder.ast.UnionQuery;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EFilterConjunction;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.RenderCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stress tests for sharing frozen queries between threads. Every task starts at the same time and
+ * checks its own results, so a race shows up as a wrong statement rather than as a flaky timing.
+ */
+public class ConcurrentBuildTest {
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int ITERATIONS = 2_000;
+
+    private static SelectBuilder baseQuery(SQLContext context) {
+        return new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true);
+    }
+
+    private static void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            // rethrows the first assertion error of any task
+            for (Future<Void> future : futures)
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void frozenContextRejectsChanges() {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        SQLContext frozen = context.freeze();
+
+        assertTrue(frozen.isFrozen());
+        assertFalse(context.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertEquals(EDialect.POSTGRES, frozen.getSqlDialect());
+
+        try {
+            frozen.setSqlDialect(EDialect.MSSQL);
+            throw new AssertionError("Frozen context accepted a new dialect.");
+        } catch (IllegalStateException e) {
+            assertEquals(EDialect.POSTGRES, frozen.getSqlDialect());
+        }
+    }
+
+    @Test
+    public void frozenQueryIgnoresLaterChanges() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        SelectBuilder builder = baseQuery(context).limit(10);
+        SelectQuery frozen = builder.freeze();
+
+        context.setSqlDialect(EDialect.MSSQL);
+        builder.filter("col1", EFilterCondition.EQUAL, 1, false);
+
+        assertEquals("SELECT col1,col2 FROM sample_table WHERE col2 IN ('a','b') LIMIT 10;", frozen.build(true));
+        assertEquals("SELECT TOP 10 col1,col2 FROM sample_table WHERE col2 IN ('a','b') AND col1 = 1;", builder.build(true));
+        assertEquals(frozen, baseQuery(context).limit(10).toQuery());
+    }
+
+    @Test
+    public void concurrentBuildsOfSharedFrozenQuery() throws Exception {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        context.setRenderCache(new RenderCache(64));
+        SelectQuery base = baseQuery(context).freeze();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                int value = i % 100;
+                SelectQuery query = base.withFilter(new FilterCondition(
+                        new FilterPredicate("col1", EFilterCondition.EQUAL, value, false), EFilterConjunction.NONE));
+
+                assertEquals("SELECT col1,col2 FROM sample_table WHERE col2 IN ('a','b') AND col1 = " + value + ";", query.build(true));
+
+                BoundStatement statement = query.buildParameterized(true, EPlaceholderStyle.POSITIONAL);
+                assertEquals("SELECT col1,col2 FROM sample_table WHERE col2 IN (?,?) AND col1 = ?;", statement.getSql());
+                assertEquals(List.of("a", "b", value), statement.getParameters());
+
+                StringBuilder out = new StringBuilder();
+                query.renderTo(out, false);
+                assertEquals("SELECT col1,col2 FROM sample_table WHERE col2 IN ('a','b') AND col1 = " + value, out.toString());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void concurrentVariantsOfSharedBaseDoNotSeeEachOther() throws Exception {
+        // every thread appends to the same base, so they all race for the same free slot of the shared column list
+        SelectQuery base = baseQuery(new SQLContext(EDialect.STANDARD)).freeze();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                String column = "col_" + Thread.currentThread().threadId() + "_" + i;
+                SelectQuery query = base.withColumn(column).withColumn(column + "_b");
+                assertEquals("SELECT col1,col2," + column + "," + column + "_b FROM sample_table WHERE col2 IN ('a','b');", query.build(true));
+            }
+            return null;
+        });
+
+        assertEquals(List.of("col1", "col2"), base.getColumnNames());
+    }
+
+    @Test
+    public void concurrentBuildsOfFrozenUnion() throws Exception {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        UnionQuery union = new UnionBuilder(baseQuery(context))
+                .unionAll(baseQuery(context).filter("col1", EFilterCondition.GREATER_THAN, 5, false))
+                .freeze();
+        String expected = union.build();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < ITERATIONS; i++)
+                assertEquals(expected, union.build());
+            return null;
+        });
+
+        assertTrue(union.getQueries().stream().allMatch(query -> query.getContext().isFrozen()));
+    }
+}
@@ -0,0 +1,93 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.DeleteBuilder;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.DeleteBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static util.TestIterators.toList;
+
+public class DeleteBuilderTest {
+    @Test
+    public void buildsFilteredDelete() throws DeleteBuilderException {
+        FilterGroupBuilder group = new FilterGroupBuilder()
+                .anyOf()
+                .addFilter("status", EFilterCondition.EQUAL, "expired", true)
+                .addFilter("status", EFilterCondition.EQUAL, "revoked", true);
+
+        String statement = new DeleteBuilder(new SQLContext(EDialect.STANDARD), "events")
+                .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                .filter(group)
+                .build();
+        assertEquals("DELETE FROM events WHERE created_at < '2020-01-01' AND (status = 'expired' OR status = 'revoked');", statement);
+
+        assertEquals("DELETE FROM events;", new DeleteBuilder(new SQLContext(EDialect.STANDARD), "events").build());
+    }
+
+    @Test
+    public void buildsBatchesInTheDialect() throws DeleteBuilderException {
+        assertEquals("DELETE FROM events WHERE created_at < '2020-01-01' LIMIT 500;",
+                new DeleteBuilder(new SQLContext(EDialect.MYSQL), "events")
+                        .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                        .buildBatch(500));
+        assertEquals("DELETE TOP (500) FROM events WHERE created_at < '2020-01-01';",
+                new DeleteBuilder(new SQLContext(EDialect.MSSQL), "events")
+                        .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                        .buildBatch(500));
+        assertEquals("DELETE FROM events WHERE ctid IN (SELECT ctid FROM events WHERE created_at < '2020-01-01' LIMIT 500);",
+                new DeleteBuilder(new SQLContext(EDialect.POSTGRES), "events")
+                        .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                        .buildBatch(500));
+        assertEquals("DELETE FROM events WHERE id IN (SELECT id FROM events WHERE created_at < '2020-01-01' FETCH FIRST 500 ROWS ONLY);",
+                new DeleteBuilder(new SQLContext(EDialect.DB2), "events")
+                        .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                        .setBatchKeyColumn("id")
+                        .buildBatch(500));
+    }
+
+    @Test(expected = DeleteBuilderException.class)
+    public void batchesWithoutRowIdNeedKeyColumn() throws DeleteBuilderException {
+        new DeleteBuilder(new SQLContext(EDialect.VERTICA), "events")
+                .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                .buildBatch(500);
+    }
+
+    @Test
+    public void bindsBatchValues() throws DeleteBuilderException {
+        BoundStatement statement = new DeleteBuilder(new SQLContext(EDialect.POSTGRES), "events")
+                .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                .buildBatchParameterized(100);
+        assertEquals("DELETE FROM events WHERE ctid IN (SELECT ctid FROM events WHERE created_at < ? LIMIT 100);", statement.getSql());
+        assertEquals(List.of("2020-01-01"), statement.getParameters());
+    }
+
+    @Test
+    public void splitsIntoKeyRanges() throws DeleteBuilderException {
+        List<String> statements = toList(new DeleteBuilder(new SQLContext(EDialect.STANDARD), "events")
+                .filter("created_at", EFilterCondition.LESS_THAN, "2020-01-01", true)
+                .buildKeyRanges("id", 0, 25, 10));
+        assertEquals(Arrays.asList(
+                "DELETE FROM events WHERE (created_at < '2020-01-01') AND id >= 0 AND id < 10;",
+                "DELETE FROM events WHERE (created_at < '2020-01-01') AND id >= 10 AND id < 20;",
+                "DELETE FROM events WHERE (created_at < '2020-01-01') AND id >= 20 AND id < 25;"), statements);
+
+        List<BoundStatement> bound = toList(new DeleteBuilder(new SQLContext(EDialect.STANDARD), "events")
+                .buildKeyRangesParameterized("id", Long.MAX_VALUE - 15, Long.MAX_VALUE, 10));
+        assertEquals(2, bound.size());
+        assertEquals("DELETE FROM events WHERE id >= ? AND id < ?;", bound.getFirst().getSql());
+        assertEquals(Arrays.asList(Long.MAX_VALUE - 5, Long.MAX_VALUE), bound.getLast().getParameters());
+    }
+
+    @Test(expected = DeleteBuilderException.class)
+    public void rejectsEmptyStep() throws DeleteBuilderException {
+        new DeleteBuilder(new SQLContext(EDialect.STANDARD), "events").buildKeyRanges("id", 0, 10, 0);
+    }
+}
@@ -0,0 +1,132 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.InsertBuilder;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.InsertBuilderException;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static util.TestIterators.toList;
+
+public class InsertBuilderTest {
+    private final SQLContext context;
+
+    public InsertBuilderTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    @Test
+    public void emptyTableName() {
+        assertThrows(InsertBuilderException.class, () -> new InsertBuilder(context, ""));
+    }
+
+    @Test
+    public void noColumns() {
+        assertThrows(InsertBuilderException.class, () -> new InsertBuilder(context, "sample_table")
+                .build(List.<List<?>>of(List.of(1)).iterator()));
+    }
+
+    @Test
+    public void insertRows() throws InsertBuilderException, TableColumnException {
+        Iterator<String> statements = new InsertBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .build(List.<List<?>>of(List.of(1, "Sam's"), Arrays.asList(2, null)).iterator());
+
+        assertEquals("INSERT INTO sample_table (id,name) VALUES (1,'Sam''s'),(2,NULL);", statements.next());
+        assertFalse(statements.hasNext());
+    }
+
+    @Test
+    public void chunkByRowCount() throws InsertBuilderException, TableColumnException {
+        List<String> statements = toList(new InsertBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setMaxRowsPerStatement(2)
+                .build(IntStream.range(0, 5).<List<?>>mapToObj(i -> List.of(i, "name" + i)).iterator()));
+
+        assertEquals(List.of(
+                "INSERT INTO sample_table (id,name) VALUES (0,'name0'),(1,'name1');",
+                "INSERT INTO sample_table (id,name) VALUES (2,'name2'),(3,'name3');",
+                "INSERT INTO sample_table (id,name) VALUES (4,'name4');"), statements);
+    }
+
+    @Test
+    public void chunkByStatementLength() throws InsertBuilderException, TableColumnException {
+        String header = "INSERT INTO sample_table (id,name) VALUES ";
+        // room for two rows and the semicolon
+        int maxLength = header.length() + "(0,'name0'),(1,'name1');".length();
+        List<String> statements = new InsertBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setMaxStatementLength(maxLength)
+                .build(Stream.generate(() -> List.of(0, "name0")).limit(5))
+                .collect(Collectors.toList());
+
+        assertEquals(3, statements.size());
+        assertEquals(maxLength, statements.getFirst().length());
+    }
+
+    @Test
+    public void rowTooLongForStatement() throws InsertBuilderException, TableColumnException {
+        Iterator<String> statements = new InsertBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .setMaxStatementLength(10)
+                .build(List.<List<?>>of(List.of(0, "name0")).iterator());
+        assertThrows(IllegalArgumentException.class, statements::next);
+    }
+
+    @Test
+    public void wrongRowSize() throws InsertBuilderException, TableColumnException {
+        Iterator<String> statements = new InsertBuilder(context, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .build(List.<List<?>>of(List.of(1)).iterator());
+        assertThrows(IllegalArgumentException.class, statements::next);
+    }
+
+    @Test
+    public void mssqlParameterLimit() throws InsertBuilderException, TableColumnException {
+        SQLContext mssql = new SQLContext(EDialect.MSSQL);
+        List<BoundStatement> statements = toList(new InsertBuilder(mssql, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(mssql), false))
+                .addColumn(new TableColumn("name", new Varchar(mssql), true))
+                .buildParameterized(IntStream.range(0, 2500).<List<?>>mapToObj(i -> List.of(i, "name" + i)).iterator()));
+
+        // 2100 parameters / 2 columns caps statements at 1000 rows (MSSQL's own row limit is 1000 as well)
+        assertEquals(3, statements.size());
+        assertEquals(2000, statements.get(0).getParameters().size());
+        assertEquals(statements.get(0).getSql(), statements.get(1).getSql());
+        assertEquals(1000, statements.get(2).getParameters().size());
+    }
+
+    @Test
+    public void parameterizedRows() throws InsertBuilderException, TableColumnException {
+        SQLContext postgres = new SQLContext(EDialect.POSTGRES);
+        BoundStatement statement = new InsertBuilder(postgres, "sample_table")
+                .addColumn(new TableColumn("id", new Integer(postgres), false))
+                .addColumn(new TableColumn("name", new Varchar(postgres), true))
+                .buildParameterized(List.<List<?>>of(List.of(0, "name0"), List.of(1, "name1")).iterator(), EPlaceholderStyle.NUMBERED)
+                .next();
+
+        assertEquals("INSERT INTO sample_table (id,name) VALUES ($1,$2),($3,$4);", statement.getSql());
+        assertEquals(List.of(0, "name0", 1, "name1"), statement.getParameters());
+    }
+}
@@ -0,0 +1,100 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParameterizedBuildTest {
+    private final SQLContext context;
+
+    public ParameterizedBuildTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    @Test
+    public void selectPositional() throws SelectBuilderException {
+        BoundStatement statement = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, Arrays.asList(1, 2, 3), true)
+                .buildParameterized(true);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = ? AND col2 IN (?,?,?);", statement.getSql());
+        assertEquals(List.of(10, "1", "2", "3"), statement.getParameters());
+    }
+
+    @Test
+    public void selectNumberedAndNamed() throws SelectBuilderException {
+        SelectBuilder builder = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .or()
+                .filter("col2", EFilterCondition.LIKE, "Sam's%", true);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = $1 OR col2 LIKE $2",
+                builder.buildParameterized(false, EPlaceholderStyle.NUMBERED).getSql());
+        assertEquals("SELECT * FROM sample_table WHERE col1 = :p1 OR col2 LIKE :p2",
+                builder.buildParameterized(false, EPlaceholderStyle.NAMED).getSql());
+        assertEquals(List.of(10, "Sam's%"), builder.buildParameterized(false).getParameters());
+    }
+
+    @Test
+    public void filterGroup() {
+        BoundStatement statement = new FilterGroupBuilder()
+                .addFilter("col1", EFilterCondition.EQUAL, 10, false)
+                .addFilter("col2", EFilterCondition.LESS_THAN, 20, false)
+                .anyOf()
+                .buildParameterized();
+
+        assertEquals("(col1 = ? OR col2 < ?)", statement.getSql());
+        assertEquals(List.of(10, 20), statement.getParameters());
+    }
+
+    @Test
+    public void cte() throws CTEBuilderException, SelectBuilderException {
+        BoundStatement statement = new CTEBuilder()
+                .addTable("one", new SelectBuilder(context)
+                        .selectAll()
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, 10, false))
+                .setQuery(new SelectBuilder(context)
+                        .selectAll()
+                        .fromTable("one")
+                        .filter("col2", EFilterCondition.EQUAL, "x", true))
+                .buildParameterized(EPlaceholderStyle.NUMBERED);
+
+        assertEquals("WITH one AS ( SELECT * FROM sample_table WHERE col1 = $1 ) SELECT * FROM one WHERE col2 = $2;", statement.getSql());
+        assertEquals(List.of(10, "x"), statement.getParameters());
+    }
+
+    @Test
+    public void union() throws UnionBuilderException, SelectBuilderException {
+        SelectBuilder query = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false);
+        BoundStatement statement = new UnionBuilder(query)
+                .unionAll(query)
+                .buildParameterized();
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = ? UNION ALL SELECT * FROM sample_table WHERE col1 = ?;", statement.getSql());
+        assertEquals(List.of(10, 10), statement.getParameters());
+    }
+}
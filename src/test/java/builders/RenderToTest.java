@@ -0,0 +1,70 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.CreateTableBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class RenderToTest {
+    private final SQLContext context;
+    private final SelectBuilder sampleQuery;
+
+    public RenderToTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+        this.sampleQuery = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "Sam's ünïcode", true);
+    }
+
+    @Test
+    public void selectToWriter() throws Exception {
+        StringWriter out = new StringWriter();
+        sampleQuery.renderTo(out, true);
+        assertEquals(sampleQuery.build(true), out.toString());
+    }
+
+    @Test
+    public void cteAndUnionToAppendable() throws Exception {
+        CTEBuilder cte = new CTEBuilder()
+                .addTable("one", sampleQuery)
+                .setQuery(new SelectBuilder(context).selectAll().fromTable("one"));
+        StringBuilder out = new StringBuilder();
+        cte.renderTo(out);
+        assertEquals(cte.build(), out.toString());
+
+        UnionBuilder union = new UnionBuilder(sampleQuery).unionAll(sampleQuery);
+        out.setLength(0);
+        union.renderTo(out);
+        assertEquals(union.build(), out.toString());
+    }
+
+    @Test
+    public void createTableToByteBuffer() throws Exception {
+        CreateTableBuilder table = new CreateTableBuilder(context, "sample_table", false)
+                .addColumn(new TableColumn("col1", new Varchar(context, 10), false, "défaut"));
+        ByteBuffer target = ByteBuffer.allocate(1024);
+        table.renderTo(target, StandardCharsets.UTF_8);
+        target.flip();
+        assertEquals(table.build(), StandardCharsets.UTF_8.decode(target).toString());
+    }
+
+    @Test
+    public void byteBufferOverflow() {
+        assertThrows(BufferOverflowException.class, () -> sampleQuery.renderTo(ByteBuffer.allocate(8), StandardCharsets.UTF_8, true));
+    }
+}
@@ -0,0 +1,81 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.UpdateBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.UpdateBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class UpdateBuilderTest {
+    @Test
+    public void buildsUpdate() throws UpdateBuilderException {
+        UpdateBuilder update = new UpdateBuilder(new SQLContext(EDialect.STANDARD), "orders")
+                .set("status", "archived", true)
+                .setExpression("version", "version + 1")
+                .filter("status", EFilterCondition.NOT_EQUAL, "archived", true)
+                .filter("customer_id", EFilterCondition.IN, Arrays.asList(1, 2), false);
+        assertEquals("UPDATE orders SET status = 'archived', version = version + 1 WHERE status != 'archived' AND customer_id IN (1,2);",
+                update.build());
+
+        BoundStatement statement = update.buildParameterized();
+        assertEquals("UPDATE orders SET status = ?, version = version + 1 WHERE status != ? AND customer_id IN (?,?);", statement.getSql());
+        assertEquals(Arrays.asList("archived", "archived", 1, 2), statement.getParameters());
+    }
+
+    @Test
+    public void buildsBatchesInTheDialect() throws UpdateBuilderException {
+        assertEquals("UPDATE orders SET status = 'archived', version = version + 1 WHERE status != 'archived' AND customer_id IN (1,2) LIMIT 50;",
+                new UpdateBuilder(new SQLContext(EDialect.MARIADB), "orders")
+                        .set("status", "archived", true)
+                        .setExpression("version", "version + 1")
+                        .filter("status", EFilterCondition.NOT_EQUAL, "archived", true)
+                        .filter("customer_id", EFilterCondition.IN, Arrays.asList(1, 2), false)
+                        .buildBatch(50));
+        assertEquals("UPDATE TOP (50) orders SET status = 'archived', version = version + 1 WHERE status != 'archived' AND customer_id IN (1,2);",
+                new UpdateBuilder(new SQLContext(EDialect.MSSQL), "orders")
+                        .set("status", "archived", true)
+                        .setExpression("version", "version + 1")
+                        .filter("status", EFilterCondition.NOT_EQUAL, "archived", true)
+                        .filter("customer_id", EFilterCondition.IN, Arrays.asList(1, 2), false)
+                        .buildBatch(50));
+        assertEquals("UPDATE orders SET status = 'archived', version = version + 1 WHERE order_id IN (SELECT order_id FROM orders WHERE status != 'archived' AND customer_id IN (1,2) LIMIT 50);",
+                new UpdateBuilder(new SQLContext(EDialect.POSTGRES), "orders")
+                        .set("status", "archived", true)
+                        .setExpression("version", "version + 1")
+                        .filter("status", EFilterCondition.NOT_EQUAL, "archived", true)
+                        .filter("customer_id", EFilterCondition.IN, Arrays.asList(1, 2), false)
+                        .setBatchKeyColumn("order_id")
+                        .buildBatch(50));
+    }
+
+    @Test
+    public void splitsIntoKeyRanges() throws UpdateBuilderException {
+        Iterator<String> statements = new UpdateBuilder(new SQLContext(EDialect.STANDARD), "orders")
+                .set("note", null, true)
+                .buildKeyRanges("order_id", 1, 3, 5);
+        assertEquals("UPDATE orders SET note = NULL WHERE order_id >= 1 AND order_id < 3;", statements.next());
+        assertFalse(statements.hasNext());
+    }
+
+    @Test(expected = UpdateBuilderException.class)
+    public void rejectsUpdateWithoutColumns() throws UpdateBuilderException {
+        new UpdateBuilder(new SQLContext(EDialect.STANDARD), "orders")
+                .filter("order_id", EFilterCondition.EQUAL, 1, false)
+                .build();
+    }
+
+    @Test(expected = UpdateBuilderException.class)
+    public void rejectsColumnSetTwice() throws UpdateBuilderException {
+        new UpdateBuilder(new SQLContext(EDialect.STANDARD), "orders")
+                .set("status", "a", true)
+                .set("status", "b", true);
+    }
+}
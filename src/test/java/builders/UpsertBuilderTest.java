@@ -0,0 +1,171 @@
+package builders;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.UpsertBuilder;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+import zweaver.sqlbuilder.exceptions.UpsertBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static util.TestIterators.toList;
+
+public class UpsertBuilderTest {
+    private final SQLContext context;
+
+    public UpsertBuilderTest() {
+        this.context = new SQLContext(EDialect.POSTGRES);
+    }
+
+    @Test
+    public void postgresOnConflict() throws UpsertBuilderException, TableColumnException {
+        assertEquals(List.of("INSERT INTO accounts (id,name,balance) VALUES (0,'name0',0),(1,'name1',10) "
+                        + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name,balance = EXCLUDED.balance;"),
+                toList(new UpsertBuilder(context, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(context), false))
+                        .addColumn(new TableColumn("name", new Varchar(context), true))
+                        .addColumn(new TableColumn("balance", new Integer(context), false))
+                        .addKeyColumn("id")
+                        .build(List.<List<?>>of(List.of(0, "name0", 0), List.of(1, "name1", 10)).iterator())));
+
+        assertEquals(List.of("INSERT INTO accounts (id,name,balance) VALUES (0,'name0',0) ON CONFLICT (id) DO NOTHING;"),
+                toList(new UpsertBuilder(context, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(context), false))
+                        .addColumn(new TableColumn("name", new Varchar(context), true))
+                        .addColumn(new TableColumn("balance", new Integer(context), false))
+                        .addKeyColumn("id")
+                        .setUpdateColumns(List.of())
+                        .build(List.<List<?>>of(List.of(0, "name0", 0)).iterator())));
+    }
+
+    @Test
+    public void mysqlOnDuplicateKey() throws UpsertBuilderException, TableColumnException {
+        SQLContext mariadb = new SQLContext(EDialect.MARIADB);
+        assertEquals(List.of("INSERT INTO accounts (id,name,balance) VALUES (0,'name0',0) ON DUPLICATE KEY UPDATE balance = VALUES(balance);"),
+                toList(new UpsertBuilder(mariadb, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(mariadb), false))
+                        .addColumn(new TableColumn("name", new Varchar(mariadb), true))
+                        .addColumn(new TableColumn("balance", new Integer(mariadb), false))
+                        .addKeyColumn("id")
+                        .setUpdateColumns(List.of("balance"))
+                        .build(List.<List<?>>of(List.of(0, "name0", 0)).iterator())));
+
+        SQLContext mysql = new SQLContext(EDialect.MYSQL);
+        assertEquals(List.of("INSERT INTO accounts (id,name,balance) VALUES (0,'name0',0) ON DUPLICATE KEY UPDATE id = id;"),
+                toList(new UpsertBuilder(mysql, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(mysql), false))
+                        .addColumn(new TableColumn("name", new Varchar(mysql), true))
+                        .addColumn(new TableColumn("balance", new Integer(mysql), false))
+                        .addKeyColumn("id")
+                        .setUpdateColumns(List.of())
+                        .build(List.<List<?>>of(List.of(0, "name0", 0)).iterator())));
+    }
+
+    @Test
+    public void mergeDialects() throws UpsertBuilderException, TableColumnException {
+        String tail = ") AS src (id,name,balance) ON (tgt.id = src.id) WHEN MATCHED THEN UPDATE SET name = src.name,balance = src.balance "
+                + "WHEN NOT MATCHED THEN INSERT (id,name,balance) VALUES (src.id,src.name,src.balance);";
+
+        SQLContext mssql = new SQLContext(EDialect.MSSQL);
+        assertEquals(List.of("MERGE INTO accounts WITH (HOLDLOCK) AS tgt USING (VALUES (0,'name0',0),(1,'name1',10)" + tail),
+                toList(new UpsertBuilder(mssql, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(mssql), false))
+                        .addColumn(new TableColumn("name", new Varchar(mssql), true))
+                        .addColumn(new TableColumn("balance", new Integer(mssql), false))
+                        .addKeyColumn("id")
+                        .build(List.<List<?>>of(List.of(0, "name0", 0), List.of(1, "name1", 10)).iterator())));
+
+        SQLContext db2 = new SQLContext(EDialect.DB2);
+        assertEquals(List.of("MERGE INTO accounts AS tgt USING (VALUES (0,'name0',0),(1,'name1',10)" + tail),
+                toList(new UpsertBuilder(db2, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(db2), false))
+                        .addColumn(new TableColumn("name", new Varchar(db2), true))
+                        .addColumn(new TableColumn("balance", new Integer(db2), false))
+                        .addKeyColumn("id")
+                        .build(List.<List<?>>of(List.of(0, "name0", 0), List.of(1, "name1", 10)).iterator())));
+
+        SQLContext vertica = new SQLContext(EDialect.VERTICA);
+        assertEquals(List.of("MERGE INTO accounts AS tgt USING (SELECT 0,'name0',0 UNION ALL SELECT 1,'name1',10" + tail),
+                toList(new UpsertBuilder(vertica, "accounts")
+                        .addColumn(new TableColumn("id", new Integer(vertica), false))
+                        .addColumn(new TableColumn("name", new Varchar(vertica), true))
+                        .addColumn(new TableColumn("balance", new Integer(vertica), false))
+                        .addKeyColumn("id")
+                        .build(List.<List<?>>of(List.of(0, "name0", 0), List.of(1, "name1", 10)).iterator())));
+    }
+
+    @Test
+    public void mergeWithCompositeKeyAndNoUpdate() throws UpsertBuilderException, TableColumnException {
+        SQLContext db2 = new SQLContext(EDialect.DB2);
+        List<String> statements = toList(new UpsertBuilder(db2, "accounts")
+                .addColumn(new TableColumn("id", new Integer(db2), false))
+                .addColumn(new TableColumn("name", new Varchar(db2), true))
+                .addColumn(new TableColumn("balance", new Integer(db2), false))
+                .addKeyColumn("id")
+                .addKeyColumn("name")
+                .setUpdateColumns(List.of())
+                .build(List.<List<?>>of(List.of(0, "name0", 0)).iterator()));
+        assertEquals(List.of("MERGE INTO accounts AS tgt USING (VALUES (0,'name0',0)) AS src (id,name,balance) "
+                + "ON (tgt.id = src.id AND tgt.name = src.name) "
+                + "WHEN NOT MATCHED THEN INSERT (id,name,balance) VALUES (src.id,src.name,src.balance);"), statements);
+    }
+
+    @Test
+    public void parameterizedBatchesRespectParameterLimit() throws UpsertBuilderException, TableColumnException {
+        List<BoundStatement> statements = toList(new UpsertBuilder(context, "accounts")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .addColumn(new TableColumn("balance", new Integer(context), false))
+                .addKeyColumn("id")
+                .setMaxParametersPerStatement(7)
+                .buildParameterized(IntStream.range(0, 5).<List<?>>mapToObj(i -> List.of(i, "name" + i, i * 10)).iterator(),
+                        EPlaceholderStyle.NUMBERED));
+
+        assertEquals(3, statements.size());
+        assertEquals("INSERT INTO accounts (id,name,balance) VALUES ($1,$2,$3),($4,$5,$6) "
+                + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name,balance = EXCLUDED.balance;", statements.getFirst().getSql());
+        assertEquals(List.of(4, "name4", 40), statements.getLast().getParameters());
+    }
+
+    @Test
+    public void lengthLimitCountsTheTail() throws UpsertBuilderException, TableColumnException {
+        List<String> statements = toList(new UpsertBuilder(context, "accounts")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .addColumn(new TableColumn("balance", new Integer(context), false))
+                .addKeyColumn("id")
+                .setMaxStatementLength(160)
+                .build(IntStream.range(0, 4).<List<?>>mapToObj(i -> List.of(i, "name" + i, i * 10)).iterator()));
+
+        assertEquals(2, statements.size());
+        for (String statement : statements)
+            assertTrue(statement.length() <= 160);
+    }
+
+    @Test
+    public void invalidKeys() throws UpsertBuilderException, TableColumnException {
+        assertThrows(UpsertBuilderException.class, () -> new UpsertBuilder(context, "accounts")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .build(List.<List<?>>of(List.of(0)).iterator()));
+        assertThrows(UpsertBuilderException.class, () -> new UpsertBuilder(context, "accounts")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addKeyColumn("missing")
+                .build(List.<List<?>>of(List.of(0)).iterator()));
+        assertThrows(UpsertBuilderException.class, () -> new UpsertBuilder(context, "accounts")
+                .addColumn(new TableColumn("id", new Integer(context), false))
+                .addColumn(new TableColumn("name", new Varchar(context), true))
+                .addKeyColumn("id")
+                .setUpdateColumns(List.of("id"))
+                .build(List.<List<?>>of(List.of(0, "name0")).iterator()));
+    }
+}
@@ -97,6 +97,6 @@ public class SelectBuilderTest {
                 .fromTable("sample_table")
                 .limit(100)
                 .build(true);
-        assertEquals(query, "SELECT * FROM sample_table LIMIT 100;");
+        assertEquals(query, "SELECT * FROM sample_table FETCH FIRST 100 ROWS ONLY;");
     }
 }
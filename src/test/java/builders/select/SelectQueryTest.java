@@ -0,0 +1,65 @@
+package builders.select;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.ast.PersistentList;
+import zweaver.sqlbuilder.ast.SelectQuery;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SelectQueryTest {
+    private final SQLContext context;
+
+    public SelectQueryTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    @Test
+    public void derivedQueriesLeaveBaseUnchanged() throws SelectBuilderException {
+        SelectQuery base = new SelectBuilder(context)
+                .select("col1")
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .toQuery();
+
+        SelectBuilder first = new SelectBuilder(base).filter("col2", EFilterCondition.EQUAL, 20, false);
+        SelectBuilder second = new SelectBuilder(base).or().filter("col3", EFilterCondition.EQUAL, 30, false).limit(5);
+
+        assertEquals("SELECT col1 FROM sample_table WHERE col1 = 10;", base.build(true));
+        assertEquals("SELECT col1 FROM sample_table WHERE col1 = 10 AND col2 = 20;", first.build(true));
+        assertEquals("SELECT col1 FROM sample_table WHERE col1 = 10 OR col3 = 30 FETCH FIRST 5 ROWS ONLY;", second.build(true));
+    }
+
+    @Test
+    public void persistentListSharesBackingArray() {
+        PersistentList<String> base = PersistentList.copyOf(List.of("a", "b"));
+        PersistentList<String> left = base.plus("c");
+        PersistentList<String> right = base.plus("d");
+
+        assertEquals(List.of("a", "b"), base);
+        assertEquals(List.of("a", "b", "c"), left);
+        assertEquals(List.of("a", "b", "d"), right);
+        assertEquals(List.of("a", "b", "c", "e"), left.plus("e"));
+        assertEquals(List.of("a", "x", "c"), left.with(1, "x"));
+        assertEquals(List.of("a", "b", "c"), left);
+    }
+
+    @Test
+    public void builderChangesAfterAddDoNotLeakIntoCte() throws CTEBuilderException, SelectBuilderException {
+        SelectBuilder inner = new SelectBuilder(context).selectAll().fromTable("sample_table");
+        CTEBuilder cte = new CTEBuilder()
+                .addTable("cte1", inner)
+                .setQuery(new SelectBuilder(context).selectAll().fromTable("cte1"));
+        inner.filter("col1", EFilterCondition.EQUAL, 10, false);
+
+        assertEquals("WITH cte1 AS ( SELECT * FROM sample_table ) SELECT * FROM cte1;", cte.build());
+    }
+}
@@ -0,0 +1,120 @@
+package builders.select.aggregate;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EAggregateFunction;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class AggregateTest {
+    @Test
+    public void groupsAndFiltersGroups() throws SelectBuilderException {
+        String query = new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select("region")
+                .selectAggregateWithAlias(EAggregateFunction.SUM, "amount", "total")
+                .selectAggregateWithAlias(EAggregateFunction.COUNT, "*", "orders")
+                .fromTable("sales")
+                .filter("year", EFilterCondition.EQUAL, 2024, false)
+                .groupBy(List.of("region"))
+                .having(EAggregateFunction.COUNT, "*", EFilterCondition.GREATER_THAN, 10, false)
+                .having(new FilterGroupBuilder()
+                        .anyOf()
+                        .addFilter("AVG(amount)", EFilterCondition.GREATER_THAN, 100, false)
+                        .addFilter("MAX(amount)", EFilterCondition.GREATER_THAN, 1000, false))
+                .orderBy("total", ESortOrder.DESC)
+                .build(true);
+        assertEquals("SELECT region,SUM(amount) AS total,COUNT(*) AS orders FROM sales WHERE year = 2024 GROUP BY region"
+                + " HAVING COUNT(*) > 10 AND (AVG(amount) > 100 OR MAX(amount) > 1000) ORDER BY total DESC;", query);
+    }
+
+    @Test
+    public void bindsHavingValues() throws SelectBuilderException {
+        BoundStatement statement = new SelectBuilder(new SQLContext(EDialect.POSTGRES))
+                .select("region")
+                .selectAggregateWithAlias(EAggregateFunction.SUM, "amount", "total")
+                .selectAggregateWithAlias(EAggregateFunction.COUNT, "*", "orders")
+                .fromTable("sales")
+                .filter("year", EFilterCondition.EQUAL, 2024, false)
+                .groupBy(List.of("region"))
+                .having(EAggregateFunction.SUM, "amount", EFilterCondition.GREATER_THAN_EQUAL, 500, false)
+                .buildParameterized(true);
+        assertEquals("SELECT region,SUM(amount) AS total,COUNT(*) AS orders FROM sales WHERE year = ? GROUP BY region HAVING SUM(amount) >= ?;",
+                statement.getSql());
+        assertEquals(Arrays.asList(2024, 500), statement.getParameters());
+    }
+
+    @Test
+    public void approximatesDistinctCountsPerDialect() throws SelectBuilderException {
+        SelectBuilder query = new SelectBuilder(new SQLContext(EDialect.VERTICA))
+                .selectAggregateWithAlias(EAggregateFunction.APPROX_COUNT_DISTINCT, "user_id", "users")
+                .fromTable("visits");
+        assertEquals("SELECT APPROXIMATE_COUNT_DISTINCT(user_id) AS users FROM visits;", query.build(true));
+        assertEquals("SELECT APPROX_COUNT_DISTINCT(user_id) AS users FROM visits;",
+                query.toQuery().withContext(new SQLContext(EDialect.MSSQL)).build(true));
+        assertEquals("SELECT COUNT(DISTINCT user_id) AS users FROM visits;",
+                query.toQuery().withContext(new SQLContext(EDialect.POSTGRES)).build(true));
+    }
+
+    @Test
+    public void rendersRollupPerDialect() throws SelectBuilderException {
+        SelectBuilder query = new SelectBuilder(new SQLContext(EDialect.POSTGRES))
+                .select(List.of("region", "country"))
+                .selectAggregate(EAggregateFunction.SUM, "amount")
+                .fromTable("sales")
+                .groupByRollup(List.of("region", "country"));
+        assertEquals("SELECT region,country,SUM(amount) FROM sales GROUP BY ROLLUP(region,country);", query.build(true));
+        assertEquals("SELECT region,country,SUM(amount) FROM sales GROUP BY region,country WITH ROLLUP;",
+                query.toQuery().withContext(new SQLContext(EDialect.MYSQL)).build(true));
+    }
+
+    @Test
+    public void rendersGroupingSets() throws SelectBuilderException {
+        String query = new SelectBuilder(new SQLContext(EDialect.MSSQL))
+                .select(List.of("region", "product"))
+                .selectAggregate(EAggregateFunction.SUM, "amount")
+                .fromTable("sales")
+                .groupByGroupingSets(List.of(List.of("region"), List.of("product"), List.of()))
+                .build(true);
+        assertEquals("SELECT region,product,SUM(amount) FROM sales GROUP BY GROUPING SETS ((region),(product),());", query);
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void rejectsUnsupportedGrouping() throws SelectBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.MARIADB))
+                .select("region")
+                .fromTable("sales")
+                .groupByCube(List.of("region"))
+                .build(true);
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void rejectsSplittingAggregates() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setMaxInListElements(2);
+        new SelectBuilder(context)
+                .selectAggregate(EAggregateFunction.COUNT, "*")
+                .fromTable("sales")
+                .filter("region", EFilterCondition.IN, List.of(1, 2, 3), false)
+                .buildSplit(true);
+    }
+
+    @Test
+    public void groupingIsPartOfTheFingerprint() {
+        SelectBuilder plain = new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select("region")
+                .fromTable("sales");
+        long plainHash = plain.fingerprintHash();
+        assertNotEquals(plainHash, plain.groupBy(List.of("region")).fingerprintHash());
+    }
+}
@@ -0,0 +1,98 @@
+package builders.select.filter;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class InListBucketTest {
+    private static BoundStatement buildIn(SQLContext context, EFilterCondition condition, List<?> values) throws SelectBuilderException {
+        return new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", condition, values, false)
+                .buildParameterized(true);
+    }
+
+    @Test
+    public void padRepeatLast() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setInListPadding(EInListPadding.REPEAT_LAST);
+
+        BoundStatement statement = buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3));
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?,?,?);", statement.getSql());
+        assertEquals(List.of(1, 2, 3, 3), statement.getParameters());
+
+        // 3 and 4 elements share the same statement text
+        assertEquals(statement.getSql(), buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3, 4)).getSql());
+    }
+
+    @Test
+    public void padNull() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setInListPadding(EInListPadding.NULL);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, null, null, null),
+                buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3, 4, 5)).getParameters());
+
+        // NOT IN never pads with NULL
+        assertEquals(Arrays.asList(1, 2, 3, 3),
+                buildIn(context, EFilterCondition.NOT_IN, Arrays.asList(1, 2, 3)).getParameters());
+    }
+
+    @Test
+    public void postgresArrayAboveThreshold() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        context.setInListArrayThreshold(2);
+
+        BoundStatement statement = buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3));
+        assertEquals("SELECT * FROM sample_table WHERE col1 = ANY(?);", statement.getSql());
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, (Object[]) statement.getParameters().getFirst());
+        // the driver infers the array type from the element type
+        assertEquals(Integer[].class, statement.getParameters().getFirst().getClass());
+        assertEquals(Long[].class, buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2L, null)).getParameters().getFirst().getClass());
+        assertEquals(String[].class, new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.IN, Arrays.asList(1, 2, 3), true)
+                .buildParameterized(true).getParameters().getFirst().getClass());
+
+        // items without a common type stay a list
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?,?);",
+                buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2.5, 3)).getSql());
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 <> ALL(?);",
+                buildIn(context, EFilterCondition.NOT_IN, Arrays.asList(1, 2, 3)).getSql());
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?);",
+                buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2)).getSql());
+    }
+
+    @Test
+    public void valuesJoinAboveThreshold() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.MSSQL);
+        context.setInListArrayThreshold(2);
+        context.setInListPadding(EInListPadding.REPEAT_LAST);
+
+        BoundStatement statement = buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3));
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (SELECT v FROM (VALUES (?),(?),(?),(?)) AS in_list(v));", statement.getSql());
+        assertEquals(List.of(1, 2, 3, 3), statement.getParameters());
+
+        // MariaDB has no column list on derived table aliases and DB2 needs typed markers in VALUES
+        for (EDialect dialect : List.of(EDialect.MARIADB, EDialect.DB2)) {
+            context = new SQLContext(dialect);
+            context.setInListArrayThreshold(2);
+            assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?,?);",
+                    buildIn(context, EFilterCondition.IN, Arrays.asList(1, 2, 3)).getSql());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package builders.select.filter;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static util.TestIterators.toList;
+
+public class InListSplitTest {
+    @Test
+    public void rejectsStatementsOverTheLimits() {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setMaxInListElements(3);
+        try {
+            new SelectBuilder(context)
+                    .selectAll()
+                    .fromTable("sample_table")
+                    .filter("col1", EFilterCondition.EQUAL, "a", true)
+                    .filter("id", EFilterCondition.IN, List.of(1, 2, 3, 4), false)
+                    .build(true);
+            throw new AssertionError("IN list over the limit was built.");
+        } catch (SelectBuilderException e) {
+            assertTrue(e.getMessage().startsWith("IN list on 'id' has 4 values, more than the limit of 3."));
+        }
+
+        context.setMaxInListElements(0);
+        context.setMaxStatementLength(40);
+        try {
+            new SelectBuilder(context)
+                    .selectAll()
+                    .fromTable("sample_table")
+                    .filter("col1", EFilterCondition.EQUAL, "a", true)
+                    .filter("id", EFilterCondition.IN, List.of(1, 2, 3, 4), false)
+                    .build(true);
+            throw new AssertionError("Statement over the length limit was built.");
+        } catch (SelectBuilderException e) {
+            assertTrue(e.getMessage().startsWith("Statement has 64 bytes, more than the limit of 40."));
+        }
+    }
+
+    @Test
+    public void dialectLimitsAreOptIn() {
+        SQLContext context = new SQLContext(EDialect.MSSQL);
+        assertEquals(0, context.getMaxParameters());
+        context.setMaxInListElements(500);
+        context.useDialectLimits();
+        assertEquals(2100, context.getMaxParameters());
+        assertEquals(500, context.getMaxInListElements());
+
+        context = new SQLContext(EDialect.MYSQL);
+        context.useDialectLimits();
+        assertEquals(64 * 1024 * 1024, context.getMaxStatementLength());
+    }
+
+    @Test
+    public void statementLengthIsMeasuredInBytes() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        // 57 bytes without the list values, and 'ü' is two bytes in UTF-8
+        context.setMaxStatementLength(64);
+
+        List<String> statements = toList(new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .filter("id", EFilterCondition.IN, List.of("ü", "ü", "ü"), true)
+                .buildSplit(true));
+        assertEquals(Arrays.asList(
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN ('ü');",
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN ('ü');",
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN ('ü');"), statements);
+    }
+
+    @Test
+    public void splitsOnInListElementLimit() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setMaxInListElements(2);
+
+        List<String> statements = toList(new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .filter("id", EFilterCondition.IN, List.of(1, 2, 3, 4, 5), false)
+                .buildSplit(true));
+        assertEquals(Arrays.asList(
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (1,2);",
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (3,4);",
+                "SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (5);"), statements);
+    }
+
+    @Test
+    public void splitsOnStatementLength() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        // the statement without the list values is 57 characters long
+        context.setMaxStatementLength(66);
+
+        List<Integer> ids = IntStream.range(0, 20).boxed().toList();
+        List<String> statements = toList(new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .filter("id", EFilterCondition.IN, ids, false)
+                .buildSplit(true));
+        for (String statement : statements)
+            assertTrue(statement, statement.length() <= 66);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (0,1,2,3,4);", statements.getFirst());
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (19);", statements.getLast());
+        assertEquals(6, statements.size());
+    }
+
+    @Test
+    public void splitsParameterizedOnParameterLimit() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        context.setMaxParameters(4);
+        context.setInListPadding(EInListPadding.REPEAT_LAST);
+
+        List<BoundStatement> statements = toList(new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .filter("id", EFilterCondition.IN, List.of(1, 2, 3, 4, 5, 6), false)
+                .buildSplitParameterized(true));
+        assertEquals(3, statements.size());
+        // one parameter is taken by col1, which leaves room for two padded values per statement
+        assertEquals("SELECT * FROM sample_table WHERE col1 = ? AND id IN (?,?);", statements.getFirst().getSql());
+        assertEquals(Arrays.asList("a", 5, 6), statements.getLast().getParameters());
+    }
+
+    @Test
+    public void splitsIntoUnion() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setMaxInListElements(2);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (1,2) UNION ALL SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (3);",
+                new SelectBuilder(context)
+                        .selectAll()
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, "a", true)
+                        .filter("id", EFilterCondition.IN, List.of(1, 2, 3), false)
+                        .toSplitUnion().build());
+    }
+
+    @Test
+    public void queriesWithoutLargeInListAreNotSplit() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setMaxInListElements(2);
+
+        Iterator<String> statements = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .filter("id", EFilterCondition.IN, List.of(1), false)
+                .buildSplit(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 'a' AND id IN (1);", statements.next());
+        assertFalse(statements.hasNext());
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void rejectsSplittingOredLists() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter(new FilterGroupBuilder().addFilter("col1", EFilterCondition.EQUAL, 1, false))
+                .or()
+                .filter("id", EFilterCondition.IN, List.of(1, 2, 3), false)
+                .buildSplit(true);
+    }
+}
@@ -0,0 +1,155 @@
+package builders.select.filter;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PredicateOptimizerTest {
+    private final SQLContext context;
+
+    public PredicateOptimizerTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    private SelectBuilder baseQuery() {
+        return new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .optimizeFilters();
+    }
+
+    @Test
+    public void mergesOredEqualitiesIntoInList() throws SelectBuilderException {
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .or()
+                .filter("col1", EFilterCondition.IN, Arrays.asList(2, 3), false)
+                .or()
+                .filter("col1", EFilterCondition.EQUAL, 2, false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (1,2,3);", query);
+    }
+
+    @Test
+    public void keepsQuotedAndUnquotedValuesApart() throws SelectBuilderException {
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .or()
+                .filter("col1", EFilterCondition.EQUAL, "a", true)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 1 OR col1 = 'a';", query);
+    }
+
+    @Test
+    public void mergesRanges() throws SelectBuilderException {
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.LESS_THAN, 10, false)
+                .filter("col2", EFilterCondition.EQUAL, "x", true)
+                .filter("col1", EFilterCondition.GREATER_THAN, 1, false)
+                .filter("col1", EFilterCondition.GREATER_THAN_EQUAL, 5.5, false)
+                .filter("col1", EFilterCondition.LESS_THAN_EQUAL, 10L, false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 >= 5.5 AND col1 < 10 AND col2 = 'x';", query);
+    }
+
+    @Test
+    public void mergesTouchingBoundsIntoEquality() throws SelectBuilderException {
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.GREATER_THAN_EQUAL, 5, false)
+                .filter("col1", EFilterCondition.LESS_THAN_EQUAL, 5, false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 5;", query);
+    }
+
+    @Test
+    public void foldsEmptyRangesAndContradictions() throws SelectBuilderException {
+        String emptyRange = this.baseQuery()
+                .filter("col1", EFilterCondition.GREATER_THAN, 5, false)
+                .filter("col1", EFilterCondition.LESS_THAN, 5, false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE 1 = 0;", emptyRange);
+
+        String contradiction = this.baseQuery()
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col1", EFilterCondition.EQUAL, 2, false)
+                .or()
+                .filter("col2", EFilterCondition.EQUAL, 3, false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col2 = 3;", contradiction);
+    }
+
+    @Test
+    public void foldsEmptyInLists() throws SelectBuilderException {
+        String emptyIn = this.baseQuery()
+                .filter("col1", EFilterCondition.IN, List.of(), false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE 1 = 0;", emptyIn);
+
+        String emptyNotIn = this.baseQuery()
+                .filter("col1", EFilterCondition.NOT_IN, List.of(), false)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table;", emptyNotIn);
+    }
+
+    @Test
+    public void dedupesAndFlattens() throws SelectBuilderException {
+        FilterGroupBuilder group = new FilterGroupBuilder()
+                .allOf()
+                .addFilter("col2", EFilterCondition.EQUAL, "b", true)
+                .addFilter("col1", EFilterCondition.IN, Arrays.asList(1, 2, 1), false);
+
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.IN, Arrays.asList(1, 2), false)
+                .filter(group)
+                .or()
+                .filter("col3", EFilterCondition.LIKE, "a%", true)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (1,2) AND col2 = 'b' OR col3 LIKE 'a%';", query);
+    }
+
+    @Test
+    public void wrapsOrGroupsInsideAnd() throws SelectBuilderException {
+        FilterGroupBuilder group = new FilterGroupBuilder()
+                .anyOf()
+                .addFilter("col2", EFilterCondition.EQUAL, 1, false)
+                .addFilter("col3", EFilterCondition.EQUAL, 2, false);
+
+        String query = this.baseQuery()
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter(group)
+                .build(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 1 AND (col2 = 1 OR col3 = 2);", query);
+    }
+
+    @Test
+    public void bindsOptimizedValues() throws SelectBuilderException {
+        BoundStatement statement = this.baseQuery()
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .or()
+                .filter("col1", EFilterCondition.EQUAL, 2, false)
+                .buildParameterized(true);
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?);", statement.getSql());
+        assertEquals(Arrays.asList(1, 2), statement.getParameters());
+    }
+
+    @Test
+    public void optimizedQueriesAreDistinctFromPlainOnes() {
+        SelectBuilder plain = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false);
+        SelectBuilder optimized = new SelectBuilder(plain.toQuery()).optimizeFilters();
+        assertNotEquals(plain.toQuery(), optimized.toQuery());
+    }
+}
@@ -0,0 +1,81 @@
+package builders.select.pagination;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class KeysetPaginationTest {
+    private SelectBuilder page(EDialect dialect, List<?> lastKey) {
+        return new SelectBuilder(new SQLContext(dialect))
+                .selectAll()
+                .fromTable("sample_table")
+                .orderBy("created_at")
+                .orderBy("id")
+                .seekAfter(lastKey, List.of(true, false))
+                .limit(20);
+    }
+
+    @Test
+    public void firstPage() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table ORDER BY created_at ASC,id ASC LIMIT 20;",
+                page(EDialect.POSTGRES, null).build(true));
+    }
+
+    @Test
+    public void rowValueComparison() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table WHERE (created_at,id) > ('2024-01-01',42) ORDER BY created_at ASC,id ASC LIMIT 20;",
+                page(EDialect.POSTGRES, List.of("2024-01-01", 42)).build(true));
+    }
+
+    @Test
+    public void expandedComparisonWithTop() throws SelectBuilderException {
+        assertEquals("SELECT TOP 20 * FROM sample_table WHERE (created_at >= '2024-01-01' AND (created_at > '2024-01-01' OR (created_at = '2024-01-01' AND id > 42))) ORDER BY created_at ASC,id ASC;",
+                page(EDialect.MSSQL, List.of("2024-01-01", 42)).build(true));
+    }
+
+    @Test
+    public void fetchFirstOnDb2() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table ORDER BY created_at ASC,id ASC FETCH FIRST 20 ROWS ONLY;",
+                page(EDialect.DB2, null).build(true));
+    }
+
+    @Test
+    public void mixedSortOrderIsExpanded() throws SelectBuilderException {
+        String query = new SelectBuilder(new SQLContext(EDialect.POSTGRES))
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .or()
+                .filter("col2", EFilterCondition.EQUAL, 2, false)
+                .orderBy("score", ESortOrder.DESC)
+                .orderBy("id")
+                .seekAfter(List.of(10, 5), false)
+                .limit(20)
+                .build(true);
+
+        assertEquals("SELECT * FROM sample_table WHERE (col1 = 1 OR col2 = 2) AND (score <= 10 AND (score < 10 OR (score = 10 AND id > 5))) ORDER BY score DESC,id ASC LIMIT 20;", query);
+    }
+
+    @Test
+    public void parameterizedSeekKey() throws SelectBuilderException {
+        BoundStatement statement = page(EDialect.POSTGRES, List.of("2024-01-01", 42)).buildParameterized(true);
+
+        assertEquals("SELECT * FROM sample_table WHERE (created_at,id) > (?,?) ORDER BY created_at ASC,id ASC LIMIT 20;", statement.getSql());
+        assertEquals(List.of("2024-01-01", 42), statement.getParameters());
+    }
+
+    @Test
+    public void seekKeyMustMatchOrderBy() {
+        assertThrows(SelectBuilderException.class, () -> page(EDialect.POSTGRES, List.of(42)).build(true));
+    }
+}
@@ -0,0 +1,44 @@
+package builders.select.pagination;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+
+import static org.junit.Assert.assertEquals;
+
+public class RowLimitTest {
+    private String build(EDialect dialect, int limit, int offset) throws SelectBuilderException {
+        return new SelectBuilder(new SQLContext(dialect))
+                .selectAll()
+                .fromTable("sample_table")
+                .limit(limit)
+                .offset(offset)
+                .build(true);
+    }
+
+    @Test
+    public void limitPerDialect() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table FETCH FIRST 10 ROWS ONLY;", build(EDialect.STANDARD, 10, 0));
+        assertEquals("SELECT * FROM sample_table FETCH FIRST 10 ROWS ONLY;", build(EDialect.DB2, 10, 0));
+        assertEquals("SELECT TOP 10 * FROM sample_table;", build(EDialect.MSSQL, 10, 0));
+        assertEquals("SELECT * FROM sample_table LIMIT 10;", build(EDialect.POSTGRES, 10, 0));
+        assertEquals("SELECT * FROM sample_table LIMIT 10;", build(EDialect.MYSQL, 10, 0));
+        assertEquals("SELECT * FROM sample_table LIMIT 10;", build(EDialect.VERTICA, 10, 0));
+    }
+
+    @Test
+    public void limitAndOffsetPerDialect() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY;", build(EDialect.STANDARD, 10, 20));
+        assertEquals("SELECT * FROM sample_table ORDER BY (SELECT NULL) OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY;", build(EDialect.MSSQL, 10, 20));
+        assertEquals("SELECT * FROM sample_table LIMIT 10 OFFSET 20;", build(EDialect.MARIADB, 10, 20));
+    }
+
+    @Test
+    public void offsetOnly() throws SelectBuilderException {
+        assertEquals("SELECT * FROM sample_table OFFSET 20 ROWS;", build(EDialect.DB2, 0, 20));
+        assertEquals("SELECT * FROM sample_table OFFSET 20;", build(EDialect.POSTGRES, 0, 20));
+        assertEquals("SELECT * FROM sample_table LIMIT 18446744073709551615 OFFSET 20;", build(EDialect.MYSQL, 0, 20));
+    }
+}
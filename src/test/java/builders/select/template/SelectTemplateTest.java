@@ -0,0 +1,106 @@
+package builders.select.template;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EInListPadding;
+import zweaver.sqlbuilder.enums.EPlaceholderStyle;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+import zweaver.sqlbuilder.render.SelectTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class SelectTemplateTest {
+    private final SQLContext context;
+
+    public SelectTemplateTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    @Test
+    public void renderWithCompiledValues() throws SelectBuilderException {
+        SelectBuilder builder = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.LIKE, "Sam's%", true);
+        SelectTemplate template = builder.compile();
+
+        assertEquals(2, template.getParameterCount());
+        assertEquals(builder.build(true), template.render());
+    }
+
+    @Test
+    public void renderWithNewValues() throws SelectBuilderException {
+        SelectTemplate template = new SelectBuilder(context)
+                .select("col1")
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter(new FilterGroupBuilder()
+                        .addFilter("col2", EFilterCondition.IN, Arrays.asList("a", "b"), true)
+                        .addFilter("col3", EFilterCondition.LESS_THAN, 30, false)
+                        .anyOf())
+                .limit(5)
+                .compile();
+
+        assertEquals("SELECT col1 FROM sample_table WHERE col1 = 20 AND (col2 IN ('x','y''s','z') OR col3 < 40) FETCH FIRST 5 ROWS ONLY;",
+                template.render(20, Arrays.asList("x", "y's", "z"), 40));
+    }
+
+    @Test
+    public void templateIsNotAffectedByBuilderChanges() throws SelectBuilderException {
+        SelectBuilder builder = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false);
+        SelectTemplate template = builder.compile(false);
+        builder.filter("col2", EFilterCondition.EQUAL, 20, false);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 = 30", template.render(30));
+    }
+
+    @Test
+    public void templateIsNotAffectedByContextChanges() throws SelectBuilderException {
+        SelectTemplate template = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.IN, Arrays.asList(1, 2, 3), false)
+                .compile();
+        context.setInListPadding(EInListPadding.REPEAT_LAST);
+
+        assertEquals("SELECT * FROM sample_table WHERE col1 IN (?,?,?);", template.bind(Arrays.asList(4, 5, 6)).getSql());
+    }
+
+    @Test
+    public void wrongParameterCount() throws SelectBuilderException {
+        SelectTemplate template = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .compile();
+
+        assertThrows(SelectBuilderException.class, () -> template.render(1, 2));
+    }
+
+    @Test
+    public void bindNewValues() throws SelectBuilderException {
+        SelectTemplate template = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, Arrays.asList("a", "b"), true)
+                .compile();
+
+        BoundStatement statement = template.bind(EPlaceholderStyle.NUMBERED, 20, Arrays.asList("x", "y", "z"));
+        assertEquals("SELECT * FROM sample_table WHERE col1 = $1 AND col2 IN ($2,$3,$4);", statement.getSql());
+        assertEquals(List.of(20, "x", "y", "z"), statement.getParameters());
+    }
+}
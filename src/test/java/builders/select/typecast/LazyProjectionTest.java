@@ -0,0 +1,79 @@
+package builders.select.typecast;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.datatypes.Custom;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+import zweaver.sqlbuilder.projection.ColumnSpec;
+import zweaver.sqlbuilder.projection.ICastPolicy;
+import zweaver.sqlbuilder.projection.Projections;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyProjectionTest {
+    @Test
+    public void rendersGeneratedSpecsOnEveryBuild() throws SelectBuilderException {
+        SQLContext ctx = new SQLContext(EDialect.POSTGRES);
+        AtomicInteger reads = new AtomicInteger();
+        SelectBuilder builder = new SelectBuilder(ctx)
+                .select("id")
+                .select(Projections.generated(() -> {
+                    reads.incrementAndGet();
+                    return IntStream.range(0, 3).mapToObj(i -> new ColumnSpec("col" + i, new Varchar(ctx, 10), "c" + i));
+                }))
+                .fromTable("wide_table");
+
+        assertEquals(0, reads.get());
+        assertEquals("SELECT id,col0::VARCHAR(10) AS c0,col1::VARCHAR(10) AS c1,col2::VARCHAR(10) AS c2 FROM wide_table;", builder.build(true));
+        assertEquals(1, reads.get());
+
+        ctx.setSqlDialect(EDialect.MSSQL);
+        assertEquals("SELECT TOP 5 id,CAST(col0 AS VARCHAR(10)) AS c0,CAST(col1 AS VARCHAR(10)) AS c1,CAST(col2 AS VARCHAR(10)) AS c2 FROM wide_table;",
+                builder.limit(5).build(true));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void selectsSchemaWithCastPolicy() throws SelectBuilderException, TableColumnException {
+        SQLContext ctx = new SQLContext(EDialect.STANDARD);
+        List<TableColumn> schema = List.of(
+                new TableColumn("id", new Custom("BIGINT", false), false),
+                new TableColumn("name", new Varchar(ctx, 50), true));
+
+        assertEquals("SELECT CAST(id AS BIGINT) AS id,CAST(name AS VARCHAR(50)) AS name FROM people;",
+                new SelectBuilder(ctx).selectSchema(schema, ICastPolicy.declaredType()).fromTable("people").build(true));
+        assertEquals("SELECT id,name FROM people;",
+                new SelectBuilder(ctx).selectSchema(schema, ICastPolicy.none()).fromTable("people").build(true));
+        assertEquals("SELECT CAST(id AS VARCHAR) AS id,name FROM people;",
+                new SelectBuilder(ctx).selectSchema(schema, column -> column.getDataType().isTextType() ? null : new Varchar(ctx)).fromTable("people").build(true));
+    }
+
+    @Test
+    public void lazyAndPlainColumnsShareFingerprint() {
+        SQLContext ctx = new SQLContext(EDialect.STANDARD);
+        SelectBuilder plain = new SelectBuilder(ctx).select(List.of("a", "b")).fromTable("t");
+        SelectBuilder lazy = new SelectBuilder(ctx)
+                .select(Projections.lazy(List.of(new ColumnSpec("a"))))
+                .select("b")
+                .fromTable("t");
+        assertEquals(plain.fingerprintHash(), lazy.fingerprintHash());
+        assertEquals(List.of("a", "b"), lazy.toQuery().getColumnNames());
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void rejectsEmptyLazyProjection() throws SelectBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select(Projections.lazy(List.of()))
+                .fromTable("t")
+                .build(true);
+    }
+}
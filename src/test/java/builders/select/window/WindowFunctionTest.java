@@ -0,0 +1,138 @@
+package builders.select.window;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.WindowFunction;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.WindowFunctionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.enums.EWindowFunction;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.BoundStatement;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class WindowFunctionTest {
+    @Test
+    public void rendersRankingAndOffsetFunctions() {
+        assertEquals("RANK() OVER (PARTITION BY game ORDER BY score DESC)",
+                new WindowFunctionBuilder(EWindowFunction.RANK).partitionBy("game").orderBy("score", ESortOrder.DESC).build());
+        assertEquals("LAG(score,2) OVER (ORDER BY day ASC)",
+                new WindowFunctionBuilder(EWindowFunction.LAG, "score").offset(2).orderBy("day").build());
+        assertEquals("LEAD(score) OVER (ORDER BY day ASC)",
+                new WindowFunctionBuilder(EWindowFunction.LEAD, "score").orderBy("day").build());
+        assertEquals("COUNT(*) OVER ()", new WindowFunctionBuilder(EWindowFunction.COUNT, "*").build());
+    }
+
+    @Test
+    public void rendersFrames() throws SelectBuilderException {
+        String query = new SelectBuilder(new SQLContext(EDialect.POSTGRES))
+                .select(List.of("account", "day"))
+                .selectWindow(new WindowFunctionBuilder(EWindowFunction.SUM, "amount")
+                        .partitionBy("account")
+                        .orderBy("day")
+                        .rowsBetween(WindowFunction.UNBOUNDED_PRECEDING, WindowFunction.CURRENT_ROW), "balance")
+                .selectWindow(new WindowFunctionBuilder(EWindowFunction.AVG, "amount")
+                        .orderBy("day")
+                        .rowsBetween(-6, 0), "weekly_avg")
+                .selectWindow(new WindowFunctionBuilder(EWindowFunction.MAX, "amount")
+                        .orderBy("day")
+                        .rangeBetween(WindowFunction.CURRENT_ROW, WindowFunction.UNBOUNDED_FOLLOWING), null)
+                .fromTable("transactions")
+                .build(true);
+        assertEquals("SELECT account,day,"
+                + "SUM(amount) OVER (PARTITION BY account ORDER BY day ASC ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) AS balance,"
+                + "AVG(amount) OVER (ORDER BY day ASC ROWS BETWEEN 6 PRECEDING AND CURRENT ROW) AS weekly_avg,"
+                + "MAX(amount) OVER (ORDER BY day ASC RANGE BETWEEN CURRENT ROW AND UNBOUNDED FOLLOWING)"
+                + " FROM transactions;", query);
+    }
+
+    @Test
+    public void buildsTopNPerGroup() throws SelectBuilderException, CTEBuilderException {
+        String query = new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select(List.of("game", "player", "score"))
+                .fromTable("scores")
+                .filter("season", EFilterCondition.EQUAL, 7, false)
+                .orderBy("score", ESortOrder.DESC)
+                .topNPerGroup(List.of("game"), 3)
+                .build();
+        assertEquals("WITH ranked AS ( SELECT game,player,score,ROW_NUMBER() OVER (PARTITION BY game ORDER BY score DESC) AS row_num"
+                + " FROM scores WHERE season = 7 ) SELECT * FROM ranked WHERE row_num <= 3 ORDER BY game ASC,row_num ASC;", query);
+    }
+
+    @Test
+    public void bindsTopNValues() throws SelectBuilderException, CTEBuilderException {
+        BoundStatement statement = new SelectBuilder(new SQLContext(EDialect.MSSQL))
+                .select(List.of("game", "player", "score"))
+                .fromTable("scores")
+                .filter("season", EFilterCondition.EQUAL, 7, false)
+                .orderBy("score", ESortOrder.DESC)
+                .topNPerGroup(List.of("game"), 10, "position")
+                .buildParameterized();
+        assertEquals(Arrays.asList(7, 10), statement.getParameters());
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void topNPerGroupNeedsOrderBy() throws SelectBuilderException, CTEBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .selectAll()
+                .fromTable("scores")
+                .topNPerGroup(List.of("game"), 3);
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void topNPerGroupRejectsLimits() throws SelectBuilderException, CTEBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select(List.of("game", "player", "score"))
+                .fromTable("scores")
+                .filter("season", EFilterCondition.EQUAL, 7, false)
+                .orderBy("score", ESortOrder.DESC)
+                .limit(10)
+                .topNPerGroup(List.of("game"), 3);
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void topNPerGroupRejectsQualifiedPartitionColumns() throws SelectBuilderException, CTEBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select(List.of("t.game", "t.player", "t.score"))
+                .fromTable("scores t")
+                .orderBy("t.score", ESortOrder.DESC)
+                .topNPerGroup(List.of("t.game"), 3);
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void topNPerGroupRejectsUnprojectedPartitionColumns() throws SelectBuilderException, CTEBuilderException {
+        new SelectBuilder(new SQLContext(EDialect.STANDARD))
+                .select(List.of("player", "score"))
+                .fromTable("scores")
+                .orderBy("score", ESortOrder.DESC)
+                .topNPerGroup(List.of("game"), 3);
+    }
+
+    @Test
+    public void mssqlRejectsRangeOffsets() throws SelectBuilderException {
+        SelectBuilder builder = new SelectBuilder(new SQLContext(EDialect.MSSQL))
+                .select("day")
+                .selectWindow(new WindowFunctionBuilder(EWindowFunction.AVG, "amount")
+                        .orderBy("day")
+                        .rangeBetween(-7, WindowFunction.CURRENT_ROW), "weekly")
+                .fromTable("transactions");
+        assertThrows(SelectBuilderException.class, () -> builder.build(true));
+
+        assertEquals("SELECT day,AVG(amount) OVER (ORDER BY day ASC ROWS BETWEEN 7 PRECEDING AND CURRENT ROW) AS weekly FROM transactions;",
+                new SelectBuilder(new SQLContext(EDialect.MSSQL))
+                        .select("day")
+                        .selectWindow(new WindowFunctionBuilder(EWindowFunction.AVG, "amount")
+                                .orderBy("day")
+                                .rowsBetween(-7, WindowFunction.CURRENT_ROW), "weekly")
+                        .fromTable("transactions")
+                        .build(true));
+    }
+}
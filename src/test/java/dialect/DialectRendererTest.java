@@ -0,0 +1,44 @@
+package dialect;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.dialect.DialectRenderers;
+import zweaver.sqlbuilder.dialect.PostgresDialectRenderer;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.render.SQLWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class DialectRendererTest {
+    // e.g., an in-house warehouse speaking Postgres with its own row limit syntax
+    private static final class WarehouseDialectRenderer extends PostgresDialectRenderer {
+        @Override
+        public void appendLimit(SQLWriter writer, int limitCount, int offsetCount, boolean hasOrderBy) {
+            if (limitCount > 0)
+                writer.append(" SAMPLE ").append(limitCount);
+        }
+    }
+
+    @Test
+    public void renderersAreSharedPerDialect() {
+        assertSame(new SQLContext(EDialect.MSSQL).getDialectRenderer(), new SQLContext(EDialect.MSSQL).getDialectRenderer());
+        assertSame(DialectRenderers.forDialect(EDialect.DB2), new SQLContext(EDialect.DB2).getDialectRenderer());
+    }
+
+    @Test
+    public void customDialect() throws SelectBuilderException {
+        SQLContext context = new SQLContext(new WarehouseDialectRenderer());
+        String query = new SelectBuilder(context)
+                .selectAndCast("col1", new Varchar(context, 10))
+                .fromTable("sample_table")
+                .limit(5)
+                .build(true);
+
+        assertEquals(EDialect.POSTGRES, context.getSqlDialect());
+        assertEquals("SELECT col1::VARCHAR(10) FROM sample_table SAMPLE 5;", query);
+    }
+}
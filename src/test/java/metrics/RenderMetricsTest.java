@@ -0,0 +1,109 @@
+package metrics;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CreateTableBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.entities.TableColumn;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.EStatementType;
+import zweaver.sqlbuilder.exceptions.CreateTableBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.TableColumnException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.metrics.Histogram;
+import zweaver.sqlbuilder.metrics.HistogramRenderListener;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+import zweaver.sqlbuilder.render.RenderCache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RenderMetricsTest {
+    @Test
+    public void reportsEveryBuild() throws SelectBuilderException, UnionBuilderException, CreateTableBuilderException, TableColumnException {
+        List<RenderEvent> events = new ArrayList<>();
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setRenderCache(new RenderCache(10));
+        context.setRenderListener(events::add);
+
+        SelectBuilder query = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.IN, List.of(1, 2, 3), false)
+                .filter("col2", EFilterCondition.EQUAL, "a", true);
+        String sql = query.build(true);
+        query.build(true);
+        new UnionBuilder(query).unionAll(query).build();
+        new CreateTableBuilder(context, "sample_table", false).addColumn(new TableColumn("col1", new Integer(context), false)).build();
+
+        assertEquals(4, events.size());
+
+        RenderEvent select = events.get(0);
+        assertEquals(EStatementType.SELECT, select.getStatementType());
+        assertEquals(sql.length(), select.getLength());
+        assertEquals(2, select.getFilterCount());
+        assertEquals(3, select.getInListElementCount());
+        assertFalse(select.isCacheHit());
+        assertTrue(events.get(1).isCacheHit());
+
+        assertEquals(EStatementType.UNION, events.get(2).getStatementType());
+        assertEquals(4, events.get(2).getFilterCount());
+        assertEquals(6, events.get(2).getInListElementCount());
+        assertEquals(EStatementType.CREATE_TABLE, events.get(3).getStatementType());
+    }
+
+    @Test
+    public void histogramPercentilesAreWithinPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++)
+            histogram.record(value);
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000.5, histogram.getMean(), 0.001);
+        assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 * 0.04);
+        assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 * 0.04);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void histogramListenerDumpsBuiltStatementTypes() throws SelectBuilderException, IOException {
+        HistogramRenderListener listener = new HistogramRenderListener();
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setRenderListener(listener);
+
+        SelectBuilder query = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.IN, List.of(1, 2, 3), false);
+        for (int i = 0; i < 10; i++)
+            query.build(true);
+
+        assertEquals(10, listener.getLatencyNanos(EStatementType.SELECT).getCount());
+        assertEquals(3, listener.getInListElementCount(EStatementType.SELECT).getMax());
+        assertEquals(0, listener.getLatencyNanos(EStatementType.UNION).getCount());
+
+        StringBuilder dump = new StringBuilder();
+        listener.dump(dump);
+        assertTrue(dump.toString().startsWith("SELECT count=10 cacheHits=0 latencyUs p50="));
+        assertTrue(dump.toString().endsWith(" inList p99=3 max=3\n"));
+        assertEquals(1, dump.toString().lines().count());
+    }
+}
@@ -0,0 +1,122 @@
+package render;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.FilterGroupBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.enums.ESortOrder;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.metrics.RenderEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class FingerprintTest {
+    private static SelectBuilder query(SQLContext context, String name, List<Integer> ids) {
+        return new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("name", EFilterCondition.EQUAL, name, true)
+                .filter("id", EFilterCondition.IN, ids, false)
+                .limit(10);
+    }
+
+    @Test
+    public void fingerprintReplacesLiterals() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        FilterGroupBuilder group = new FilterGroupBuilder()
+                .anyOf()
+                .addFilter("col3", EFilterCondition.LIKE, "it's%", true)
+                .addFilter("col4", EFilterCondition.NOT_IN, List.of("a", "b"), true);
+
+        SelectBuilder builder = query(context, "bob", List.of(1, 2, 3))
+                .filter(group)
+                .orderBy("id", ESortOrder.ASC)
+                .seekAfter(List.of(100), false);
+        assertEquals("SELECT col1,col2 FROM sample_table WHERE (name = ? AND id IN (?) AND (col3 LIKE ? OR col4 NOT IN (?))) AND id > ? ORDER BY id ASC LIMIT 10",
+                builder.fingerprint());
+    }
+
+    @Test
+    public void fingerprintIgnoresOptimizedValues() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        // the optimizer turns these into "a = 1", "a IN (1,2)" and "1 = 0"
+        List<String> fingerprints = new ArrayList<>();
+        for (List<Integer> values : List.of(List.of(1), List.of(1, 2)))
+            fingerprints.add(new SelectBuilder(context).selectAll().fromTable("sample_table").optimizeFilters()
+                    .filter("a", EFilterCondition.IN, values, false).fingerprint());
+        fingerprints.add(new SelectBuilder(context).selectAll().fromTable("sample_table").optimizeFilters()
+                .filter("a", EFilterCondition.IN, List.of(1), false)
+                .filter("a", EFilterCondition.IN, List.of(2), false)
+                .fingerprint());
+
+        assertEquals("SELECT * FROM sample_table WHERE a IN (?)", fingerprints.get(0));
+        assertEquals(fingerprints.get(0), fingerprints.get(1));
+        assertEquals("SELECT * FROM sample_table WHERE a IN (?) AND a IN (?)", fingerprints.get(2));
+
+        assertEquals(new SelectBuilder(context).selectAll().fromTable("sample_table")
+                        .filter("a", EFilterCondition.IN, List.of(1, 2), false).fingerprintHash(),
+                new SelectBuilder(context).selectAll().fromTable("sample_table").optimizeFilters()
+                        .filter("a", EFilterCondition.IN, List.of(1, 2), false).fingerprintHash());
+    }
+
+    @Test
+    public void hashIgnoresValues() {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        long hash = query(context, "bob", List.of(1, 2, 3)).fingerprintHash();
+
+        assertEquals(hash, query(context, "alice", List.of(4)).fingerprintHash());
+        assertEquals(hash, query(new SQLContext(EDialect.POSTGRES), "it's", List.of()).fingerprintHash());
+        assertNotEquals(hash, query(context, "bob", List.of(1, 2, 3)).limit(20).fingerprintHash());
+        assertNotEquals(hash, query(context, "bob", List.of(1, 2, 3)).select("col3").fingerprintHash());
+        assertNotEquals(hash, query(new SQLContext(EDialect.MSSQL), "bob", List.of(1, 2, 3)).fingerprintHash());
+    }
+
+    @Test
+    public void hashIsStable() {
+        // the hash is used as a key outside of the JVM, so it must not change between runs or versions
+        long hash = query(new SQLContext(EDialect.STANDARD), "bob", List.of(1)).fingerprintHash();
+        assertEquals(0x6a8431c0d3af82fdL, hash);
+    }
+
+    @Test
+    public void fingerprintsCompositeStatements() throws UnionBuilderException, CTEBuilderException, SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        UnionBuilder union = new UnionBuilder(query(context, "a", List.of(1)))
+                .unionAll(query(context, "b", List.of(2, 3)));
+        assertEquals("SELECT col1,col2 FROM sample_table WHERE name = ? AND id IN (?) FETCH FIRST 10 ROWS ONLY UNION ALL "
+                + "SELECT col1,col2 FROM sample_table WHERE name = ? AND id IN (?) FETCH FIRST 10 ROWS ONLY;", union.fingerprint());
+        assertEquals(new UnionBuilder(query(context, "c", List.of(4))).unionAll(query(context, "d", List.of())).fingerprintHash(),
+                union.fingerprintHash());
+        assertNotEquals(new UnionBuilder(query(context, "a", List.of(1))).union(query(context, "b", List.of(2, 3))).fingerprintHash(),
+                union.fingerprintHash());
+
+        CTEBuilder cte = new CTEBuilder()
+                .addTable("matches", query(context, "a", List.of(1)))
+                .setQuery(new SelectBuilder(context).selectAll().fromTable("matches").filter("col1", EFilterCondition.GREATER_THAN, 5, false));
+        assertEquals("WITH matches AS ( SELECT col1,col2 FROM sample_table WHERE name = ? AND id IN (?) FETCH FIRST 10 ROWS ONLY ) "
+                + "SELECT * FROM matches WHERE col1 > ?;", cte.fingerprint());
+        assertNotEquals(union.fingerprintHash(), cte.fingerprintHash());
+    }
+
+    @Test
+    public void renderEventsCarryTheHash() throws SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        List<RenderEvent> events = new ArrayList<>();
+        context.setRenderListener(events::add);
+
+        query(context, "a", List.of(1)).build(true);
+        query(context, "b", List.of(2, 3)).build(true);
+        assertEquals(events.get(0).getFingerprintHash(), events.get(1).getFingerprintHash());
+        assertEquals(query(context, "c", List.of()).fingerprintHash(), events.get(0).getFingerprintHash());
+    }
+}
@@ -0,0 +1,90 @@
+package render;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.CTEBuilder;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.CTEBuilderException;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelRenderTest {
+    private static SelectBuilder branch(SQLContext context, String tableName, int value) {
+        return new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable(tableName)
+                .filter("col1", EFilterCondition.IN, List.of(value, value + 1, value + 2), false)
+                .filter("col2", EFilterCondition.LIKE, "it's " + value + "%", true);
+    }
+
+    private static UnionBuilder union(SQLContext context, int width) throws UnionBuilderException {
+        UnionBuilder union = new UnionBuilder(branch(context, "partition_0", 0));
+        for (int i = 1; i < width; i++)
+            union.unionAll(branch(context, "partition_" + i, i));
+        return union;
+    }
+
+    private static CTEBuilder cte(SQLContext context, int depth) throws CTEBuilderException {
+        CTEBuilder cte = new CTEBuilder();
+        for (int i = 0; i < depth; i++)
+            cte.addTable("stage_" + i, branch(context, i == 0 ? "source" : "stage_" + (i - 1), i));
+        return cte.setQuery(new SelectBuilder(context).selectAll().fromTable("stage_" + (depth - 1)));
+    }
+
+    @Test
+    public void parallelUnionMatchesSequentialRender() throws UnionBuilderException, SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.POSTGRES);
+        context.setParallelRenderThreshold(2);
+        for (int width : new int[] { 1, 2, 3, 101 })
+            assertEquals(union(new SQLContext(EDialect.POSTGRES), width).build(), union(context, width).build());
+    }
+
+    @Test
+    public void parallelCTEMatchesSequentialRender() throws CTEBuilderException, SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setParallelRenderThreshold(4);
+
+        assertEquals(cte(new SQLContext(EDialect.STANDARD), 20).build(), cte(context, 20).build());
+    }
+
+    @Test
+    public void usesTheGivenExecutorFromTheThreshold() throws UnionBuilderException, SelectBuilderException {
+        AtomicInteger submitted = new AtomicInteger();
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setParallelRenderThreshold(10);
+
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            context.setParallelRenderExecutor(task -> {
+                submitted.incrementAndGet();
+                virtualThreads.execute(task);
+            });
+
+            union(context, 9).build();
+            assertEquals(0, submitted.get());
+
+            String sql = union(context, 10).build();
+            assertEquals(union(new SQLContext(EDialect.STANDARD), 10).build(), sql);
+            assertEquals(Math.min(10, Runtime.getRuntime().availableProcessors()) - 1, submitted.get());
+        }
+    }
+
+    @Test(expected = SelectBuilderException.class)
+    public void rethrowsBranchErrors() throws UnionBuilderException, SelectBuilderException {
+        SQLContext context = new SQLContext(EDialect.STANDARD);
+        context.setParallelRenderThreshold(2);
+
+        UnionBuilder union = union(context, 50);
+        union.unionAll(new SelectBuilder(context).selectAll());
+        union.build();
+    }
+}
@@ -0,0 +1,271 @@
+package render;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.SQLContext;
+import zweaver.sqlbuilder.builders.SelectBuilder;
+import zweaver.sqlbuilder.builders.UnionBuilder;
+import zweaver.sqlbuilder.datatypes.Custom;
+import zweaver.sqlbuilder.datatypes.Integer;
+import zweaver.sqlbuilder.datatypes.Varchar;
+import zweaver.sqlbuilder.enums.EDialect;
+import zweaver.sqlbuilder.enums.EFilterCondition;
+import zweaver.sqlbuilder.exceptions.SelectBuilderException;
+import zweaver.sqlbuilder.exceptions.UnionBuilderException;
+import zweaver.sqlbuilder.render.RenderCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RenderCacheTest {
+    private final SQLContext context;
+
+    public RenderCacheTest() {
+        this.context = new SQLContext(EDialect.STANDARD);
+    }
+
+    @Test
+    public void structurallyEqualQueriesHitTheCache() throws SelectBuilderException {
+        RenderCache cache = new RenderCache(100);
+        context.setRenderCache(cache);
+
+        String first = new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        String second = new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        String other = new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 20, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+
+        assertSame(first, second);
+        assertEquals("SELECT col1,col2 FROM sample_table WHERE col1 = 20 AND col2 IN ('a','b') FETCH FIRST 10 ROWS ONLY;", other);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void keyIncludesDialectAndFinalStatement() throws SelectBuilderException {
+        RenderCache cache = new RenderCache(100);
+        SQLContext postgres = new SQLContext(EDialect.POSTGRES);
+        context.setRenderCache(cache);
+        postgres.setRenderCache(cache);
+
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(postgres)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 10, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(false);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws SelectBuilderException {
+        RenderCache cache = new RenderCache(1);
+        context.setRenderCache(cache);
+
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 2, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void skipsStatementsOverTheWeightLimit() throws SelectBuilderException {
+        int length = new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true).length();
+        RenderCache cache = new RenderCache(10, length - 1, null);
+        context.setRenderCache(cache);
+
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void expiredEntriesAreMisses() throws SelectBuilderException {
+        RenderCache cache = new RenderCache(10, Long.MAX_VALUE, Duration.ofNanos(1));
+        context.setRenderCache(cache);
+
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+        new SelectBuilder(context)
+                .select(List.of("col1", "col2"))
+                .fromTable("sample_table")
+                .filter("col1", EFilterCondition.EQUAL, 1, false)
+                .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                .limit(10)
+                .build(true);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void castColumnsHitTheCache() throws SelectBuilderException {
+        RenderCache cache = new RenderCache(100);
+        context.setRenderCache(cache);
+
+        String first = new SelectBuilder(context)
+                .selectAndCast("id", new Integer(context))
+                .selectAndCastWithAlias("name", "label", new Varchar(context, 20))
+                .selectAndCast("kind", new Custom("TEXT", true))
+                .fromTable("sample_table")
+                .build(true);
+        String second = new SelectBuilder(context)
+                .selectAndCast("id", new Integer(context))
+                .selectAndCastWithAlias("name", "label", new Varchar(context, 20))
+                .selectAndCast("kind", new Custom("TEXT", true))
+                .fromTable("sample_table")
+                .build(true);
+        new SelectBuilder(context)
+                .selectAndCast("id", new Integer(context))
+                .selectAndCastWithAlias("name", "label", new Varchar(context, 30))
+                .selectAndCast("kind", new Custom("TEXT", true))
+                .fromTable("sample_table")
+                .build(true);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void cachesUnions() throws SelectBuilderException, UnionBuilderException {
+        RenderCache cache = new RenderCache(10);
+        context.setRenderCache(cache);
+
+        String first = new UnionBuilder(new SelectBuilder(context)
+                        .select(List.of("col1", "col2"))
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, 1, false)
+                        .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                        .limit(10))
+                .unionAll(new SelectBuilder(context)
+                        .select(List.of("col1", "col2"))
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, 2, false)
+                        .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                        .limit(10))
+                .build();
+        String second = new UnionBuilder(new SelectBuilder(context)
+                        .select(List.of("col1", "col2"))
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, 1, false)
+                        .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                        .limit(10))
+                .unionAll(new SelectBuilder(context)
+                        .select(List.of("col1", "col2"))
+                        .fromTable("sample_table")
+                        .filter("col1", EFilterCondition.EQUAL, 2, false)
+                        .filter("col2", EFilterCondition.IN, List.of("a", "b"), true)
+                        .limit(10))
+                .build();
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void changingFilterListAfterFilterDoesNotChangeQuery() throws SelectBuilderException {
+        context.setRenderCache(new RenderCache(10));
+
+        List<java.lang.Integer> ids = new ArrayList<>(List.of(1, 2));
+        SelectBuilder builder = new SelectBuilder(context)
+                .selectAll()
+                .fromTable("sample_table")
+                .filter("id", EFilterCondition.IN, ids, false);
+        SelectBuilder frozen = new SelectBuilder(builder.freeze());
+        String compiled = builder.compile().render();
+        String first = frozen.build(true);
+        ids.add(3);
+
+        assertEquals("SELECT * FROM sample_table WHERE id IN (1,2);", first);
+        assertEquals(first, frozen.build(true));
+        assertEquals(first, new SelectBuilder(context).selectAll().fromTable("sample_table")
+                .filter("id", EFilterCondition.IN, List.of(1, 2), false).build(true));
+        assertEquals(compiled, builder.compile().render());
+        assertEquals("SELECT * FROM sample_table WHERE id IN (1,2,3);", new SelectBuilder(context).selectAll().fromTable("sample_table")
+                .filter("id", EFilterCondition.IN, ids, false).build(true));
+    }
+}
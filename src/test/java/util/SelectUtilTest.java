@@ -0,0 +1,61 @@
+package util;
+
+import org.junit.Test;
+import zweaver.sqlbuilder.render.SQLWriter;
+import zweaver.sqlbuilder.util.SelectUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SelectUtilTest {
+    @Test
+    public void sanitizeWithoutQuotes() {
+        String value = "no quotes here";
+        assertSame(value, SelectUtil.sanitizeQuotes(value));
+    }
+
+    @Test
+    public void sanitizeIsolatedQuotes() {
+        assertEquals("My st''ring with q''uotes", SelectUtil.sanitizeQuotes("My st'ring with q''uotes"));
+        assertEquals("''leading and trailing''", SelectUtil.sanitizeQuotes("'leading and trailing'"));
+        assertEquals("''", SelectUtil.sanitizeQuotes("'"));
+        assertEquals("''''", SelectUtil.sanitizeQuotes("'''"));
+        assertEquals("a''''b''c''", SelectUtil.sanitizeQuotes("a'''b''c'"));
+    }
+
+    @Test
+    public void sanitizeLongValue() {
+        StringBuilder value = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            value.append("chunk ").append(i).append(i % 3 == 0 ? "'" : "''");
+            expected.append("chunk ").append(i).append("''");
+        }
+        assertEquals(expected.toString(), SelectUtil.sanitizeQuotes(value.toString()));
+    }
+
+    @Test
+    public void appendSanitizedQuotes() {
+        SQLWriter writer = new SQLWriter();
+        SelectUtil.appendSanitizedQuotes(writer, "Sam's");
+        assertEquals("Sam''s", writer.toString());
+    }
+
+    @Test
+    public void pooledWritersDoNotShareBuffers() {
+        SQLWriter outer = SQLWriter.acquire();
+        outer.append("outer");
+
+        SQLWriter inner = SQLWriter.acquire();
+        inner.append("inner");
+        assertEquals("inner", inner.toString());
+        inner.release();
+
+        assertEquals("outer", outer.toString());
+        outer.release();
+
+        SQLWriter reused = SQLWriter.acquire();
+        assertEquals("", reused.toString());
+        reused.release();
+    }
+}
@@ -0,0 +1,18 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public final class TestIterators {
+    private TestIterators() { }
+
+    /**
+     * Drain a lazily rendering iterator, e.g., of split or batched statements.
+     */
+    public static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}